@@ -0,0 +1,21 @@
+/*
+ * ErrorExpr.java 
+ */
+
+// An expression the parser has given up on after a syntax error. The
+// checker gives it the error type, so that no errors cascade from it.
+
+package VC.ASTs;
+
+import VC.Scanner.SourcePosition;
+
+public class ErrorExpr extends Expr {
+
+  public ErrorExpr (SourcePosition thePosition) {
+    super (thePosition);
+  }
+
+  public Object visit(Visitor v, Object o) {
+    return v.visitErrorExpr(this, o);
+  }
+}
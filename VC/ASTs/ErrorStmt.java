@@ -0,0 +1,22 @@
+/*
+ * ErrorStmt.java      
+ */
+
+// A statement the parser has given up on after a syntax error. It
+// stands in for the tokens skipped so that checking can continue.
+
+package VC.ASTs;
+
+import VC.Scanner.SourcePosition;
+
+public class ErrorStmt extends Stmt {
+
+  public ErrorStmt(SourcePosition Position) {
+    super (Position);
+  }
+
+  public Object visit(Visitor v, Object o) {
+    return v.visitErrorStmt(this, o);
+  }
+
+}
@@ -8,6 +8,8 @@ public class ForStmt extends Stmt {
   public Expr E2;
   public Expr E3;
   public Stmt S;
+  // a parallel for, whose iterations may run concurrently
+  public boolean parallel = false;
 
   public ForStmt(Expr e1AST, Expr e2AST, Expr e3AST, Stmt sAST,
                                               SourcePosition Position) {
@@ -35,6 +35,7 @@ public interface Visitor {
   public abstract Object visitExprStmt(ExprStmt ast, Object o);
   public abstract Object visitEmptyCompStmt(EmptyCompStmt ast, Object o);
   public abstract Object visitEmptyStmt(EmptyStmt ast, Object o);
+  public abstract Object visitErrorStmt(ErrorStmt ast, Object o);
 
   // Expressions
   public abstract Object visitIntExpr(IntExpr ast, Object o);
@@ -50,6 +51,7 @@ public interface Visitor {
   public abstract Object visitCallExpr(CallExpr ast, Object o);
   public abstract Object visitAssignExpr(AssignExpr ast, Object o);
   public abstract Object visitEmptyExpr(EmptyExpr ast, Object o);
+  public abstract Object visitErrorExpr(ErrorExpr ast, Object o);
 
   // Literals and identifiers
   public abstract Object visitIntLiteral(IntLiteral ast, Object o);
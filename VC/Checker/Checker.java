@@ -1,5 +1,7 @@
 package VC.Checker;
 
+import java.util.HashSet;
+
 import VC.ASTs.AST;
 import VC.ASTs.Arg;
 import VC.ASTs.ArgList;
@@ -24,6 +26,8 @@ import VC.ASTs.EmptyExprList;
 import VC.ASTs.EmptyParaList;
 import VC.ASTs.EmptyStmt;
 import VC.ASTs.EmptyStmtList;
+import VC.ASTs.ErrorExpr;
+import VC.ASTs.ErrorStmt;
 import VC.ASTs.ErrorType;
 import VC.ASTs.Expr;
 import VC.ASTs.ExprList;
@@ -61,17 +65,23 @@ import VC.ASTs.Visitor;
 import VC.ASTs.VoidType;
 import VC.ASTs.WhileStmt;
 import VC.ErrorReporter;
+import VC.Optimiser.ASTWalker;
 import VC.Scanner.SourcePosition;
 import VC.StdEnvironment;
 
 public final class Checker
   implements Visitor
 {
-  private String[] errMesg = { "*0: main function is missing", "*1: return type of main is not int", "*2: identifier redeclared", "*3: identifier declared void", "*4: identifier declared void[]", "*5: identifier undeclared", "*6: incompatible type for =", "*7: invalid lvalue in assignment", "*8: incompatible type for return", "*9: incompatible type for this binary operator", "*10: incompatible type for this unary operator", "*11: attempt to use an array/fuction as a scalar", "*12: attempt to use a scalar/function as an array", "*13: wrong type for element in array initialiser", "*14: invalid initialiser: array initialiser for scalar", "*15: invalid initialiser: scalar initialiser for array", "*16: excess elements in array initialiser", "*17: array subscript is not an integer", "*18: array size missing", "*19: attempt to reference a scalar/array as a function", "*20: if conditional is not boolean", "*21: for conditional is not boolean", "*22: while conditional is not boolean", "*23: break must be in a while/for", "*24: continue must be in a while/for", "*25: too many actual parameters", "*26: too few actual parameters", "*27: wrong type for actual parameter", "*28: misc 1", "*29: misc 2", "*30: statement(s) not reached", "*31: missing return statement" };
+  private String[] errMesg = { "*0: main function is missing", "*1: return type of main is not int", "*2: identifier redeclared", "*3: identifier declared void", "*4: identifier declared void[]", "*5: identifier undeclared", "*6: incompatible type for =", "*7: invalid lvalue in assignment", "*8: incompatible type for return", "*9: incompatible type for this binary operator", "*10: incompatible type for this unary operator", "*11: attempt to use an array/fuction as a scalar", "*12: attempt to use a scalar/function as an array", "*13: wrong type for element in array initialiser", "*14: invalid initialiser: array initialiser for scalar", "*15: invalid initialiser: scalar initialiser for array", "*16: excess elements in array initialiser", "*17: array subscript is not an integer", "*18: array size missing", "*19: attempt to reference a scalar/array as a function", "*20: if conditional is not boolean", "*21: for conditional is not boolean", "*22: while conditional is not boolean", "*23: break must be in a while/for", "*24: continue must be in a while/for", "*25: too many actual parameters", "*26: too few actual parameters", "*27: wrong type for actual parameter", "*28: misc 1", "*29: misc 2", "*30: statement(s) not reached", "*31: missing return statement", "*32: parallel for must have the form for (i = e1; i < e2; i = i + 1)", "*33: parallel for assigns a variable declared outside its body", "*34: parallel for contains a break, return or call", "*35: parallel for iterations may access the same array element", "*36: parallel for writes an array that may be the same as another array it accesses", "*37: parallel for writes a boolean array packed by -packbool" };
   private SymbolTable idTable;
   private static SourcePosition dummyPos = new SourcePosition();
   private ErrorReporter reporter;
   private int whileLevel = 0;
+  // the undeclared names already reported in the function being checked,
+  // so that each is reported at its first use only
+  private HashSet<String> undeclared = new HashSet<String>();
+  // with -packbool, a parallel for may not write a boolean array
+  private boolean packingBooleans = false;
   
   public Checker(ErrorReporter paramErrorReporter)
   {
@@ -98,6 +108,13 @@ public final class Checker
     return paramExpr;
   }
   
+  private void reportUndeclared(Ident paramIdent, SourcePosition paramSourcePosition)
+  {
+    if (this.undeclared.add(paramIdent.spelling)) {
+      this.reporter.reportError(this.errMesg[5] + ": %", paramIdent.spelling, paramSourcePosition);
+    }
+  }
+  
   private void declareVariable(Ident paramIdent, Decl paramDecl)
   {
     IdEntry localIdEntry = this.idTable.retrieveOneLevel(paramIdent.spelling);
@@ -130,6 +147,32 @@ public final class Checker
     paramAST.visit(this, null);
   }
   
+  public void enablePackedBooleans()
+  {
+    this.packingBooleans = true;
+  }
+  
+  // Checks the parallel for loops of an AST read back by -r, which may
+  // have been checked without -packbool.
+  public void checkParallelFors(AST paramAST)
+  {
+    paramAST.visit(new ASTWalker()
+    {
+      public Object visitForStmt(ForStmt paramAnonForStmt, Object paramAnonObject)
+      {
+        if (paramAnonForStmt.parallel) {
+          newParallelForChecker().check(paramAnonForStmt);
+        }
+        return super.visitForStmt(paramAnonForStmt, paramAnonObject);
+      }
+    }, null);
+  }
+  
+  private ParallelForChecker newParallelForChecker()
+  {
+    return new ParallelForChecker(this.reporter, this.errMesg, this.packingBooleans);
+  }
+  
   public Object visitProgram(Program paramProgram, Object paramObject)
   {
     paramProgram.FL.visit(this, null);
@@ -185,6 +228,7 @@ public final class Checker
   
   public Object visitForStmt(ForStmt paramForStmt, Object paramObject)
   {
+    int i = this.reporter.numErrors;
     this.whileLevel += 1;
     paramForStmt.E1.visit(this, null);
     Type localType = (Type)paramForStmt.E2.visit(this, null);
@@ -194,6 +238,9 @@ public final class Checker
     paramForStmt.E3.visit(this, null);
     paramForStmt.S.visit(this, paramObject);
     this.whileLevel -= 1;
+    if ((paramForStmt.parallel) && (this.reporter.numErrors == i)) {
+      newParallelForChecker().check(paramForStmt);
+    }
     return null;
   }
   
@@ -256,6 +303,11 @@ public final class Checker
     return null;
   }
   
+  public Object visitErrorStmt(ErrorStmt paramErrorStmt, Object paramObject)
+  {
+    return null;
+  }
+  
   public Object visitEmptyStmtList(EmptyStmtList paramEmptyStmtList, Object paramObject)
   {
     return null;
@@ -382,7 +434,7 @@ public final class Checker
     Decl localDecl = (Decl)paramCallExpr.I.visit(this, null);
     if (localDecl == null)
     {
-      this.reporter.reportError(this.errMesg[5] + ": %", paramCallExpr.I.spelling, paramCallExpr.position);
+      reportUndeclared(paramCallExpr.I, paramCallExpr.position);
       paramCallExpr.type = StdEnvironment.errorType;
     }
     else if ((localDecl instanceof FuncDecl))
@@ -458,6 +510,12 @@ public final class Checker
     return paramEmptyExpr.type;
   }
   
+  public Object visitErrorExpr(ErrorExpr paramErrorExpr, Object paramObject)
+  {
+    paramErrorExpr.type = StdEnvironment.errorType;
+    return paramErrorExpr.type;
+  }
+  
   public Object visitBooleanExpr(BooleanExpr paramBooleanExpr, Object paramObject)
   {
     paramBooleanExpr.type = StdEnvironment.booleanType;
@@ -490,13 +548,14 @@ public final class Checker
   
   public Object visitFuncDecl(FuncDecl paramFuncDecl, Object paramObject)
   {
+    this.undeclared.clear();
     declareFunction(paramFuncDecl.I, paramFuncDecl);
     if ((paramFuncDecl.S.isEmptyCompStmt()) && 
       (!paramFuncDecl.T.equals(StdEnvironment.voidType))) {
       this.reporter.reportError(this.errMesg[31], "", paramFuncDecl.position);
     }
     paramFuncDecl.S.visit(this, paramFuncDecl);
-    
+    this.undeclared.clear();
     return null;
   }
   
@@ -763,7 +822,7 @@ public final class Checker
     paramSimpleVar.type = StdEnvironment.errorType;
     Decl localDecl = (Decl)paramSimpleVar.I.visit(this, null);
     if (localDecl == null) {
-      this.reporter.reportError(this.errMesg[5] + ": %", paramSimpleVar.I.spelling, paramSimpleVar.position);
+      reportUndeclared(paramSimpleVar.I, paramSimpleVar.position);
     } else if ((localDecl instanceof FuncDecl)) {
       this.reporter.reportError(this.errMesg[11] + ": %", paramSimpleVar.I.spelling, paramSimpleVar.I.position);
     } else {
@@ -815,5 +874,7 @@ public final class Checker
     StdEnvironment.putStringDecl = declareStdFunc(StdEnvironment.voidType, "putString", new ParaList(new ParaDecl(StdEnvironment.stringType, dummyI, dummyPos), new EmptyParaList(dummyPos), dummyPos));
     
     StdEnvironment.putLnDecl = declareStdFunc(StdEnvironment.voidType, "putLn", new EmptyParaList(dummyPos));
+    
+    StdEnvironment.flushDecl = declareStdFunc(StdEnvironment.voidType, "flushOutput", new EmptyParaList(dummyPos));
   }
 }
\ No newline at end of file
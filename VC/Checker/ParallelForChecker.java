@@ -0,0 +1,263 @@
+/*
+ * ParallelForChecker.java
+ */
+
+// Checks that the iterations of a parallel for may run concurrently.
+// A parallel for must have the form
+//
+//   parallel for (i = e1; i < e2; i = i + 1) S        (or i <= e2)
+//
+// where i is an int local variable or parameter and e2 has neither
+// side effects nor array elements (it is evaluated once only). S may
+// assign only the variables declared in S itself, may contain no 
+// break (except in a loop of its own), return or call, and the 
+// iterations must access disjoint elements of every array written
+// in S: all the subscripts of such an array must be the same
+// i, i + c or i - c for a constant c. An array parameter may refer to
+// the same array as another parameter or a global array, so S may
+// not both write an array and access another one when either of the
+// two is a parameter. With -packbool, S may not write a boolean array
+// at all: storing an element rewrites the whole long holding it, so
+// iterations writing neighbouring elements would lose updates.
+//
+// PRE: the parallel for has been checked by the Checker.
+
+package VC.Checker;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+
+import VC.ASTs.*;
+import VC.ErrorReporter;
+import VC.Optimiser.ASTWalker;
+
+final class ParallelForChecker extends ASTWalker {
+
+  private ErrorReporter reporter;
+  private String[] errMesg;
+  private boolean packingBooleans;
+
+  private Decl i;
+  // the variables declared in the body
+  private IdentityHashMap<Decl, Boolean> declared;
+  // the offset of the subscripts of each array written in the body
+  // from i, or null if a subscript is not of the form i + c, in the
+  // order of the writes (an AST node is equal only to itself)
+  private LinkedHashMap<Decl, Integer> writes;
+  private IdentityHashMap<Decl, Boolean> conflicts;
+  private boolean aliased;
+  private int loops;
+
+  ParallelForChecker(ErrorReporter reporter, String[] errMesg, boolean packingBooleans) {
+    this.reporter = reporter;
+    this.errMesg = errMesg;
+    this.packingBooleans = packingBooleans;
+  }
+
+  void check(ForStmt ast) {
+    i = inductionVariable(ast);
+    if (i == null) {
+      reporter.reportError(errMesg[32], "", ast.position);
+      return;
+    }
+
+    declared = new IdentityHashMap<Decl, Boolean>();
+    ast.S.visit(new ASTWalker() {
+      public Object visitLocalVarDecl(LocalVarDecl ast, Object o) {
+        declared.put(ast, Boolean.TRUE);
+        return null;
+      }
+    }, null);
+
+    // the written arrays first, then all the subscripts of each
+    writes = new LinkedHashMap<Decl, Integer>();
+    conflicts = new IdentityHashMap<Decl, Boolean>();
+    aliased = false;
+    loops = 0;
+    ast.S.visit(this, Boolean.TRUE);
+    if (packingBooleans)
+      for (Decl d : writes.keySet())
+        if (((ArrayType) d.T).T.isBooleanType())
+          reporter.reportError(errMesg[37] + ": %", d.I.spelling, ast.position);
+    ast.S.visit(this, Boolean.FALSE);
+  }
+
+  // The Object argument is TRUE when the writes are being collected.
+
+  public Object visitAssignExpr(AssignExpr ast, Object o) {
+    if (ast.E1 instanceof VarExpr) {
+      Decl d = decl(((VarExpr) ast.E1).V);
+      if (o == Boolean.TRUE && !declared.containsKey(d))
+        reporter.reportError(errMesg[33] + ": %", d.I.spelling, ast.position);
+    } else if (ast.E1 instanceof ArrayExpr) {
+      ArrayExpr target = (ArrayExpr) ast.E1;
+      Decl d = decl(target.V);
+      if (o == Boolean.TRUE && !declared.containsKey(d) && !writes.containsKey(d))
+        writes.put(d, offset(target.E));
+      else if (o == Boolean.FALSE)
+        access(target);
+      target.E.visit(this, o);
+    }
+    ast.E2.visit(this, o);
+    return null;
+  }
+
+  public Object visitArrayExpr(ArrayExpr ast, Object o) {
+    if (o == Boolean.FALSE)
+      access(ast);
+    ast.E.visit(this, o);
+    return null;
+  }
+
+  public Object visitCallExpr(CallExpr ast, Object o) {
+    if (o == Boolean.TRUE)
+      reporter.reportError(errMesg[34] + ": %", ast.I.spelling, ast.position);
+    return super.visitCallExpr(ast, o);
+  }
+
+  public Object visitReturnStmt(ReturnStmt ast, Object o) {
+    if (o == Boolean.TRUE)
+      reporter.reportError(errMesg[34] + ": %", "return", ast.position);
+    return super.visitReturnStmt(ast, o);
+  }
+
+  public Object visitBreakStmt(BreakStmt ast, Object o) {
+    if (o == Boolean.TRUE && loops == 0)
+      reporter.reportError(errMesg[34] + ": %", "break", ast.position);
+    return null;
+  }
+
+  public Object visitWhileStmt(WhileStmt ast, Object o) {
+    loops++;
+    super.visitWhileStmt(ast, o);
+    loops--;
+    return null;
+  }
+
+  public Object visitForStmt(ForStmt ast, Object o) {
+    loops++;
+    super.visitForStmt(ast, o);
+    loops--;
+    return null;
+  }
+
+  // An access to a written array must use the subscript of its writes,
+  // and may not be to a possible alias of another written array.
+  private void access(ArrayExpr ast) {
+    Decl d = decl(ast.V);
+    if (!aliased && !declared.containsKey(d))
+      for (Decl w : writes.keySet())
+        if (w != d && mayAlias(w, d)) {
+          aliased = true;
+          reporter.reportError(errMesg[36] + ": %", w.I.spelling + " and " + d.I.spelling,
+                               ast.position);
+          break;
+        }
+    if (!writes.containsKey(d) || conflicts.containsKey(d))
+      return;
+    Integer first = writes.get(d);
+    Integer offset = offset(ast.E);
+    if (first == null || offset == null || !first.equals(offset)) {
+      conflicts.put(d, Boolean.TRUE);
+      reporter.reportError(errMesg[35] + ": %", d.I.spelling, ast.position);
+    }
+  }
+
+  // Only a parameter may refer to an array declared elsewhere: another
+  // parameter or a global array. A local array is a fresh array.
+  private static boolean mayAlias(Decl a, Decl b) {
+    return (a instanceof ParaDecl && !(b instanceof LocalVarDecl))
+        || (b instanceof ParaDecl && !(a instanceof LocalVarDecl));
+  }
+
+  // the c of a subscript i + c, or null
+  private Integer offset(Expr e) {
+    if (variable(e) == i)
+      return 0;
+    if (!(e instanceof BinaryExpr))
+      return null;
+    BinaryExpr b = (BinaryExpr) e;
+    Integer c;
+    if (b.O.spelling.equals("i+") && variable(b.E1) == i && (c = constant(b.E2)) != null)
+      return c;
+    if (b.O.spelling.equals("i+") && variable(b.E2) == i && (c = constant(b.E1)) != null)
+      return c;
+    if (b.O.spelling.equals("i-") && variable(b.E1) == i && (c = constant(b.E2)) != null)
+      return -c;
+    return null;
+  }
+
+  private static Decl inductionVariable(ForStmt ast) {
+    if (!(ast.E1 instanceof AssignExpr && ast.E2 instanceof BinaryExpr
+          && ast.E3 instanceof AssignExpr))
+      return null;
+    Decl i = variable(((AssignExpr) ast.E1).E1);
+    if (i == null || !i.T.isIntType() || i instanceof GlobalVarDecl)
+      return null;
+
+    BinaryExpr test = (BinaryExpr) ast.E2;
+    if (!(test.O.spelling.equals("i<") || test.O.spelling.equals("i<="))
+        || variable(test.E1) != i || !isInvariant(test.E2, i))
+      return null;
+
+    AssignExpr next = (AssignExpr) ast.E3;
+    if (variable(next.E1) != i || !(next.E2 instanceof BinaryExpr))
+      return null;
+    BinaryExpr incr = (BinaryExpr) next.E2;
+    Integer step = constant(incr.E2);
+    if (!incr.O.spelling.equals("i+") || variable(incr.E1) != i
+        || step == null || step != 1)
+      return null;
+    return i;
+  }
+
+  // true if e reads neither i nor array elements and has no side effects
+  private static boolean isInvariant(Expr e, final Decl i) {
+    final boolean[] invariant = { true };
+    e.visit(new ASTWalker() {
+      public Object visitSimpleVar(SimpleVar ast, Object o) {
+        if (ast.I.decl == i)
+          invariant[0] = false;
+        return null;
+      }
+
+      public Object visitArrayExpr(ArrayExpr ast, Object o) {
+        invariant[0] = false;
+        return null;
+      }
+
+      public Object visitAssignExpr(AssignExpr ast, Object o) {
+        invariant[0] = false;
+        return null;
+      }
+
+      public Object visitCallExpr(CallExpr ast, Object o) {
+        invariant[0] = false;
+        return null;
+      }
+    }, null);
+    return invariant[0];
+  }
+
+  private static Decl variable(Expr e) {
+    if (e instanceof VarExpr)
+      return decl(((VarExpr) e).V);
+    return null;
+  }
+
+  private static Decl decl(Var v) {
+    return (Decl) ((SimpleVar) v).I.decl;
+  }
+
+  private static Integer constant(Expr e) {
+    if (e instanceof IntExpr) {
+      try {
+        return Integer.valueOf(((IntExpr) e).IL.spelling);
+      } catch (NumberFormatException ex) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+}
@@ -13,10 +13,17 @@
 package VC.CodeGen;
 
 import java.awt.print.Printable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 import VC.ASTs.*;
 import VC.ErrorReporter;
 import VC.StdEnvironment;
+import VC.IR.ControlFlowGraph;
+import VC.IR.IRBuilder;
+import VC.IR.IRLowering;
+import VC.IR.SSABuilder;
 
 public final class Emitter implements Visitor {
 
@@ -25,6 +32,68 @@ public final class Emitter implements Visitor {
   private String classname;
   private String outputFilename;
 
+  // translate functions through the SSA form of VC.IR
+  private boolean viaIR = false;
+
+  // Promotion of the globals used in loops into locals (see 
+  // PromotedGlobals.java) and the local variable index of each
+  private boolean promotingGlobals = false;
+  private PromotedGlobals promoted;
+  private IdentityHashMap<Decl, Integer> globalSlots;
+
+  // Splitting of huge methods (see Outliner.java)
+  private Outliner outliner;
+  private int fieldAddr;  // where the .field directives end
+  // the sizes of the top-level statements of the current function
+  private IdentityHashMap<Stmt, Integer> stmtSizes;
+  // the variables of the function being split and their static fields
+  private IdentityHashMap<Decl, String> staticLocals;
+  // the chunks of statements outlined and the chunk of each statement
+  private ArrayList<ArrayList<Stmt>> chunks;
+  private IdentityHashMap<Stmt, Integer> chunkOf;
+  private String splitName;
+
+  // Strength reduction of multiplications and divisions by constants
+  // and of the products of induction variables (see 
+  // InductionVariables.java) and the local variable index of each
+  private boolean reducingStrength = false;
+  private IdentityHashMap<Decl, HashMap<Integer, Integer>> productSlots =
+      new IdentityHashMap<Decl, HashMap<Integer, Integer>>();
+
+  // Local value numbering (see ValueNumbering.java) of the method being
+  // generated and the local variable index of each value kept
+  private boolean numberingValues = false;
+  private ValueNumbering valueNumbers;
+  private IdentityHashMap<Expr, Integer> valueSlots;
+
+  // Boolean arrays packed 64 elements to a long (-packbool) and the
+  // local variables holding the index and the value of an element
+  // being stored in the frame of the current method
+  private boolean packingBooleans = false;
+  private Frame bitFrame;
+  private int bitIndexSlot, bitValueSlot;
+
+  // Loops rotated to test their conditions at the bottom (-O) and the
+  // local variable index of each variable copied into a local variable
+  // during a loop (see LoopLocals.java)
+  private boolean rotatingLoops = false;
+  private IdentityHashMap<Decl, Integer> loopSlots = new IdentityHashMap<Decl, Integer>();
+
+  // Parallel for loops (see ParallelLoop.java): the name of the current
+  // function, the loops whose bodies are generated after it and the
+  // local variable index of each variable of the body being generated
+  // that is passed to it
+  private String funcName;
+  private ArrayList<ParallelLoop> parallelLoops;
+  private IdentityHashMap<Decl, Integer> capturedSlots;
+
+  // An array initialiser with at least this many constant elements is
+  // packed into string constants decoded by VC.lang.System at run time
+  private final static int MIN_PACKED_INIT = 16;
+
+  // marks a value kept by value numbering while it is being evaluated
+  private final static Integer DEFINING = Integer.valueOf(-1);
+
   public Emitter(String inputFilename, ErrorReporter reporter) {
     this.inputFilename = inputFilename;
     errorReporter = reporter;
@@ -37,6 +106,30 @@ public final class Emitter implements Visitor {
     
   }
 
+  public void enableIR() {
+    viaIR = true;
+  }
+
+  public void enableGlobalPromotion() {
+    promotingGlobals = true;
+  }
+
+  public void enableStrengthReduction() {
+    reducingStrength = true;
+  }
+
+  public void enableValueNumbering() {
+    numberingValues = true;
+  }
+
+  public void enableLoopRotation() {
+    rotatingLoops = true;
+  }
+
+  public void enablePackedBooleans() {
+    packingBooleans = true;
+  }
+
   // PRE: ast must be a Program node
 
   public final void gen(AST ast) {
@@ -68,7 +161,7 @@ public final class Emitter implements Visitor {
         
             if( vAST.T.isArrayType() ){
 //              emit(JVM.STATIC_FIELD, vAST.I.spelling, VCtoJavaType( ((ArrayType)vAST.T).T ));
-                emit(JVM.STATIC_FIELD, vAST.I.spelling, ((ArrayType)vAST.T).toString()  );
+                emit(JVM.STATIC_FIELD, vAST.I.spelling, fieldType(vAST.T)  );
             }
             else{
                 emit(JVM.STATIC_FIELD, vAST.I.spelling, VCtoJavaType(vAST.T));
@@ -77,10 +170,12 @@ public final class Emitter implements Visitor {
         }
         list = dlAST.DL;
     }
+    fieldAddr = JVM.nextInstAddr;
     emit("");
 
     // (2) Generate <clinit> for global variables (assumed to be static)
     emit("; standard class static initializer ");
+    int start = JVM.nextInstAddr;
     emit(JVM.METHOD_START, "static <clinit>()V");
     emit("");
 
@@ -98,11 +193,7 @@ public final class Emitter implements Visitor {
                     // deal with array-related initialization
                     ArrayType arrayType = (ArrayType)vAST.T;
                     Type type = arrayType.T;
-                    int arraySize = Integer.parseInt( ((IntExpr)arrayType.E).IL.spelling );
-                    
-                    emitICONST( arraySize );
-                    emit(JVM.NEWARRAY, getTypeString(type) );
-                    frame.push();
+                    emitNewArray( arrayType );
                     
                     vAST.E.visit(this, frame);  // go to visitInitExpr 
                 }
@@ -117,11 +208,7 @@ public final class Emitter implements Visitor {
                     // deal with array-related initialization
                     ArrayType arrayType = (ArrayType)vAST.T;
                     Type type = arrayType.T;
-                    int arraySize = Integer.parseInt( ((IntExpr)arrayType.E).IL.spelling );
-                    
-                    emitICONST( arraySize );
-                    emit(JVM.NEWARRAY, getTypeString(type) );
-                    // frame.push();
+                    emitNewArray( arrayType );
                 } 
                 else if (vAST.T.equals(StdEnvironment.floatType)){
                     emit(JVM.FCONST_0);
@@ -129,10 +216,8 @@ public final class Emitter implements Visitor {
                 else{
                     emit(JVM.ICONST_0);
                 }
-                frame.push();
             }
-            emitPUTSTATIC(VCtoJavaType(vAST.T), vAST.I.spelling); 
-            frame.pop();
+            emitPUTSTATIC(fieldType(vAST.T), vAST.I.spelling); 
         } 
         list = dlAST.DL;
     }
@@ -141,7 +226,7 @@ public final class Emitter implements Visitor {
     emit("; set limits used by this method");
     emit(JVM.LIMIT, "locals", frame.getNewIndex());
 
-    emit(JVM.LIMIT, "stack", frame.getMaximumStackSize());
+    emit(JVM.LIMIT, "stack", StackAnalyser.maxStack(start, JVM.nextInstAddr));
     emit(JVM.RETURN);
     emit(JVM.METHOD_END, "method");
 
@@ -158,6 +243,7 @@ public final class Emitter implements Visitor {
     emit(JVM.RETURN);
     emit(JVM.METHOD_END, "method");
 
+    outliner = new Outliner(ast);
     return ast.FL.visit(this, o);
   }
   
@@ -192,10 +278,10 @@ public final class Emitter implements Visitor {
 //      String nextLabel = ""; //if no else branch, the label should not incremented by 1
 //      String nextLabel = frame.getNewLabel(); 
       
+      numberExpr( ast.E );
       ast.E.visit(this, o);
       
       emit( JVM.IFEQ, falseLabel);  //go to false
-      frame.pop();                  //pop the last operator
       
       ast.S1.visit(this, o);
       
@@ -227,16 +313,33 @@ public final class Emitter implements Visitor {
       frame.conStack.push( iterLabel );
       frame.brkStack.push( skipLabel );  
       
-      emit( iterLabel + ":" );
-      ast.E.visit(this, o);
+      //                          goto L1     (with -O)
+      // L1:                      L2:
+      //     [[E]]                   [[S]]
+      //     ifeq L3              L1:
+      //     [[S]]                   [[E]]
+      //     goto L1                 ifne L2
+      // L3:                      L3:
       
-      emit( JVM.IFEQ, skipLabel);  //go out the while loop
-      frame.pop();
-      
-      ast.S.visit(this, o);
-      emit( JVM.GOTO, iterLabel );
+      ArrayList<Decl> copied = emitLoopLocals( ast, frame );
+      String bodyLabel = frame.getNewLabel();
+      if( rotatingLoops ){
+          emit( JVM.GOTO, iterLabel );
+          emit( bodyLabel + ":" );
+          ast.S.visit(this, o);
+      }
+      emit( iterLabel + ":" );
+      numberExpr( ast.E );
+      if( rotatingLoops )
+          emitCondJump( ast.E, true, bodyLabel, frame );
+      else {
+          emitCondJump( ast.E, skipLabel, frame );  //go out the while loop
+          ast.S.visit(this, o);
+          emit( JVM.GOTO, iterLabel );
+      }
       
       emit( skipLabel + ":" );
+      emitLoopLocalsBack( copied );
       // already jump out the while loop
       
       frame.conStack.pop();
@@ -250,6 +353,10 @@ public final class Emitter implements Visitor {
   
   public Object visitForStmt(ForStmt ast, Object o) {
       Frame frame = (Frame) o;
+      if( ast.parallel ){
+          emitParallelFor( ast, frame );
+          return null;
+      }
       String iterLabel = frame.getNewLabel();
       String additionalLabel = frame.getNewLabel(); //ADDED
       String skipLabel = frame.getNewLabel();
@@ -261,36 +368,58 @@ public final class Emitter implements Visitor {
       frame.conStack.push( additionalLabel );
       frame.brkStack.push( skipLabel );  
       
-      //     [[E1]]
-      // L1:
-      //     [[E2]]
-      //     ifeq L3
-      //     [[S]]   //if it is continue, should go to L2 anyway
-      //     goto L2
-      // L2:            ADDED  
-      //     [[E3]]
-      //     goto L1
-      // L3:
+      //     [[E1]]                  [[E1]]
+      // L1:                         goto L4     (with -O)
+      //     [[E2]]               L1:
+      //     ifeq L3                 [[S]]
+      //     [[S]]                L2:
+      // L2:                         [[E3]]
+      //     [[E3]]               L4:
+      //     goto L1                 [[E2]]
+      // L3:                         ifne L1
+      //                          L3:
+      // (continue goes to L2)
       
       ast.E1.visit(this, o);       // iteration initialization
-      emit( iterLabel + ":" );
+      ArrayList<Decl> copied = emitLoopLocals( ast, frame );
+      InductionVariables iv = null;
+      if( reducingStrength ){
+          iv = new InductionVariables( ast );
+          if( iv.isEmpty() || (staticLocals != null && staticLocals.containsKey(iv.variable)
+                               && !loopSlots.containsKey(iv.variable)) )
+              iv = null;
+          else
+              emitReducedProducts( iv, frame );
+      }
       
-      if( ast.E2 instanceof EmptyExpr ){
-          emit( JVM.ICONST_1 ); 
-      }else{
-          ast.E2.visit(this, o);
+      // an empty condition is always true
+      boolean tested = !(ast.E2 instanceof EmptyExpr);
+      String testLabel = frame.getNewLabel();
+      if( rotatingLoops && tested )
+          emit( JVM.GOTO, testLabel );
+      emit( iterLabel + ":" );
+      if( !rotatingLoops && tested ){
+          numberExpr( ast.E2 );
+          emitCondJump( ast.E2, skipLabel, frame );  //go out the for loop
       }
       
-      emit( JVM.IFEQ, skipLabel);  //go out the for loop
-      frame.pop();
       ast.S.visit(this, o);
-      emit( JVM.GOTO, additionalLabel );
       
       emit( additionalLabel + ":" );
       ast.E3.visit(this, o);
-      emit( JVM.GOTO, iterLabel );
+      if( iv != null )
+          emitStepReducedProducts( iv, frame );
+      if( rotatingLoops && tested ){
+          emit( testLabel + ":" );
+          numberExpr( ast.E2 );
+          emitCondJump( ast.E2, true, iterLabel, frame );
+      } else
+          emit( JVM.GOTO, iterLabel );
       
       emit( skipLabel + ":" );
+      if( iv != null )
+          productSlots.remove( iv.variable );
+      emitLoopLocalsBack( copied );
       
       frame.conStack.pop();
       frame.brkStack.pop();  
@@ -301,6 +430,58 @@ public final class Emitter implements Visitor {
       return null;
   }
   
+  // Generates a parallel for loop (see ParallelLoop.java) as
+  //
+  //     [[e1]] into lo and [[e2]] into hi
+  //     VC.lang.Parallel.forRange(this, "f$loop$k", {captured}, lo, hi)
+  //     i = max(lo, hi)
+  //
+  // with its body generated as the method f$loop$k after f.
+  private void emitParallelFor(ForStmt ast, Frame frame) {
+      ParallelLoop loop = new ParallelLoop( ast, funcName + "$loop$" + parallelLoops.size() );
+      parallelLoops.add( loop );
+      // the body reads the globals from their static fields
+      emitWriteBackGlobals();
+      
+      int lo = frame.getNewIndex();
+      int hi = frame.getNewIndex();
+      ((AssignExpr) ast.E1).E2.visit(this, frame);
+      emitStore( "int", lo );
+      loop.bound.visit(this, frame);
+      if( loop.inclusive ){
+          emit( JVM.ICONST_1 );
+          emit( JVM.IADD );
+      }
+      emitStore( "int", hi );
+      
+      emit( frame.isMain() ? JVM.ALOAD_1 : JVM.ALOAD_0 );
+      emit( JVM.LDC, "\"" + loop.name + "\"" );
+      emitICONST( loop.captured.size() );
+      emit( JVM.ANEWARRAY, "java/lang/Object" );
+      for( int k = 0; k < loop.captured.size(); k++ ){
+          Decl decl = loop.captured.get(k);
+          emit( JVM.DUP );
+          emitICONST( k );
+          emitLoadVar( decl );
+          if( decl.T.isIntType() )
+              emit( JVM.INVOKESTATIC, "java/lang/Integer/valueOf(I)Ljava/lang/Integer;" );
+          else if( decl.T.isFloatType() )
+              emit( JVM.INVOKESTATIC, "java/lang/Float/valueOf(F)Ljava/lang/Float;" );
+          else if( decl.T.isBooleanType() )
+              emit( JVM.INVOKESTATIC, "java/lang/Boolean/valueOf(Z)Ljava/lang/Boolean;" );
+          emit( JVM.AASTORE );
+      }
+      emitLoad( "int", lo );
+      emitLoad( "int", hi );
+      emit( JVM.INVOKESTATIC, "VC/lang/Parallel/forRange(Ljava/lang/Object;Ljava/lang/String;[Ljava/lang/Object;II)V" );
+      
+      // i is left as the sequential loop would leave it
+      emitLoad( "int", lo );
+      emitLoad( "int", hi );
+      emit( JVM.INVOKESTATIC, "java/lang/Math/max(II)I" );
+      emitStoreVar( loop.variable );
+  }
+  
   public Object visitBreakStmt(BreakStmt ast, Object o){
       Frame frame = (Frame) o;
       String skipLabel = frame.brkStack.peek();
@@ -331,18 +512,34 @@ public final class Emitter implements Visitor {
         // Generate code for the initialiser vc$ = new classname();
         emit(JVM.NEW, classname);
         emit(JVM.DUP);
-        frame.push(2);
         emit("invokenonvirtual", classname + "/<init>()V");
-        frame.pop();
         emit(JVM.ASTORE_1);
-        frame.pop();
       } else {
         emit(JVM.VAR, "0 is this L" + classname + "; from " + (String) frame.scopeStart.peek() + " to " +  (String) frame.scopeEnd.peek());
         ((FuncDecl) ast.parent).PL.visit(this, o);
+        if (staticLocals != null) {
+          // copy the parameters into their static fields
+          List pl = ((FuncDecl) ast.parent).PL;
+          while (!pl.isEmpty()) {
+            ParaDecl p = ((ParaList) pl).P;
+            emitLoad(kindOf(p.T), p.index);
+            emitStoreVar(p);
+            pl = ((ParaList) pl).PL;
+          }
+        }
       }
+      if (promoted != null && !promoted.isEmpty()) {
+        globalSlots = new IdentityHashMap<Decl, Integer>();
+        for (GlobalVarDecl g : promoted.globals)
+          globalSlots.put(g, frame.getNewIndex());
+        emitReloadGlobals(true);
+      }
+      ast.DL.visit(this, o);
+      emitBodyStmts(ast.SL, frame);
+    } else {
+      ast.DL.visit(this, o);
+      ast.SL.visit(this, o);
     }
-    ast.DL.visit(this, o);
-    ast.SL.visit(this, o);
     emit(scopeEnd + ":");
 
     frame.scopeStart.pop();
@@ -351,6 +548,26 @@ public final class Emitter implements Visitor {
     return null;
   }
 
+  // Generates the top-level statements of a function body. The size of
+  // each statement is recorded unless the function is being split, in
+  // which case the outlined statements are replaced by calls.
+  private void emitBodyStmts(List sl, Frame frame) {
+    while (!sl.isEmpty()) {
+      StmtList l = (StmtList) sl;
+      Integer k = (chunkOf == null) ? null : chunkOf.get(l.S);
+      if (k == null) {
+        int addr = JVM.nextInstAddr;
+        l.S.visit(this, frame);
+        if (chunkOf == null)
+          stmtSizes.put(l.S, JVM.byteSize(addr, JVM.nextInstAddr));
+      } else if (chunks.get(k).get(0) == l.S) {
+        emit(frame.isMain() ? JVM.ALOAD_1 : JVM.ALOAD_0);
+        emit(JVM.INVOKEVIRTUAL, classname + "/" + chunkName(k) + "()V");
+      }
+      sl = l.SL;
+    }
+  }
+
   public Object visitReturnStmt(ReturnStmt ast, Object o) {
     Frame frame = (Frame)o;
 /*
@@ -361,28 +578,29 @@ public final class Emitter implements Visitor {
 */
 
       if (frame.isMain())  {
+          emitWriteBackGlobals();
           emit(JVM.RETURN);
           return null;
       }
 
       // Your other code goes here
+      numberExpr( ast.E );
       ast.E.visit(this, o);
+      emitWriteBackGlobals();
       
       if( ast.E.type.isFloatType() ){
           emit( JVM.FRETURN );
       } else if( ast.E.type.isBooleanType() || ast.E.type.isIntType() ){
           emit( JVM.IRETURN );
-      } 
-      
-      if( ast.E.type.isFloatType() || ast.E.type.isIntType() || ast.E.type.isBooleanType() ){
-          frame.pop();
+      } else {
+          emit( JVM.RETURN );
       }
       return null;
   }
   
   public Object visitExprStmt(ExprStmt ast, Object o) {
-      Frame frame = (Frame) o;
-      
+      if( valueNumbers != null && !valueNumbers.isNumbered(ast.E) )
+          numberExprStmts( ast );
       ast.E.visit(this, o);
       
       //insert pop instruction if it has a value left on the stack
@@ -392,25 +610,19 @@ public final class Emitter implements Visitor {
           expr instanceof BooleanExpr    ||
           expr instanceof StringExpr ){
           emit( JVM.POP );
-          frame.pop();
       }else if( expr instanceof BinaryExpr ){
           emit( JVM.POP );
-          frame.pop();
       }else if( expr instanceof UnaryExpr ){
           emit( JVM.POP );
-          frame.pop();
       }else if( expr instanceof ArrayExpr ){
           emit( JVM.POP );
-          frame.pop();
       }else if( expr instanceof VarExpr ){
           emit( JVM.POP );
-          frame.pop();
       }else if( expr instanceof CallExpr ){
           CallExpr callExpr = (CallExpr) expr;
           FuncDecl funcDecl = (FuncDecl) callExpr.I.decl;
           if( !funcDecl.T.isVoidType() ){
               emit( JVM.POP );//pop if the return type is not void
-              frame.pop();
           }
       }
       
@@ -434,9 +646,15 @@ public final class Emitter implements Visitor {
     return null;
   }
 
+  public Object visitErrorStmt(ErrorStmt ast, Object o) {
+    return null;
+  }
+
   // Expressions
   //ADDED
   public Object visitBinaryExpr(BinaryExpr ast, Object o){
+      if( emitNumberedValue(ast, (Frame) o) )
+          return null;
       Frame frame = (Frame) o;
       String op = ast.O.spelling;
       
@@ -445,74 +663,66 @@ public final class Emitter implements Visitor {
           ast.E1.visit(this, o);
           ast.E2.visit(this, o);
           emit( JVM.IADD );
-          frame.pop();
       } else if( op.equals("f+") ){
           ast.E1.visit(this, o);
           ast.E2.visit(this, o);
           emit( JVM.FADD );
-          frame.pop();
       } else if( op.equals("i-") ){
           ast.E1.visit(this, o);
           ast.E2.visit(this, o);
           emit( JVM.ISUB );
-          frame.pop();
       } else if( op.equals("f-") ){
           ast.E1.visit(this, o);
           ast.E2.visit(this, o);
           emit( JVM.FSUB );
-          frame.pop();
+      } else if( op.equals("i*") && reducingStrength ){
+          emitReducedMul( ast, frame );
+      } else if( op.equals("i/") && reducingStrength
+                 && isPowerOfTwo( InductionVariables.constant(ast.E2) ) ){
+          ast.E1.visit(this, o);
+          emitDivByPowerOfTwo( InductionVariables.constant(ast.E2), frame );
       } else if( op.equals("i*") ){
           ast.E1.visit(this, o);
           ast.E2.visit(this, o);
           emit( JVM.IMUL );
-          frame.pop();
       } else if( op.equals("f*") ){
           ast.E1.visit(this, o);
           ast.E2.visit(this, o);
           emit( JVM.FMUL );
-          frame.pop();
       } else if( op.equals("i/") ){
           ast.E1.visit(this, o);
           ast.E2.visit(this, o);
           emit( JVM.IDIV );
-          frame.pop();
       } else if( op.equals("f/") ){
           ast.E1.visit(this, o);
           ast.E2.visit(this, o);
           emit( JVM.FDIV );
-          frame.pop();
           
       } else if( op.equals("i&&") ){
           String falseLabel = frame.getNewLabel();
           String nextLabel = frame.getNewLabel();
           ast.E1.visit(this, o);
           emit( JVM.IFEQ, falseLabel );
-          frame.pop();
           
           ast.E2.visit(this, o);
           emit( JVM.IFEQ, falseLabel );
-          frame.pop();
           
           emit( JVM.ICONST_1 );         //true
           emit( JVM.GOTO, nextLabel );
           emit( falseLabel + ":" );
           emit( JVM.ICONST_0 );         //false
-          frame.push();
           emit( nextLabel + ":" );
       } else if( op.equals("i||") ){  //can only be boolean value
           String falseLabel = frame.getNewLabel();
           String nextLabel = frame.getNewLabel();
           ast.E1.visit(this, o);
           emit( JVM.IFNE, falseLabel );
-          frame.pop();
           ast.E2.visit(this, o);
           emit( JVM.IFNE, falseLabel );
-          frame.pop();
           emit( JVM.ICONST_0 );
           emit( JVM.GOTO, nextLabel );
           emit( falseLabel + ":" );
           emit( JVM.ICONST_1 );
-          frame.push();
           emit( nextLabel + ":" );
       } else if( op.equals("i!=") ||
                  op.equals("i==") ||
@@ -540,6 +750,8 @@ public final class Emitter implements Visitor {
   }
   
   public Object visitUnaryExpr(UnaryExpr ast, Object o){
+      if( emitNumberedValue(ast, (Frame) o) )
+          return null;
       Frame frame = (Frame) o;
       
       if( ast.O.spelling.equals("i!") ){
@@ -547,12 +759,10 @@ public final class Emitter implements Visitor {
           String nextLabel = frame.getNewLabel();
           ast.E.visit(this, o);
           emit( JVM.IFEQ, falseLabel );
-          frame.pop();
           emit( JVM.ICONST_0 );
           emit( JVM.GOTO, nextLabel );
           emit( falseLabel + ":" );
           emit( JVM.ICONST_1 );
-          frame.push();
           emit( nextLabel + ":" );
       }
       else if( ast.O.spelling.equals("i+") || ast.O.spelling.equals("f+") ){
@@ -587,11 +797,10 @@ public final class Emitter implements Visitor {
               emit(JVM.FSTORE, index); 
           }
         
-          frame.pop();
       } else {
           if ( arrayFlag == true ){
               if( type.isIntType() ) emit( JVM.IASTORE );
-              if( type.isBooleanType()) emit( JVM.BASTORE );
+              if( type.isBooleanType()) emitBooleanArrayStore( frame );
           }
           else if ( index >= 0 && index <= 3) {
               emit(JVM.ISTORE + "_" + index); 
@@ -599,12 +808,14 @@ public final class Emitter implements Visitor {
               emit(JVM.ISTORE, index); 
           }
           
-          frame.pop();
       }
   }
   public Object visitAssignExpr(AssignExpr ast, Object o){
       Frame frame = (Frame) o; 
       
+      if( emitIINC(ast) )
+          return null;
+      
       // Be careful here
       if( ast.E1 instanceof ArrayExpr ){
           ArrayExpr arrayExpr = (ArrayExpr) ast.E1;
@@ -621,12 +832,7 @@ public final class Emitter implements Visitor {
           
           int index = decl.index;
           
-          if ( index >= 0 && index <= 3) {
-              emit(JVM.ALOAD + "_" + index); 
-          } else {
-              emit(JVM.ALOAD, index); 
-          }
-          frame.push();
+          emitLoadVar(decl);
           
           arrayExpr.E.visit( this, o ); //inside will push/load the expr
 //          emitICONST( arrayIndex );
@@ -634,20 +840,18 @@ public final class Emitter implements Visitor {
           ast.E2.visit(this, o);  // already push the right side expr
           // notice: within E2.visit, i2f type coercion would be done if it is(within unaryExpr) 
           
-          if( decl instanceof GlobalVarDecl ){
-              emitPUTSTATIC( arrayType.toString(), var.I.spelling );
-              frame.pop();
-          }else{
-              // store instruction for array(float/int), float, int
-              storeInstForTypes( index, type, frame, true );
-//            emitFSTORE(identifier); currently not use this method
+          // keep a copy of the value below the array reference and
+          // the index so that the right side is evaluated only once
+          // (a packed boolean is reloaded from a local variable)
+          boolean packed = type.isBooleanType() && packingBooleans;
+          if ( isValueUsed(ast) && !packed ){
+              emit( JVM.DUP_X2 );
           }
           
-          // need to dup as long as the parent of current assignExpr node is also an assignExpr node
-          // this process is different with scalar
-          if ( ast.parent instanceof AssignExpr ){
-              //emit( JVM.DUP );  // recursively by visitor
-              ast.E2.visit(this, o);  // push the right side expr again !
+          // store instruction for array(float/int), float, int
+          storeInstForTypes( index, type, frame, true );
+          if ( isValueUsed(ast) && packed ){
+              emitLoad( "int", bitValueSlot );
           }
       }else{  // ast.E1 is varExpr
           SimpleVar var = (SimpleVar) ((VarExpr)ast.E1).V;
@@ -658,31 +862,490 @@ public final class Emitter implements Visitor {
           
           ast.E2.visit(this, o);  // already push the right side expr
           
-          // need to dup as long as the parent of current assignExpr node is also an assignExpr node
-          if ( ast.parent instanceof AssignExpr ){
-              emit( JVM.DUP );  // recursively by visitor
-              frame.push();
+          if ( isValueUsed(ast) ){
+              emit( JVM.DUP );
           }
           
-          if( decl instanceof GlobalVarDecl ){
-              emitPUTSTATIC( VCtoJavaType(type), var.I.spelling );
-              frame.pop();
-          }else{
-              // store instruction for array(float/int), float, int
-              storeInstForTypes( index, type, frame, false );
-//            emitFSTORE(identifier); currently not use this method
-          }
+          emitStoreVar(decl);
       }
     
       return null;
   }
   
   
+  // Keeps the products of an induction variable and the constants in
+  // local variables of their own, initialised before the loop.
+  private void emitReducedProducts(InductionVariables iv, Frame frame) {
+      HashMap<Integer, Integer> slots = new HashMap<Integer, Integer>();
+      for (Integer c : iv.factors) {
+          int slot = frame.getNewIndex();
+          emitLoadVar( iv.variable );
+          if ( !emitMulByConstant(c, frame) ){
+              emitICONST( c );
+              emit( JVM.IMUL );
+          }
+          emitStore( "int", slot );
+          slots.put( c, slot );
+      }
+      productSlots.put( iv.variable, slots );
+  }
+  
+  // Steps the products kept for an induction variable together with it.
+  private void emitStepReducedProducts(InductionVariables iv, Frame frame) {
+      HashMap<Integer, Integer> slots = productSlots.get( iv.variable );
+      for (Integer c : iv.factors) {
+          int slot = slots.get(c);
+          int delta = iv.step * c;
+          if ( delta >= Byte.MIN_VALUE && delta <= Byte.MAX_VALUE && slot <= JVM.MAX_BYTE ){
+              emit( JVM.IINC, slot + " " + delta );
+          } else {
+              emitLoad( "int", slot );
+              emitICONST( delta );
+              emit( JVM.IADD );
+              emitStore( "int", slot );
+          }
+      }
+  }
+  
+  // A product of an induction variable and a constant is loaded from
+  // its local variable, and one of another operand and a constant is
+  // computed by shifts and additions if it can be.
+  private void emitReducedMul(BinaryExpr ast, Frame frame) {
+      if ( ast.E1 instanceof VarExpr || ast.E2 instanceof VarExpr ){
+          Decl decl = (Decl) ((SimpleVar) ((VarExpr) 
+              (ast.E1 instanceof VarExpr ? ast.E1 : ast.E2)).V).I.decl;
+          HashMap<Integer, Integer> slots = productSlots.get( decl );
+          Integer c = (ast.E1 instanceof VarExpr) ? InductionVariables.constant(ast.E2)
+                                                  : InductionVariables.constant(ast.E1);
+          if ( slots != null && c != null && slots.containsKey(c) ){
+              emitLoad( "int", slots.get(c) );
+              return;
+          }
+      }
+      
+      // a constant has no side effects, so it may be evaluated last
+      Integer c = InductionVariables.constant(ast.E2);
+      Expr other = ast.E1;
+      if ( c == null ){
+          c = InductionVariables.constant(ast.E1);
+          other = ast.E2;
+      }
+      if ( c != null ){
+          other.visit(this, frame);
+          if ( emitMulByConstant(c, frame) )
+              return;
+          emitICONST( c );
+          emit( JVM.IMUL );
+          return;
+      }
+      ast.E1.visit(this, frame);
+      ast.E2.visit(this, frame);
+      emit( JVM.IMUL );
+  }
+  
+  // Multiplies the int on the top of the stack by a constant that is 
+  // 1, a power of two, or a small sum or difference of two powers of 
+  // two without imul, and returns false for the other constants.
+  private boolean emitMulByConstant(int c, Frame frame) {
+      if ( c == 1 )
+          return true;
+      if ( isPowerOfTwo(c) ){
+          emitShift( JVM.ISHL, Integer.numberOfTrailingZeros(c) );
+          return true;
+      }
+      if ( c <= 0 || c > JVM.MAX_BYTE )
+          return false;
+      
+      int b = Integer.numberOfTrailingZeros(c);
+      int rest = c - (1 << b);
+      boolean sum = isPowerOfTwo(rest);            // 2^a + 2^b
+      boolean difference = isPowerOfTwo(c + (1 << b)); // 2^a - 2^b
+      if ( !sum && !difference )
+          return false;
+      int a = Integer.numberOfTrailingZeros( sum ? rest : c + (1 << b) );
+      
+      // x * 2^b, then (x * 2^b) * 2^(a - b) +/- x * 2^b
+      emitShift( JVM.ISHL, b );
+      emit( JVM.DUP );
+      emitShift( JVM.ISHL, a - b );
+      if ( sum ){
+          emit( JVM.IADD );
+      } else {
+          emit( JVM.SWAP );
+          emit( JVM.ISUB );
+      }
+      return true;
+  }
+  
+  // Divides the int on the top of the stack by a power of two. An
+  // arithmetic shift rounds towards minus infinity, so a negative 
+  // dividend is first biased by 2^k - 1 to round towards zero as idiv.
+  private void emitDivByPowerOfTwo(int c, Frame frame) {
+      int k = Integer.numberOfTrailingZeros(c);
+      if ( k == 0 )
+          return;
+      emit( JVM.DUP );
+      emitShift( JVM.ISHR, 31 );
+      emitShift( JVM.IUSHR, 32 - k );
+      emit( JVM.IADD );
+      emitShift( JVM.ISHR, k );
+  }
+  
+  private void emitShift(String shift, int distance) {
+      if ( distance == 0 )
+          return;
+      emitICONST( distance );
+      emit( shift );
+  }
+  
+  private static boolean isPowerOfTwo(Integer c) {
+      return c != null && c > 0 && (c & (c - 1)) == 0;
+  }
+  
+  // Creates an array of the declared size of an array type. A packed
+  // boolean array takes one long for every 64 elements.
+  private void emitNewArray(ArrayType t) {
+      int size = Integer.parseInt( ((IntExpr) t.E).IL.spelling );
+      if ( t.T.isBooleanType() && packingBooleans ){
+          emitICONST( (int) ((size + 63L) >> 6) );
+          emit( JVM.NEWARRAY, "long" );
+      } else {
+          emitICONST( size );
+          emit( JVM.NEWARRAY, getTypeString(t.T) );
+      }
+  }
+  
+  // Loads element i of a boolean array a: (a[i >> 6] >>> i) & 1 if it 
+  // is packed, where the shift of a long takes the low 6 bits of i.
+  //   ..., a, i => ..., a[i]
+  private void emitBooleanArrayLoad(Frame frame) {
+      if ( !packingBooleans ){
+          emit( JVM.BALOAD );
+          return;
+      }
+      emit( JVM.DUP_X1 );
+      emitShift( JVM.ISHR, 6 );
+      emit( JVM.LALOAD );
+      emit( JVM.DUP2_X1 );
+      emit( JVM.POP2 );
+      emit( JVM.LUSHR );
+      emit( JVM.L2I );
+      emit( JVM.ICONST_1 );
+      emit( JVM.IAND );
+  }
+  
+  // Stores element i of a boolean array a. A packed element is merged
+  // into its word w as w ^ ((w ^ (v << i)) & (1 << i)).
+  //   ..., a, i, v => ...
+  private void emitBooleanArrayStore(Frame frame) {
+      if ( !packingBooleans ){
+          emit( JVM.BASTORE );
+          return;
+      }
+      if ( bitFrame != frame ){
+          bitFrame = frame;
+          bitIndexSlot = frame.getNewIndex();
+          bitValueSlot = frame.getNewIndex();
+      }
+      emitStore( "int", bitValueSlot );
+      emitStore( "int", bitIndexSlot );
+      emitLoad( "int", bitIndexSlot );
+      emitShift( JVM.ISHR, 6 );
+      emit( JVM.DUP2 );
+      emit( JVM.LALOAD );
+      emit( JVM.DUP2 );
+      emitLoad( "int", bitValueSlot );
+      emit( JVM.I2L );
+      emitLoad( "int", bitIndexSlot );
+      emit( JVM.LSHL );
+      emit( JVM.LXOR );
+      emit( JVM.LCONST_1 );
+      emitLoad( "int", bitIndexSlot );
+      emit( JVM.LSHL );
+      emit( JVM.LAND );
+      emit( JVM.LXOR );
+      emit( JVM.LASTORE );
+  }
+  
+  private void startValueNumbering() {
+      valueNumbers = numberingValues ? new ValueNumbering() : null;
+      valueSlots = new IdentityHashMap<Expr, Integer>();
+  }
+  
+  // Numbers the expressions of a run of expression statements starting
+  // with ast, which are evaluated one after another. (The run stops at
+  // the end of a chunk of an outlined method.)
+  private void numberExprStmts(ExprStmt ast) {
+      java.util.List<Expr> exprs = new ArrayList<Expr>();
+      exprs.add( ast.E );
+      if( ast.parent instanceof StmtList ){
+          Integer k = (chunkOf == null) ? null : chunkOf.get(ast);
+          List sl = ((StmtList) ast.parent).SL;
+          while( sl instanceof StmtList && ((StmtList) sl).S instanceof ExprStmt ){
+              Stmt s = ((StmtList) sl).S;
+              if( chunkOf != null && !java.util.Objects.equals(chunkOf.get(s), k) )
+                  break;
+              exprs.add( ((ExprStmt) s).E );
+              sl = ((StmtList) sl).SL;
+          }
+      }
+      valueNumbers.number( exprs );
+  }
+  
+  private void numberExpr(Expr e) {
+      if( valueNumbers != null )
+          valueNumbers.number( java.util.Collections.singletonList(e) );
+  }
+  
+  // Loads an expression kept by value numbering from its local
+  // variable, or evaluates one to be kept and stores a copy of it.
+  // Returns false if the expression is to be evaluated as usual.
+  private boolean emitNumberedValue(Expr ast, Frame frame) {
+      if( valueNumbers == null )
+          return false;
+      String kind = ast.type.isFloatType() ? "float" : "int";
+      Expr earlier = valueNumbers.reuseOf(ast);
+      if( earlier != null ){
+          emitLoad( kind, valueSlots.get(earlier) );
+          return true;
+      }
+      if( !valueNumbers.isKept(ast) || DEFINING.equals(valueSlots.get(ast)) )
+          return false;
+      valueSlots.put( ast, DEFINING );
+      ast.visit(this, frame);
+      int slot = frame.getNewIndex();
+      emit( JVM.DUP );
+      emitStore( kind, slot );
+      valueSlots.put( ast, slot );
+      return true;
+  }
+  
+  // Jumps to falseLabel if a loop condition is false. An integer
+  // comparison branches on the inverse comparison directly instead of
+  // materialising 0 or 1 first, so that a counted loop tests its
+  // bound with a single if_icmpXX.
+  private void emitCondJump(Expr cond, String falseLabel, Frame frame) {
+      emitCondJump( cond, false, falseLabel, frame );
+  }
+  
+  // Jumps to label if a loop condition has the value when.
+  private void emitCondJump(Expr cond, boolean when, String label, Frame frame) {
+      if ( cond instanceof BinaryExpr ){
+          BinaryExpr test = (BinaryExpr) cond;
+          String op = test.O.spelling;
+          String jump = null;
+          if ( op.equals("i<") )
+              jump = when ? JVM.IF_ICMPLT : JVM.IF_ICMPGE;
+          else if ( op.equals("i<=") )
+              jump = when ? JVM.IF_ICMPLE : JVM.IF_ICMPGT;
+          else if ( op.equals("i>") )
+              jump = when ? JVM.IF_ICMPGT : JVM.IF_ICMPLE;
+          else if ( op.equals("i>=") )
+              jump = when ? JVM.IF_ICMPGE : JVM.IF_ICMPLT;
+          else if ( op.equals("i==") )
+              jump = when ? JVM.IF_ICMPEQ : JVM.IF_ICMPNE;
+          else if ( op.equals("i!=") )
+              jump = when ? JVM.IF_ICMPNE : JVM.IF_ICMPEQ;
+          if ( jump != null ){
+              test.E1.visit(this, frame);
+              test.E2.visit(this, frame);
+              emit( jump, label );
+              return;
+          }
+      }
+      cond.visit(this, frame);
+      emit( when ? JVM.IFNE : JVM.IFEQ, label );
+  }
+  
+  // Copies the variables of a loop kept in static fields that may be
+  // kept in local variables during the loop (see LoopLocals.java)
+  private ArrayList<Decl> emitLoopLocals(Stmt loop, Frame frame) {
+      ArrayList<Decl> copied = new ArrayList<Decl>();
+      if( !rotatingLoops )
+          return copied;
+      for( Decl decl : new LoopLocals(loop).variables ){
+          boolean inField = (staticLocals != null && staticLocals.containsKey(decl))
+              || (decl instanceof GlobalVarDecl && (globalSlots == null || !globalSlots.containsKey(decl)));
+          if( !inField || loopSlots.containsKey(decl) )
+              continue;
+          emitLoadVar( decl );
+          int slot = frame.getNewIndex();
+          emitStore( kindOf(decl.T), slot );
+          loopSlots.put( decl, slot );
+          copied.add( decl );
+      }
+      return copied;
+  }
+  
+  // and copies the scalars among them back after the loop
+  private void emitLoopLocalsBack(ArrayList<Decl> copied) {
+      for( Decl decl : copied ){
+          int slot = loopSlots.remove( decl );
+          if( !decl.T.isArrayType() ){
+              emitLoad( kindOf(decl.T), slot );
+              emitStoreVar( decl );
+          }
+      }
+  }
+  
+  // Emits i = i + c and i = i - c, where i is an int local variable and
+  // the value is discarded, as a single iinc if c fits in a byte.
+  private boolean emitIINC(AssignExpr ast) {
+      if ( isValueUsed(ast) || !(ast.E1 instanceof VarExpr)
+           || !(ast.E2 instanceof BinaryExpr) )
+          return false;
+      Decl decl = (Decl) ((SimpleVar) ((VarExpr) ast.E1).V).I.decl;
+      if ( !decl.T.isIntType() || decl instanceof GlobalVarDecl
+           || (staticLocals != null && staticLocals.containsKey(decl) && !loopSlots.containsKey(decl))
+           || (capturedSlots != null && capturedSlots.containsKey(decl)) )
+          return false;
+      int index = loopSlots.containsKey(decl) ? loopSlots.get(decl) : decl.index;
+      
+      BinaryExpr b = (BinaryExpr) ast.E2;
+      String op = b.O.spelling;
+      if ( !(op.equals("i+") || op.equals("i-")) || !(b.E1 instanceof VarExpr)
+           || ((SimpleVar) ((VarExpr) b.E1).V).I.decl != decl
+           || !(b.E2 instanceof IntExpr) )
+          return false;
+      int c;
+      try {
+          c = Integer.parseInt(((IntExpr) b.E2).IL.spelling);
+      } catch (NumberFormatException e) {
+          return false;
+      }
+      if ( op.equals("i-") )
+          c = -c;
+      if ( c < Byte.MIN_VALUE || c > Byte.MAX_VALUE || index > JVM.MAX_BYTE )
+          return false;
+      emit( JVM.IINC, index + " " + c );
+      return true;
+  }
+  
+  // The value of an assignment is left on the stack unless it is 
+  // discarded, as in an expression statement and in the first and 
+  // third expressions of a for statement. (An i2f wrapping an 
+  // assignment is its parent.)
+  private boolean isValueUsed(AssignExpr ast) {
+      if (ast.parent instanceof ExprStmt)
+          return false;
+      if (ast.parent instanceof ForStmt)
+          return ((ForStmt) ast.parent).E2 == ast;
+      return true;
+  }
+  
   public Object visitInitExpr(InitExpr ast, Object o){
-//      Frame frame = (Frame) o; 
+      Frame frame = (Frame) o; 
+      
+      int constants = 0;
+      for (List il = ast.IL; !il.isEmpty(); il = ((ExprList) il).EL)
+          if (constantBits(((ExprList) il).E) != null)
+              constants++;
+      if (constants >= MIN_PACKED_INIT && ast.parent instanceof Decl) {
+          emitPackedInit(ast, ((ArrayType) ((Decl) ast.parent).T).T, frame);
+          return null;
+      }
       ast.IL.visit(this, o);
       return null;
   }
+  
+  // Initialises the array on the top of the stack from string constants
+  // holding its constant elements: an int or a float takes two chars
+  // (the high half first) and a boolean one char. A string is split
+  // before its modified UTF-8 encoding exceeds the 65535 bytes allowed
+  // for a constant. The other elements are stored one by one.
+  private void emitPackedInit(InitExpr ast, Type type, Frame frame) {
+      String unpack;
+      if (type.isFloatType())
+          unpack = "unpackFloats([FILjava/lang/String;)V";
+      else if (type.isBooleanType() && packingBooleans)
+          unpack = "unpackBits([JILjava/lang/String;)V";
+      else if (type.isBooleanType())
+          unpack = "unpackBools([ZILjava/lang/String;)V";
+      else
+          unpack = "unpackInts([IILjava/lang/String;)V";
+      
+      StringBuffer packed = new StringBuffer();
+      int start = 0, bytes = 0, index = 0;
+      for (List il = ast.IL; !il.isEmpty(); il = ((ExprList) il).EL, index++) {
+          Integer bits = constantBits(((ExprList) il).E);
+          int value = (bits == null) ? 0 : bits.intValue();
+          char[] chars = type.isBooleanType() 
+              ? new char[] { (char) value } 
+              : new char[] { (char) (value >>> 16), (char) value };
+          int size = 0;
+          for (char c : chars)
+              size += (c == 0) ? 2 : (c < 0x80) ? 1 : (c < 0x800) ? 2 : 3;
+          if (bytes + size > JVM.MAX_SHORT) {
+              emitUnpack(unpack, start, packed, frame);
+              packed = new StringBuffer();
+              start = index;
+              bytes = 0;
+          }
+          for (char c : chars)
+              if (c >= 0x20 && c < 0x7f && c != '"' && c != '\\')
+                  packed.append(c);
+              else
+                  packed.append(String.format("\\u%04x", (int) c));
+          bytes += size;
+      }
+      emitUnpack(unpack, start, packed, frame);
+      
+      index = 0;
+      for (List il = ast.IL; !il.isEmpty(); il = ((ExprList) il).EL, index++) {
+          ExprList list = (ExprList) il;
+          if (constantBits(list.E) != null)
+              continue;
+          emit( JVM.DUP );
+          emitICONST(index);
+          list.E.visit(this, frame);
+          if( type.isIntType() ){
+              emit( JVM.IASTORE );
+          } else if( type.isFloatType() ){
+              emit( JVM.FASTORE );
+          } else if( type.isBooleanType() ){
+              emitBooleanArrayStore( frame );
+          }
+      }
+  }
+  
+  private void emitUnpack(String unpack, int start, StringBuffer packed, Frame frame) {
+      emit( JVM.DUP );
+      emitICONST(start);
+      emit( JVM.LDC, "\"" + packed + "\"" );
+      emit( JVM.INVOKESTATIC, "VC/lang/System/" + unpack );
+  }
+  
+  // returns the bits of the value of a constant array element (the 
+  // float bits of a float), or null if e is not a constant
+  private Integer constantBits(Expr e) {
+      if (e instanceof IntExpr) {
+          try {
+              return Integer.valueOf(((IntExpr) e).IL.spelling);
+          } catch (NumberFormatException ex) {
+              return null;
+          }
+      }
+      if (e instanceof FloatExpr)
+          return Float.floatToRawIntBits(Float.parseFloat(((FloatExpr) e).FL.spelling));
+      if (e instanceof BooleanExpr)
+          return ((BooleanExpr) e).BL.spelling.equals("true") ? 1 : 0;
+      if (e instanceof UnaryExpr) {
+          UnaryExpr u = (UnaryExpr) e;
+          Integer bits = constantBits(u.E);
+          if (bits == null)
+              return null;
+          String op = u.O.spelling;
+          if (op.equals("i+") || op.equals("f+"))
+              return bits;
+          if (op.equals("i-"))
+              return -bits;
+          if (op.equals("f-"))
+              return bits ^ 0x80000000;
+          if (op.equals("i2f"))
+              return Float.floatToRawIntBits((float) bits.intValue());
+      }
+      return null;
+  }
   public Object visitExprList(ExprList ast, Object o){
       Frame frame = (Frame) o;
       
@@ -698,7 +1361,6 @@ public final class Emitter implements Visitor {
 //          elementList.add( expr );
           emit( JVM.DUP );
           emitICONST(arrayIndex);
-          frame.push(2); // because of dup and load one const?
           
           list.E.visit(this, o);
           
@@ -707,10 +1369,9 @@ public final class Emitter implements Visitor {
           } else if( ast.E.type.isFloatType() ){
               emit( JVM.FASTORE );
           } else if( ast.E.type.isBooleanType() ){
-              emit( JVM.BASTORE );
+              emitBooleanArrayStore( frame );
           }
           
-          frame.pop( 3 );
           
           castList = list.EL;
           arrayIndex += 1;
@@ -719,6 +1380,8 @@ public final class Emitter implements Visitor {
   }
 
   public Object visitArrayExpr(ArrayExpr ast, Object o) {
+      if( emitNumberedValue(ast, (Frame) o) )
+          return null;
       Frame frame = (Frame) o; 
       
       Decl referDecl = (Decl) ((SimpleVar)ast.V).I.decl;
@@ -726,35 +1389,20 @@ public final class Emitter implements Visitor {
       
       Type type = ((ArrayType)referDecl.T).T;
       
-      if( referDecl instanceof GlobalVarDecl ){
-          // It not like visitVarExpr(a), it must be array Type now(a[1])
-//        if( referDecl.T.isArrayType() ){  //this global var is array type
-          emitGETSTATIC( referDecl.T.toString(), ((SimpleVar)ast.V).I.spelling );
-//        }else{
-//            emitGETSTATIC( VCtoJavaType(referDecl.T), ((SimpleVar)ast.V).I.spelling );
-//        }
-      }
-      else{  // local array variable
-          emitLoad("ref", localArrayIndex ); // load array
-      }
-      frame.push();
+      emitLoadVar(referDecl); // load array
       
       ast.E.visit(this, o);
 //      int arrayIndex = Integer.parseInt( ((IntExpr)ast.E).IL.spelling );
-//      frame.push();
 //      emitICONST( arrayIndex );
-//      frame.push(); // old version is push(2)
       
       if( type.isIntType() ) emit( JVM.IALOAD );
       else if( type.isFloatType() ) emit( JVM.FALOAD);
-      else if( type.isBooleanType() ) emit( JVM.BALOAD);
-      frame.pop();
+      else if( type.isBooleanType() ) emitBooleanArrayLoad( frame );
       
       return null;
   }
   
   public Object visitVarExpr(VarExpr ast, Object o) {
-      Frame frame = (Frame) o; 
       //if goes here, means the var must be rvalue,
       //since if it is lvalue, it will not go here, it
       //will be captured and processed in visitAssignExpr upper function
@@ -763,29 +1411,7 @@ public final class Emitter implements Visitor {
       
       Decl referDecl = (Decl) ((SimpleVar)ast.V).I.decl;
       
-      if( referDecl instanceof GlobalVarDecl ){
-          if( referDecl.T.isArrayType() ){  //this global var is array type
-              emitGETSTATIC( referDecl.T.toString(), ((SimpleVar)ast.V).I.spelling );
-          }else{
-              emitGETSTATIC( VCtoJavaType(referDecl.T), ((SimpleVar)ast.V).I.spelling );
-          }
-          frame.push();
-      }
-      else{
-          int localArrayIndex = referDecl.index;
-          // I don't think the array type local var(not global var) will
-          // go here, it will go inside visitArrayType. So just for make sure.
-          if( referDecl.T.isArrayType() ){
-              emitLoad("ref", localArrayIndex );   // load array
-          }
-          else if( referDecl.T.isFloatType() ){
-              emitLoad("float", localArrayIndex ); // load float
-          }
-          else{
-              emitLoad("int", localArrayIndex );   // load int
-          }
-          frame.push();
-      }
+      emitLoadVar(referDecl);
       
       return null;
   }
@@ -797,46 +1423,38 @@ public final class Emitter implements Visitor {
     if (fname.equals("getInt")) {
       ast.AL.visit(this, o); // push args (if any) into the op stack
       emit("invokestatic VC/lang/System.getInt()I");
-      frame.push();
     } else if (fname.equals("putInt")) {
       ast.AL.visit(this, o); // push args (if any) into the op stack
       emit("invokestatic VC/lang/System.putInt(I)V");
-      frame.pop();
     } else if (fname.equals("putIntLn")) {
       ast.AL.visit(this, o); // push args (if any) into the op stack
       emit("invokestatic VC/lang/System/putIntLn(I)V");
-      frame.pop();
     } else if (fname.equals("getFloat")) {
       ast.AL.visit(this, o); // push args (if any) into the op stack
       emit("invokestatic VC/lang/System/getFloat()F");
-      frame.push();
     } else if (fname.equals("putFloat")) {
       ast.AL.visit(this, o); // push args (if any) into the op stack
       emit("invokestatic VC/lang/System/putFloat(F)V");
-      frame.pop();
     } else if (fname.equals("putFloatLn")) {
       ast.AL.visit(this, o); // push args (if any) into the op stack
       emit("invokestatic VC/lang/System/putFloatLn(F)V");
-      frame.pop();
     } else if (fname.equals("putBool")) {
       ast.AL.visit(this, o); // push args (if any) into the op stack
       emit("invokestatic VC/lang/System/putBool(Z)V");
-      frame.pop();
     } else if (fname.equals("putBoolLn")) {
       ast.AL.visit(this, o); // push args (if any) into the op stack
       emit("invokestatic VC/lang/System/putBoolLn(Z)V");
-      frame.pop();
     } else if (fname.equals("putString")) {
       ast.AL.visit(this, o);
       emit(JVM.INVOKESTATIC, "VC/lang/System/putString(Ljava/lang/String;)V");
-      frame.pop();
     } else if (fname.equals("putStringLn")) {
       ast.AL.visit(this, o);
       emit(JVM.INVOKESTATIC, "VC/lang/System/putStringLn(Ljava/lang/String;)V");
-      frame.pop();
     } else if (fname.equals("putLn")) {
       ast.AL.visit(this, o); // push args (if any) into the op stack
       emit("invokestatic VC/lang/System/putLn()V");
+    } else if (fname.equals("flushOutput")) {
+      emit(JVM.INVOKESTATIC, "VC/lang/System/flushOutput()V");
     } else { // programmer-defined functions
 
       FuncDecl fAST = (FuncDecl) ast.I.decl;
@@ -846,7 +1464,6 @@ public final class Emitter implements Visitor {
         emit("aload_1"); // vc.funcname(...)
       else
         emit("aload_0"); // this.funcname(...)
-      frame.push();
       
       ast.AL.visit(this, o);
       
@@ -857,7 +1474,6 @@ public final class Emitter implements Visitor {
       // directly available in the FuncDecl node but can be gathered
       // by traversing its field PL.
 
-      int argNum = 0;
       StringBuffer argsTypes = new StringBuffer("");
       List fpl = fAST.PL;
       while (! fpl.isEmpty()) {
@@ -866,7 +1482,7 @@ public final class Emitter implements Visitor {
               Type type = arrayType.T;
               
               if ( type.equals(StdEnvironment.booleanType) ){
-                  argsTypes.append("[Z");     
+                  argsTypes.append( fieldType(arrayType) );     
               } else if ( type.equals(StdEnvironment.intType) ){
                   argsTypes.append("[I"); 
               } else{
@@ -884,15 +1500,11 @@ public final class Emitter implements Visitor {
           }
           
           fpl = ((ParaList) fpl).PL;
-          argNum += 1;
       }
       
+      emitWriteBackGlobals();
       emit("invokevirtual", classname + "/" + fname + "(" + argsTypes + ")" + retType);
-//      frame.pop(argsTypes.length() + 1);
-      frame.pop(argNum + 1);
-      
-      if (! retType.equals("V"))
-        frame.push();
+      emitReloadGlobals(false);
     }
     return null;
   }
@@ -901,6 +1513,10 @@ public final class Emitter implements Visitor {
     return null;
   }
 
+  public Object visitErrorExpr(ErrorExpr ast, Object o) {
+    return null;
+  }
+
   public Object visitIntExpr(IntExpr ast, Object o) {
     ast.IL.visit(this, o);
     return null;
@@ -935,7 +1551,145 @@ public final class Emitter implements Visitor {
 
   public Object visitFuncDecl(FuncDecl ast, Object o) {
 
+    if (viaIR) {
+      ControlFlowGraph cfg = new IRBuilder().build(ast);
+      SSABuilder.construct(cfg);
+      for (Instruction inst : new IRLowering(classname).lower(cfg))
+        JVM.append(inst);
+      emit("");
+      return null;
+    }
+
+    int start = JVM.nextInstAddr;
+    funcName = ast.I.spelling;
+    parallelLoops = new ArrayList<ParallelLoop>();
+    stmtSizes = new IdentityHashMap<Stmt, Integer>();
+    promoted = promotingGlobals ? new PromotedGlobals(ast) : null;
+    emitMethod(ast);
+    promoted = null;
+    if (JVM.byteSize(start, JVM.nextInstAddr) > JVM.MAX_METHOD_SIZE
+        && !outliner.isRecursive(ast)) {
+      // A quarter of the limit leaves room for the static field
+      // instructions, which are longer than those for local variables.
+      chunks = Outliner.chunks(ast, stmtSizes, JVM.MAX_METHOD_SIZE / 4);
+      if (!chunks.isEmpty())
+        splitMethod(ast, start);
+      chunks = null;
+    }
+    // the bodies of parallel for loops nested in these are added
+    for (int k = 0; k < parallelLoops.size(); k++)
+      emitParallelBody(parallelLoops.get(k));
+    parallelLoops = null;
+    return null;
+  }
+
+  // Generates the function ast again, replacing the generated code at
+  // start, with its chunks moved into methods of their own.
+  private void splitMethod(FuncDecl ast, int start) {
+    JVM.nextInstAddr = start;
+    splitName = ast.I.spelling;
+    parallelLoops.clear();
+
+    staticLocals = new IdentityHashMap<Decl, String>();
+    for (Decl decl : Outliner.variables(ast)) {
+      String name = ast.I.spelling + "$" + decl.I.spelling;
+      staticLocals.put(decl, name);
+      JVM.insert(fieldAddr++, new Instruction(JVM.STATIC_FIELD + " " + name + " " + fieldType(decl.T)));
+    }
+    chunkOf = new IdentityHashMap<Stmt, Integer>();
+    for (int k = 0; k < chunks.size(); k++)
+      for (Stmt s : chunks.get(k))
+        chunkOf.put(s, k);
+
+    emitMethod(ast);
+
+    for (int k = 0; k < chunks.size(); k++) {
+      Frame frame = new Frame(false);
+      frame.getNewIndex(); // reserve 0 for "this"
+      String scopeStart = frame.getNewLabel();
+      String scopeEnd = frame.getNewLabel();
+      frame.scopeStart.push(scopeStart);
+      frame.scopeEnd.push(scopeEnd);
+
+      emit("");
+      emit("; statements outlined from " + ast.I.spelling);
+      int methodStart = JVM.nextInstAddr;
+      emit(JVM.METHOD_START, chunkName(k) + "()V");
+      emit(scopeStart + ":");
+      emit(JVM.VAR, "0 is this L" + classname + "; from " + scopeStart + " to " + scopeEnd);
+      startValueNumbering();
+      for (Stmt s : chunks.get(k))
+        s.visit(this, frame);
+      emit(scopeEnd + ":");
+      emit(JVM.RETURN);
+      emit(JVM.LIMIT, "locals", frame.getNewIndex());
+      emit(JVM.LIMIT, "stack", StackAnalyser.maxStack(methodStart, JVM.nextInstAddr));
+      emit(".end method");
+    }
+    chunkOf = null;
+    staticLocals = null;
+  }
+
+  private String chunkName(int k) {
+    return splitName + "$" + k;
+  }
+
+  // Generates the body of a parallel for loop as the method
+  //
+  //   void f$loop$k(int lo, int hi, <captured>)
+  //
+  // which runs it for i = lo, ..., hi - 1, keeping i in lo.
+  private void emitParallelBody(ParallelLoop loop) {
+    Frame frame = new Frame(false);
+    frame.getNewIndex(); // reserve 0 for "this"
+    int lo = frame.getNewIndex();
+    int hi = frame.getNewIndex();
+    StringBuffer argsTypes = new StringBuffer("II");
+    capturedSlots = new IdentityHashMap<Decl, Integer>();
+    capturedSlots.put(loop.variable, lo);
+    for (Decl decl : loop.captured) {
+      capturedSlots.put(decl, frame.getNewIndex());
+      argsTypes.append(fieldType(decl.T));
+    }
+    String scopeStart = frame.getNewLabel();
+    String scopeEnd = frame.getNewLabel();
+    String iterLabel = frame.getNewLabel();
+    String contLabel = frame.getNewLabel();
+    frame.scopeStart.push(scopeStart);
+    frame.scopeEnd.push(scopeEnd);
+
+    emit("");
+    emit("; the body of a parallel for loop in " + funcName);
+    int methodStart = JVM.nextInstAddr;
+    emit(JVM.METHOD_START, loop.name + "(" + argsTypes + ")V");
+    emit(scopeStart + ":");
+    emit(JVM.VAR, "0 is this L" + classname + "; from " + scopeStart + " to " + scopeEnd);
+    startValueNumbering();
+    emit(iterLabel + ":");
+    emitLoad("int", lo);
+    emitLoad("int", hi);
+    emit(JVM.IF_ICMPGE, scopeEnd);
+    frame.conStack.push(contLabel);
+    frame.brkStack.push(scopeEnd);
+    loop.loop.S.visit(this, frame);
+    frame.conStack.pop();
+    frame.brkStack.pop();
+    emit(contLabel + ":");
+    emit(JVM.IINC, lo + " 1");
+    emit(JVM.GOTO, iterLabel);
+    emit(scopeEnd + ":");
+    emit(JVM.RETURN);
+    emit(JVM.LIMIT, "locals", frame.getNewIndex());
+    emit(JVM.LIMIT, "stack", StackAnalyser.maxStack(methodStart, JVM.nextInstAddr));
+    emit(".end method");
+    capturedSlots = null;
+  }
+
+  private void emitMethod(FuncDecl ast) {
+
     Frame frame; 
+    int start = JVM.nextInstAddr;
+    startValueNumbering();
 
     if (ast.I.spelling.equals("main")) {
 
@@ -979,7 +1733,7 @@ public final class Emitter implements Visitor {
               } else if( type.isFloatType() ){
                   argsTypes.append("[F"); 
               } else if( type.isBooleanType() ){
-                  argsTypes.append("[Z"); 
+                  argsTypes.append( fieldType(arrayType) ); 
               }
           }
           else{
@@ -1008,21 +1762,24 @@ public final class Emitter implements Visitor {
       emit("");
       emit("; return may not be present in a VC function returning void"); 
       emit("; The following return inserted by the VC compiler");
+      emitWriteBackGlobals();
       emit(JVM.RETURN); 
     } else if (ast.I.spelling.equals("main")) {
       // In case VC's main does not have a return itself
+      emitWriteBackGlobals();
       emit(JVM.RETURN);
     } else
       emit(JVM.NOP); 
+    globalSlots = null;
 
     emit("");
     emit("; set limits used by this method");
     emit(JVM.LIMIT, "locals", frame.getNewIndex());
 
-    emit(JVM.LIMIT, "stack", frame.getMaximumStackSize());
+    // computed by a dataflow analysis over the branches of the method
+    // rather than from the counts kept in the frame
+    emit(JVM.LIMIT, "stack", StackAnalyser.maxStack(start, JVM.nextInstAddr));
     emit(".end method");
-
-    return null;
   }
 
   public Object visitGlobalVarDecl(GlobalVarDecl ast, Object o) {
@@ -1035,11 +1792,13 @@ public final class Emitter implements Visitor {
     ast.index = frame.getNewIndex();
     
     Type type = null;
-    if( ast.T.isArrayType() ){
+    if (staticLocals != null && staticLocals.containsKey(ast)) {
+        // kept in a static field
+    } else if( ast.T.isArrayType() ){
         type = ((ArrayType)ast.T).T;
-        String T = VCtoJavaType(type);
+        String T = fieldType(ast.T);
         
-        emit(JVM.VAR + " " + ast.index + " is " + ast.I.spelling + " [" + T + " from " + (String) frame.scopeStart.peek() + " to " +  (String) frame.scopeEnd.peek());
+        emit(JVM.VAR + " " + ast.index + " is " + ast.I.spelling + " " + T + " from " + (String) frame.scopeStart.peek() + " to " +  (String) frame.scopeEnd.peek());
     }else{
         type = ast.T;
         String T = VCtoJavaType(type);
@@ -1050,31 +1809,18 @@ public final class Emitter implements Visitor {
     if( ast.T.isArrayType() ){
         ArrayType arrayType = (ArrayType)ast.T;
         Type theType = arrayType.T;
-        int arraySize = Integer.parseInt( ((IntExpr)arrayType.E).IL.spelling );
-        
-        emitICONST( arraySize );
-        emit(JVM.NEWARRAY, getTypeString(theType) );
-        frame.push();
+        emitNewArray( arrayType );
         if( !ast.E.isEmptyExpr() ){
             ast.E.visit(this, frame);  // go to visitInitExpr 
         }
-        emitStore( "ref", ast.index ); //array store
-        frame.pop();
+        emitStoreVar(ast); //array store
     }
     else{  //scalar type local variable initialization
         if( !ast.E.isEmptyExpr() ) {
             ast.E.visit(this, o);
-        
-            if (ast.T.equals(StdEnvironment.floatType)) {
-                // cannot call emitFSTORE(ast.I) since this I is not an
-                // applied occurrence 
-                emitStore( "float", ast.index ); //array store
-            } else {
-                // cannot call emitISTORE(ast.I) since this I is not an
-                // applied occurrence 
-                emitStore( "int", ast.index ); //array store
-            }
-            frame.pop();
+            // cannot call emitISTORE(ast.I) or emitFSTORE(ast.I) since 
+            // this I is not an applied occurrence 
+            emitStoreVar(ast);
         }
     }
    
@@ -1093,9 +1839,8 @@ public final class Emitter implements Visitor {
     Frame frame = (Frame) o;
     ast.index = frame.getNewIndex();
     if( ast.T.isArrayType() ){
-        ArrayType arrayType = (ArrayType) ast.T;
-        String T = VCtoJavaType( arrayType.T );
-        emit(JVM.VAR + " " + ast.index + " is " + ast.I.spelling + " [" + T + " from " + (String) frame.scopeStart.peek() + " to " +  (String) frame.scopeEnd.peek());
+        String T = fieldType( ast.T );
+        emit(JVM.VAR + " " + ast.index + " is " + ast.I.spelling + " " + T + " from " + (String) frame.scopeStart.peek() + " to " +  (String) frame.scopeEnd.peek());
     }
     else{
         String T = VCtoJavaType(ast.T);
@@ -1162,30 +1907,22 @@ public final class Emitter implements Visitor {
   }
 
   public Object visitIntLiteral(IntLiteral ast, Object o) {
-    Frame frame = (Frame) o;
     emitICONST(Integer.parseInt(ast.spelling));
-    frame.push();
     return null;
   }
 
   public Object visitFloatLiteral(FloatLiteral ast, Object o) {
-    Frame frame = (Frame) o;
     emitFCONST(Float.parseFloat(ast.spelling));
-    frame.push();
     return null;
   }
 
   public Object visitBooleanLiteral(BooleanLiteral ast, Object o) {
-    Frame frame = (Frame) o;
     emitBCONST(ast.spelling.equals("true"));
-    frame.push();
     return null;
   }
 
   public Object visitStringLiteral(StringLiteral ast, Object o) {
-    Frame frame = (Frame) o;
     emit(JVM.LDC, "\"" + ast.spelling + "\"");
-    frame.push();
     return null;
   }
 
@@ -1251,12 +1988,10 @@ public final class Emitter implements Visitor {
     String nextLabel = frame.getNewLabel();
 
     emit(opcode, falseLabel);
-    frame.pop(2); 
     emit("iconst_0");
     emit("goto", nextLabel);
     emit(falseLabel + ":");
     emit(JVM.ICONST_1);
-    frame.push(); 
     emit(nextLabel + ":");
   }
 
@@ -1281,14 +2016,12 @@ public final class Emitter implements Visitor {
 
     emit(JVM.FCMPG);   // ??????
     
-    frame.pop(2);
     
     emit(opcode, falseLabel);
     emit(JVM.ICONST_0);
     emit("goto", nextLabel);
     emit(falseLabel + ":");
     emit(JVM.ICONST_1);
-    frame.push();
     emit(nextLabel + ":");
   }
   
@@ -1320,6 +2053,90 @@ public final class Emitter implements Visitor {
   }
 
   
+  // Loads and stores of variables. A global variable, or a variable of
+  // a function being split, is kept in a static field.
+
+  private String fieldType(Type t) {
+    if (t.isArrayType() && ((ArrayType) t).T.isBooleanType() && packingBooleans)
+      return "[J";
+    else if (t.isArrayType())
+      return t.toString();
+    else
+      return VCtoJavaType(t);
+  }
+
+  // the type argument of emitLoad and emitStore for a variable of type t
+  private String kindOf(Type t) {
+    if (t.isArrayType())
+      return "ref";
+    else if (t.isFloatType())
+      return "float";
+    else
+      return "int";
+  }
+
+  private void emitLoadVar(Decl decl) {
+    if (capturedSlots != null && capturedSlots.containsKey(decl))
+      emitLoad(kindOf(decl.T), capturedSlots.get(decl));
+    else if (loopSlots.containsKey(decl))
+      emitLoad(kindOf(decl.T), loopSlots.get(decl));
+    else if (globalSlots != null && globalSlots.containsKey(decl))
+      emitLoad(kindOf(decl.T), globalSlots.get(decl));
+    else if (decl instanceof GlobalVarDecl)
+      emitGETSTATIC(fieldType(decl.T), decl.I.spelling);
+    else if (staticLocals != null && staticLocals.containsKey(decl))
+      emitGETSTATIC(fieldType(decl.T), staticLocals.get(decl));
+    else if (decl.T.isArrayType())
+      emitLoad("ref", decl.index);
+    else if (decl.T.isFloatType())
+      emitLoad("float", decl.index);
+    else
+      emitLoad("int", decl.index);
+  }
+
+  private void emitStoreVar(Decl decl) {
+    if (capturedSlots != null && capturedSlots.containsKey(decl))
+      emitStore(kindOf(decl.T), capturedSlots.get(decl));
+    else if (loopSlots.containsKey(decl))
+      emitStore(kindOf(decl.T), loopSlots.get(decl));
+    else if (globalSlots != null && globalSlots.containsKey(decl))
+      emitStore(kindOf(decl.T), globalSlots.get(decl));
+    else if (decl instanceof GlobalVarDecl)
+      emitPUTSTATIC(fieldType(decl.T), decl.I.spelling);
+    else if (staticLocals != null && staticLocals.containsKey(decl))
+      emitPUTSTATIC(fieldType(decl.T), staticLocals.get(decl));
+    else if (decl.T.isArrayType())
+      emitStore("ref", decl.index);
+    else if (decl.T.isFloatType())
+      emitStore("float", decl.index);
+    else
+      emitStore("int", decl.index);
+  }
+
+  // Copies the promoted globals (only the scalars unless all is true)
+  // from their static fields into their local variables
+  private void emitReloadGlobals(boolean all) {
+    if (globalSlots == null)
+      return;
+    for (GlobalVarDecl g : promoted.globals)
+      if (all || !g.T.isArrayType()) {
+        emitGETSTATIC(fieldType(g.T), g.I.spelling);
+        emitStore(kindOf(g.T), globalSlots.get(g));
+      }
+  }
+
+  // Copies the promoted globals assigned in the current function back
+  // into their static fields
+  private void emitWriteBackGlobals() {
+    if (globalSlots == null)
+      return;
+    for (GlobalVarDecl g : promoted.globals)
+      if (promoted.written.contains(g)) {
+        emitLoad(g.T.isFloatType() ? "float" : "int", globalSlots.get(g));
+        emitPUTSTATIC(fieldType(g.T), g.I.spelling);
+      }
+  }
+
   private void emitGETSTATIC(String T, String I) {
     emit(JVM.GETSTATIC, classname + "/" + I, T); 
   }
@@ -40,13 +40,6 @@ import java.util.Stack;
 
    private int localVarIndex;
 
-   // Simulate the execution of byte code to determine at compile-time
-   // the maximum depth of the operand stack for a method. 
-   // See page 73, T Lindholm and F Yellin, The JVM spec, 2nd ed.
-
-   private int currentStackSize;
-   private int maximumStackSize;
-
    // Stacks for storing labels used for translating continue and break in while
    // These labels are inherited attributes
 
@@ -64,8 +57,6 @@ import java.util.Stack;
      this._main = _main;
      label = 0;
      localVarIndex = 0;
-     currentStackSize = 0;
-     maximumStackSize = 0;
      conStack = new Stack<String>();
      brkStack = new Stack<String>();
      scopeStart = new Stack<String>();
@@ -91,52 +82,4 @@ import java.util.Stack;
    public String getNewLabel() { 
      return "L" + label++;
    }
-
-   // All the following functions are used in calculating the maximum
-   // operand stack size at compile time
-
-   public void push() {
-     push(1);
-   }
-
-   public void push(int i) {
-   //System.out.println("\t push called "  + i );
-     currentStackSize += i;
-     if (currentStackSize < 0 || currentStackSize > JVM.MAX_OPSTACK) {
-       System.out.println("Invalid operand stack size.");
-       System.out.println("Current operand stack size is " + currentStackSize + ".");
-       System.out.println("You wanted to push " + i + ((i == 1) ? " operand" : " operands") + " to the stack.");
-       System.out.println("The size of the operand stack is limited to the range 0 .. " + JVM.MAX_OPSTACK + ".");
-       System.out.println("Good luck with debugging your code generator."); 
-       System.exit(1);
-     }
-
-     if (currentStackSize > maximumStackSize)
-        maximumStackSize = currentStackSize;
-   }
-  
-   public void pop() {
-     pop(1);
-   }
-
-   public void pop(int i) {
-	 //System.out.println("\t pop called "  + i );
-     currentStackSize -= i;
-     
-     if (currentStackSize < 0) {
-       System.out.println("Invalid operand stack size.");
-       System.out.println("Current operand stack size is " + currentStackSize + ".");
-       System.out.println("You wanted to pop " + i + ((i == 1) ? " operand" : " operands") + " to the stack.");
-       System.out.println("The size of the operand stack is limited to the range 0 .. " + JVM.MAX_OPSTACK + ".");
-       System.out.println("Good luck with debugging your code generator."); 
-       System.exit(1);
-     }
-   }
-  
-   public int getMaximumStackSize() {
-     return maximumStackSize;
-   }
-  public int getCurStackSize() {
-     return currentStackSize;
-   }
  }
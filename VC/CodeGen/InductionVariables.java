@@ -0,0 +1,117 @@
+/*
+ * InductionVariables.java
+ */
+
+// Finds the products of the induction variable of a for statement and
+// a constant that the Emitter strength-reduces (-O). A for statement
+//
+//   for (i = e; E2; i = i + c3) S        (or i = i - c3)
+//
+// where i is an int local variable or parameter assigned neither in
+// E2 nor in S, steps i by the constant c3. Every product i * c (or
+// c * i) in E2 and S is then kept in a local variable of its own that
+// is set to i * c after the initialisation and increased by c3 * c
+// after every step, so that the loop needs no multiplication. (The
+// int arithmetic wraps around, so the two always agree.)
+
+package VC.CodeGen;
+
+import java.util.ArrayList;
+
+import VC.ASTs.*;
+import VC.Optimiser.ASTWalker;
+
+final class InductionVariables {
+
+  // the induction variable, or null if the loop is not of the form
+  final Decl variable;
+  final int step;
+  // the distinct constant factors in the order of their first uses
+  final ArrayList<Integer> factors = new ArrayList<Integer>();
+
+  InductionVariables(ForStmt ast) {
+    Decl i = null;
+    int c3 = 0;
+    if (ast.E1 instanceof AssignExpr && ast.E3 instanceof AssignExpr) {
+      i = variable(((AssignExpr) ast.E1).E1);
+      AssignExpr next = (AssignExpr) ast.E3;
+      if (variable(next.E1) == i && next.E2 instanceof BinaryExpr) {
+        BinaryExpr b = (BinaryExpr) next.E2;
+        Integer c = constant(b.E2);
+        if (variable(b.E1) == i && c != null && b.O.spelling.equals("i+"))
+          c3 = c;
+        else if (variable(b.E1) == i && c != null && b.O.spelling.equals("i-"))
+          c3 = -c;
+        else
+          i = null;
+      } else
+        i = null;
+    }
+    if (i != null && (!i.T.isIntType() || i instanceof GlobalVarDecl
+                      || isAssignedIn(i, ast.E2) || isAssignedIn(i, ast.S)))
+      i = null;
+    variable = i;
+    step = c3;
+    if (variable != null) {
+      collectFactors(ast.E2);
+      collectFactors(ast.S);
+    }
+  }
+
+  boolean isEmpty() {
+    return factors.isEmpty();
+  }
+
+  // returns the constant factor of a product of the induction variable
+  // and a constant, or null
+  Integer factor(BinaryExpr ast) {
+    if (variable == null || !ast.O.spelling.equals("i*"))
+      return null;
+    if (variable(ast.E1) == variable)
+      return constant(ast.E2);
+    if (variable(ast.E2) == variable)
+      return constant(ast.E1);
+    return null;
+  }
+
+  private void collectFactors(AST ast) {
+    ast.visit(new ASTWalker() {
+      public Object visitBinaryExpr(BinaryExpr ast, Object o) {
+        Integer c = factor(ast);
+        if (c != null && !factors.contains(c))
+          factors.add(c);
+        return super.visitBinaryExpr(ast, o);
+      }
+    }, null);
+  }
+
+  private static Decl variable(Expr e) {
+    if (e instanceof VarExpr)
+      return (Decl) ((SimpleVar) ((VarExpr) e).V).I.decl;
+    return null;
+  }
+
+  static Integer constant(Expr e) {
+    if (e instanceof IntExpr) {
+      try {
+        return Integer.valueOf(((IntExpr) e).IL.spelling);
+      } catch (NumberFormatException ex) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isAssignedIn(final Decl d, AST ast) {
+    final boolean[] found = { false };
+    ast.visit(new ASTWalker() {
+      public Object visitAssignExpr(AssignExpr ast, Object o) {
+        if (variable(ast.E1) == d)
+          found[0] = true;
+        return super.visitAssignExpr(ast, o);
+      }
+    }, null);
+    return found[0];
+  }
+
+}
@@ -19,5 +19,26 @@ public class Instruction {
       writer.print("\t");
     writer.println(inst);
   }
+
+  // returns the number of bytes taken by this instruction in a class
+  // file, or 0 if it is a directive, a label or a comment. ldc is
+  // assumed to be ldc_w, so the result is an upper bound.
+  public int size() {
+    if (inst.length() == 0 || inst.startsWith(".") || inst.startsWith(";")
+        || inst.endsWith(":"))
+      return 0;
+    int i = inst.indexOf(' ');
+    if (i < 0)
+      return 1; // iadd, iload_1, return, ...
+    String op = inst.substring(0, i);
+    if (op.equals(JVM.BIPUSH) || op.equals(JVM.NEWARRAY))
+      return 2;
+    if (op.equals(JVM.ILOAD) || op.equals(JVM.FLOAD) || op.equals(JVM.ALOAD)
+        || op.equals(JVM.ISTORE) || op.equals(JVM.FSTORE) || op.equals(JVM.ASTORE)) {
+      int index = Integer.parseInt(inst.substring(i + 1).trim());
+      return (index <= JVM.MAX_BYTE) ? 2 : 4; // wide
+    }
+    return 3; // sipush, ldc, branches, field and method instructions, new
+  }
  
 }  
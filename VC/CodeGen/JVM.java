@@ -28,6 +28,23 @@ public final class JVM {
     
     code[nextInstAddr++] = inst;
   }
+
+  // Inserts an instruction at addr, moving the instructions from addr
+  // onwards one place down.
+  public static void insert(int addr, Instruction inst) {
+    append(inst);
+    System.arraycopy(code, addr, code, addr + 1, nextInstAddr - 1 - addr);
+    code[addr] = inst;
+  }
+
+  // returns an estimate of the number of bytes of the bytecode of the
+  // instructions from addr "from" up to (but excluding) "to"
+  public static int byteSize(int from, int to) {
+    int size = 0;
+    for (int addr = from; addr < to; addr++)
+      size += code[addr].size();
+    return size;
+  }
   
   public static void dump(String filename) {
     PrintWriter writer;
@@ -67,12 +84,16 @@ public final class JVM {
      IALOAD = "iaload",  // load from an int array
      FALOAD = "faload",  // load from a float array
      BALOAD = "baload",  // load from a boolean array
+     LALOAD = "laload",  // load from a long array (packed booleans)
      
      IASTORE = "iastore", // store into an int array
      FASTORE = "fastore", // store into a float array
      BASTORE = "bastore", // store into a boolean array
+     LASTORE = "lastore", // store into a long array (packed booleans)
+     AASTORE = "aastore", // store into a reference array (parallel for)
      
      NEWARRAY = "newarray", // new array instance
+     ANEWARRAY = "anewarray", // new array of references
      
 
   // Arithmetic Instructions
@@ -90,6 +111,16 @@ public final class JVM {
      FNEG = "fneg",
      INEG = "ineg",
      IXOR = "ixor",
+     IINC = "iinc", // add a signed byte to an int local variable
+     ISHL = "ishl",
+     ISHR = "ishr",
+     IUSHR = "iushr",
+     IAND = "iand",
+     // long arithmetic on the words of packed boolean arrays
+     LAND = "land",
+     LXOR = "lxor",
+     LSHL = "lshl",
+     LUSHR = "lushr",
      WIDE = "wide", // not supported by Jasmin
 
 
@@ -147,6 +178,7 @@ public final class JVM {
     BIPUSH = "bipush",
     SIPUSH = "sipush",
     LDC = "ldc",
+    LCONST_1 = "lconst_1",
 
   // Method invocation and return instructions
 
@@ -175,6 +207,8 @@ public final class JVM {
 
   // Type conversion instructions
     I2F = "i2f",
+    I2L = "i2l",
+    L2I = "l2i",
 
   // Object creation and manipulation
     NEW = "new", //finish
@@ -182,7 +216,13 @@ public final class JVM {
   // Operand Stack management instructions
    
     DUP = "dup", //finish
+    DUP_X1 = "dup_x1",
+    DUP_X2 = "dup_x2", // value under an array reference and an index
+    DUP2 = "dup2",
+    DUP2_X1 = "dup2_x1",
+    SWAP = "swap",
     POP = "pop", 
+    POP2 = "pop2",
     NOP = "nop"; //finish
 
 // Limitations of the JVM 
@@ -191,5 +231,8 @@ public final class JVM {
     MAX_BYTE = 255,  // 2^8 -1
     MAX_SHORT = 65535, // 2^16 - 1
     MAX_LOCALVARINDEX = MAX_SHORT, 
-    MAX_OPSTACK = MAX_SHORT;
+    MAX_OPSTACK = MAX_SHORT,
+    // HotSpot does not compile a method whose bytecode is longer than
+    // this (-XX:HugeMethodLimit)
+    MAX_METHOD_SIZE = 8000;
 }
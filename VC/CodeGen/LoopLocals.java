@@ -0,0 +1,54 @@
+/*
+ * LoopLocals.java
+ */
+
+// Finds the variables used in a loop that the Emitter may copy into
+// local variables for the duration of the loop (-O), in the order of
+// their first uses. These are
+//
+//   (1) the arrays, since the reference in an array variable never
+//       changes (arrays cannot be assigned in VC), so that an array kept
+//       in a static field is loaded once, not once per element, and
+//   (2) the scalar variables and parameters of a function being split
+//       (see Outliner.java), so that, in particular, the induction
+//       variable of a counted loop is an int local, which the JIT
+//       compiler needs to unroll and vectorise the loop.
+//
+// The Emitter copies back the scalars after the loop. Nothing else can
+// see them meanwhile, since a function being split is not recursive.
+// The initialisation of a for statement is not part of the loop, as it
+// is generated before the copies are made.
+
+package VC.CodeGen;
+
+import java.util.ArrayList;
+
+import VC.ASTs.*;
+import VC.Optimiser.ASTWalker;
+
+final class LoopLocals {
+
+  final ArrayList<Decl> variables = new ArrayList<Decl>();
+
+  LoopLocals(Stmt loop) {
+    ASTWalker walker = new ASTWalker() {
+      public Object visitSimpleVar(SimpleVar ast, Object o) {
+        Decl d = (Decl) ast.I.decl;
+        if ((d.T.isArrayType() || !(d instanceof GlobalVarDecl)) && !variables.contains(d))
+          variables.add(d);
+        return null;
+      }
+    };
+    if (loop instanceof ForStmt) {
+      ForStmt f = (ForStmt) loop;
+      f.E2.visit(walker, null);
+      f.E3.visit(walker, null);
+      f.S.visit(walker, null);
+    } else {
+      WhileStmt w = (WhileStmt) loop;
+      w.E.visit(walker, null);
+      w.S.visit(walker, null);
+    }
+  }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Outliner.java
+ */
+
+// Plans the splitting of the function bodies whose bytecode would be
+// too long for the JIT compiler of HotSpot (see JVM.MAX_METHOD_SIZE).
+//
+// The statements of the body of such a function are grouped into
+// chunks of consecutive statements, each of which is moved into a
+// method of its own taking no arguments and returning void. The
+// parameters and the top-level local variables of the function are
+// shared with these methods through static fields. As a result, the
+// functions that may call themselves, directly or indirectly, are
+// never split.
+//
+// A statement containing a return stays in the function.
+
+package VC.CodeGen;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+
+import VC.ASTs.*;
+import VC.Optimiser.ASTWalker;
+
+final class Outliner {
+
+  // the functions called (directly) by each function
+  private IdentityHashMap<FuncDecl, HashSet<FuncDecl>> callees;
+
+  Outliner(AST program) {
+    callees = new IdentityHashMap<FuncDecl, HashSet<FuncDecl>>();
+    program.visit(new ASTWalker() {
+      private HashSet<FuncDecl> current;
+
+      public Object visitFuncDecl(FuncDecl ast, Object o) {
+        current = new HashSet<FuncDecl>();
+        callees.put(ast, current);
+        ast.S.visit(this, o);
+        return null;
+      }
+
+      public Object visitCallExpr(CallExpr ast, Object o) {
+        current.add((FuncDecl) ast.I.decl);
+        ast.AL.visit(this, o);
+        return null;
+      }
+    }, null);
+  }
+
+  boolean isRecursive(FuncDecl f) {
+    HashSet<FuncDecl> visited = new HashSet<FuncDecl>();
+    ArrayList<FuncDecl> work = new ArrayList<FuncDecl>();
+    work.add(f);
+    while (!work.isEmpty()) {
+      HashSet<FuncDecl> called = callees.get(work.remove(work.size() - 1));
+      if (called == null) // a built-in function
+        continue;
+      for (FuncDecl g : called) {
+        if (g == f)
+          return true;
+        if (visited.add(g))
+          work.add(g);
+      }
+    }
+    return false;
+  }
+
+  // the parameters and the top-level local variables of f
+  static ArrayList<Decl> variables(FuncDecl f) {
+    ArrayList<Decl> vars = new ArrayList<Decl>();
+    for (List pl = f.PL; !pl.isEmpty(); pl = ((ParaList) pl).PL)
+      vars.add(((ParaList) pl).P);
+    if (f.S instanceof CompoundStmt)
+      for (List dl = ((CompoundStmt) f.S).DL; !dl.isEmpty(); dl = ((DeclList) dl).DL)
+        vars.add(((DeclList) dl).D);
+    return vars;
+  }
+
+  // Groups the top-level statements of f into chunks of at most
+  // "budget" bytes (as measured by sizes) unless a single statement is
+  // larger. The statements containing a return are left out.
+  static ArrayList<ArrayList<Stmt>> chunks(FuncDecl f,
+      IdentityHashMap<Stmt, Integer> sizes, int budget) {
+    ArrayList<ArrayList<Stmt>> chunks = new ArrayList<ArrayList<Stmt>>();
+    if (!(f.S instanceof CompoundStmt))
+      return chunks;
+    ArrayList<Stmt> chunk = null;
+    int size = 0;
+    for (List sl = ((CompoundStmt) f.S).SL; !sl.isEmpty(); sl = ((StmtList) sl).SL) {
+      Stmt s = ((StmtList) sl).S;
+      Integer n = sizes.get(s);
+      if (n == null || containsReturn(s)) {
+        chunk = null;
+        continue;
+      }
+      if (chunk == null || size + n > budget) {
+        chunk = new ArrayList<Stmt>();
+        chunks.add(chunk);
+        size = 0;
+      }
+      chunk.add(s);
+      size += n;
+    }
+    return chunks;
+  }
+
+  private static boolean containsReturn(Stmt s) {
+    final boolean[] found = { false };
+    s.visit(new ASTWalker() {
+      public Object visitReturnStmt(ReturnStmt ast, Object o) {
+        found[0] = true;
+        return null;
+      }
+    }, null);
+    return found[0];
+  }
+
+}
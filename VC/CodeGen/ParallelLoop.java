@@ -0,0 +1,61 @@
+/*
+ * ParallelLoop.java
+ */
+
+// A parallel for loop (see VC/Checker/ParallelForChecker.java)
+//
+//   parallel for (i = e1; i < e2; i = i + 1) S
+//
+// whose body S the Emitter generates as the method
+//
+//   void name(int lo, int hi, <captured>)
+//
+// called by VC.lang.Parallel for the subranges of e1 .. e2 - 1. The
+// captured variables are the local variables and parameters declared
+// outside S that S reads (S assigns none of them). Their values are
+// passed in the order of their first uses.
+
+package VC.CodeGen;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+import VC.ASTs.*;
+import VC.Optimiser.ASTWalker;
+
+final class ParallelLoop {
+
+  final ForStmt loop;
+  final String name;
+  final Decl variable;
+  final Expr bound;
+  final boolean inclusive;  // i <= e2
+  final ArrayList<Decl> captured = new ArrayList<Decl>();
+
+  ParallelLoop(ForStmt ast, String name) {
+    loop = ast;
+    this.name = name;
+    variable = (Decl) ((SimpleVar) ((VarExpr) ((AssignExpr) ast.E1).E1).V).I.decl;
+    BinaryExpr test = (BinaryExpr) ast.E2;
+    bound = test.E2;
+    inclusive = test.O.spelling.equals("i<=");
+
+    final IdentityHashMap<Decl, Boolean> declared = new IdentityHashMap<Decl, Boolean>();
+    ast.S.visit(new ASTWalker() {
+      public Object visitLocalVarDecl(LocalVarDecl ast, Object o) {
+        declared.put(ast, Boolean.TRUE);
+        return super.visitLocalVarDecl(ast, o);
+      }
+    }, null);
+    ast.S.visit(new ASTWalker() {
+      public Object visitSimpleVar(SimpleVar ast, Object o) {
+        Decl d = (Decl) ast.I.decl;
+        if ((d instanceof LocalVarDecl || d instanceof ParaDecl) && d != variable
+            && !declared.containsKey(d) && !captured.contains(d))
+          captured.add(d);
+        return null;
+      }
+    }, null);
+  }
+
+}
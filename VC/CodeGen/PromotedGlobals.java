@@ -0,0 +1,72 @@
+/*
+ * PromotedGlobals.java
+ */
+
+// Finds the global variables of a function that the Emitter keeps in
+// local variables while the function runs (-O). These are the globals
+// used inside the loops of the function.
+//
+// A scalar global assigned anywhere in the function is written back
+// to its static field before every call of a programmer-defined
+// function and before every return, and all the scalar globals are
+// reloaded after every such call since the callee may assign them.
+// The reference in an array global never changes (arrays cannot be
+// assigned in VC), so it is loaded once only.
+
+package VC.CodeGen;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import VC.ASTs.*;
+import VC.Optimiser.ASTWalker;
+
+final class PromotedGlobals {
+
+  // in the order of their first uses
+  final ArrayList<GlobalVarDecl> globals = new ArrayList<GlobalVarDecl>();
+  final HashSet<GlobalVarDecl> written = new HashSet<GlobalVarDecl>();
+
+  PromotedGlobals(FuncDecl f) {
+    f.S.visit(new ASTWalker() {
+      private int loops = 0;
+
+      public Object visitWhileStmt(WhileStmt ast, Object o) {
+        loops++;
+        super.visitWhileStmt(ast, o);
+        loops--;
+        return null;
+      }
+
+      public Object visitForStmt(ForStmt ast, Object o) {
+        loops++;
+        super.visitForStmt(ast, o);
+        loops--;
+        return null;
+      }
+
+      public Object visitSimpleVar(SimpleVar ast, Object o) {
+        if (loops > 0 && ast.I.decl instanceof GlobalVarDecl
+            && !globals.contains(ast.I.decl))
+          globals.add((GlobalVarDecl) ast.I.decl);
+        return null;
+      }
+
+      public Object visitAssignExpr(AssignExpr ast, Object o) {
+        if (ast.E1 instanceof VarExpr) {
+          Decl decl = (Decl) ((SimpleVar) ((VarExpr) ast.E1).V).I.decl;
+          if (decl instanceof GlobalVarDecl)
+            written.add((GlobalVarDecl) decl);
+        }
+        return super.visitAssignExpr(ast, o);
+      }
+    }, null);
+    // only the written globals that are promoted need a write-back
+    written.retainAll(globals);
+  }
+
+  boolean isEmpty() {
+    return globals.isEmpty();
+  }
+
+}
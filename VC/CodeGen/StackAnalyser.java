@@ -0,0 +1,178 @@
+/*
+ * StackAnalyser.java
+ */
+
+// Computes the maximum depth of the operand stack of a method from its
+// Jasmin instructions, in the way the JVM verifier does: the depth on
+// entry to each instruction is propagated along every path of the
+// branch graph with a worklist, starting from 0 at the first
+// instruction. Unreachable instructions are ignored.
+//
+// Only the instructions generated by the Emitter and IRLowering need
+// to be understood. Every value they manipulate takes one stack slot.
+
+package VC.CodeGen;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public final class StackAnalyser {
+
+  private StackAnalyser() {
+  }
+
+  // returns the maximum operand stack depth of the method whose
+  // instructions are code[from] .. code[to - 1]
+  public static int maxStack(Instruction[] code, int from, int to) {
+    int n = to - from;
+    String[] op = new String[n];
+    String[] operand = new String[n];
+    HashMap<String, Integer> labels = new HashMap<String, Integer>();
+
+    for (int i = 0; i < n; i++) {
+      String inst = code[from + i].inst.trim();
+      if (inst.length() == 0 || inst.startsWith(".") || inst.startsWith(";"))
+        continue;
+      if (inst.endsWith(":")) {
+        labels.put(inst.substring(0, inst.length() - 1), i);
+        continue;
+      }
+      int sp = inst.indexOf(' ');
+      op[i] = (sp < 0) ? inst : inst.substring(0, sp);
+      operand[i] = (sp < 0) ? "" : inst.substring(sp + 1).trim();
+    }
+
+    int[] depth = new int[n + 1];
+    Arrays.fill(depth, -1);
+    ArrayDeque<Integer> work = new ArrayDeque<Integer>();
+    depth[0] = 0;
+    work.add(0);
+    int max = 0;
+
+    while (!work.isEmpty()) {
+      int i = work.poll();
+      int d = depth[i];
+      if (i == n)
+        continue;
+      if (op[i] == null) { // label, directive or comment
+        flow(depth, work, i + 1, d);
+        continue;
+      }
+      d += effect(op[i], operand[i]);
+      if (d > max)
+        max = d;
+      if (isBranch(op[i])) {
+        Integer target = labels.get(lastToken(operand[i]));
+        if (target != null)
+          flow(depth, work, target, d);
+      }
+      if (!endsBlock(op[i]))
+        flow(depth, work, i + 1, d);
+    }
+    return max;
+  }
+
+  public static int maxStack(int from, int to) {
+    return maxStack(JVM.code, from, to);
+  }
+
+  private static void flow(int[] depth, ArrayDeque<Integer> work, int i, int d) {
+    // The depths of all paths into an instruction are the same in
+    // correct code; the largest one is kept otherwise.
+    if (d > depth[i]) {
+      depth[i] = d;
+      work.add(i);
+    }
+  }
+
+  private static String lastToken(String s) {
+    int i = s.lastIndexOf(' ');
+    return (i < 0) ? s : s.substring(i + 1);
+  }
+
+  private static boolean isBranch(String op) {
+    return op.equals(JVM.GOTO) || op.startsWith("if");
+  }
+
+  private static boolean endsBlock(String op) {
+    return op.equals(JVM.GOTO) || op.endsWith("return") || op.equals("athrow");
+  }
+
+  // the net change in the depth of the operand stack
+  static int effect(String op, String operand) {
+    if (op.startsWith("invoke")) {
+      int i = operand.indexOf('(');
+      int j = operand.indexOf(')');
+      int args = slots(operand.substring(i + 1, j));
+      String ret = operand.substring(j + 1);
+      int result = ret.equals("V") ? 0 : slots(ret);
+      return result - args - (op.equals(JVM.INVOKESTATIC) ? 0 : 1);
+    }
+    if (op.equals(JVM.GETSTATIC))
+      return slots(lastToken(operand));
+    if (op.equals(JVM.PUTSTATIC))
+      return -slots(lastToken(operand));
+
+    // a long takes two slots (packed boolean arrays only)
+    if (op.equals(JVM.LALOAD))
+      return 0;
+    if (op.equals(JVM.LASTORE))
+      return -4;
+    if (op.equals(JVM.LAND) || op.equals(JVM.LXOR))
+      return -2;
+    if (op.equals(JVM.LSHL) || op.equals(JVM.LUSHR) || op.equals(JVM.L2I))
+      return -1;
+    if (op.equals(JVM.I2L))
+      return 1;
+    if (op.equals(JVM.LCONST_1) || op.equals(JVM.DUP2_X1))
+      return 2;
+    if (op.startsWith("iconst") || op.startsWith("fconst") || op.equals("aconst_null")
+        || op.equals(JVM.BIPUSH) || op.equals(JVM.SIPUSH) || op.startsWith("ldc")
+        || op.startsWith("iload") || op.startsWith("fload") || op.startsWith("aload")
+        || op.equals(JVM.NEW) || op.startsWith("dup_") || op.equals(JVM.DUP))
+      return 1;
+    if (op.equals(JVM.DUP2))
+      return 2;
+    if (op.startsWith("istore") || op.startsWith("fstore") || op.startsWith("astore")
+        || op.equals(JVM.POP) || op.equals(JVM.IRETURN) || op.equals(JVM.FRETURN)
+        || op.equals("areturn") || op.equals("athrow"))
+      return -1;
+    if (op.startsWith("if_icmp") || op.startsWith("if_acmp") || op.equals("pop2"))
+      return -2;
+    if (op.startsWith("if"))                 // ifeq, ifne, ..., ifnull
+      return -1;
+    if (op.endsWith("astore"))               // iastore, fastore, bastore, ...
+      return -3;
+    if (op.endsWith("aload"))                // iaload, faload, baload, ...
+      return -1;
+    if (op.equals(JVM.IADD) || op.equals(JVM.FADD) || op.equals(JVM.ISUB)
+        || op.equals(JVM.FSUB) || op.equals(JVM.IMUL) || op.equals(JVM.FMUL)
+        || op.equals(JVM.IDIV) || op.equals(JVM.FDIV) || op.equals("irem")
+        || op.equals("frem") || op.equals(JVM.FCMPG) || op.equals(JVM.FCMPL)
+        || op.equals(JVM.IXOR) || op.equals(JVM.IAND) || op.equals("ior")
+        || op.equals(JVM.ISHL) || op.equals(JVM.ISHR) || op.equals(JVM.IUSHR))
+      return -1;
+    // newarray, ineg, fneg, i2f, iinc, swap, goto, return, nop, ...
+    return 0;
+  }
+
+  // the number of stack slots taken by the values of a sequence of
+  // field descriptors
+  private static int slots(String descriptors) {
+    int n = 0;
+    int i = 0;
+    while (i < descriptors.length()) {
+      char c = descriptors.charAt(i);
+      while (c == '[')
+        c = descriptors.charAt(++i);
+      boolean array = i > 0 && descriptors.charAt(i - 1) == '[';
+      if (c == 'L')
+        i = descriptors.indexOf(';', i);
+      n += (!array && (c == 'J' || c == 'D')) ? 2 : 1;
+      i++;
+    }
+    return n;
+  }
+
+}
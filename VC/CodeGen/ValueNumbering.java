@@ -0,0 +1,173 @@
+/*
+ * ValueNumbering.java
+ */
+
+// Local value numbering (-O). The expressions evaluated one after
+// another with no branches in between, such as the expressions of a
+// run of expression statements, are walked in the order in which the
+// Emitter evaluates them. An arithmetic or comparison expression or
+// an array element equal to one evaluated earlier is not evaluated
+// again: the earlier one is kept in a local variable and reused.
+//
+// Two expressions are equal if they have the same operators and
+// constants and refer to the same declarations (Ident.decl). An
+// assignment to a variable kills the expressions that read it, an
+// assignment to an array element kills all the array elements (an
+// array parameter may refer to any array) and a call kills everything
+// (it may assign globals and array elements). The right operand of
+// && and || may not be evaluated, so its expressions are not kept.
+
+package VC.CodeGen;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+
+import VC.ASTs.*;
+
+final class ValueNumbering {
+
+  // the roots of the expressions numbered so far
+  private final IdentityHashMap<Expr, Boolean> numbered = new IdentityHashMap<Expr, Boolean>();
+  // the expressions not evaluated and the earlier ones they reuse
+  private final IdentityHashMap<Expr, Expr> reuses = new IdentityHashMap<Expr, Expr>();
+  // the expressions kept for reuse
+  private final IdentityHashMap<Expr, Boolean> kept = new IdentityHashMap<Expr, Boolean>();
+  // the declarations by number, used in the keys
+  private final IdentityHashMap<Decl, Integer> ids = new IdentityHashMap<Decl, Integer>();
+
+  // the expressions available in the sequence being walked by key
+  private HashMap<String, Expr> available;
+  private int conditional;
+
+  // numbers a sequence of expressions evaluated in this order
+  void number(java.util.List<Expr> exprs) {
+    available = new HashMap<String, Expr>();
+    conditional = 0;
+    for (Expr e : exprs) {
+      numbered.put(e, Boolean.TRUE);
+      walk(e);
+    }
+    available = null;
+  }
+
+  boolean isNumbered(Expr e) {
+    return numbered.containsKey(e);
+  }
+
+  // the earlier expression an expression reuses, or null
+  Expr reuseOf(Expr e) {
+    return reuses.get(e);
+  }
+
+  boolean isKept(Expr e) {
+    return kept.containsKey(e);
+  }
+
+  private void walk(Expr e) {
+    String key = isCandidate(e) ? key(e) : null;
+    if (key != null && available.containsKey(key)) {
+      Expr earlier = available.get(key);
+      reuses.put(e, earlier);
+      kept.put(earlier, Boolean.TRUE);
+      return;
+    }
+
+    if (e instanceof UnaryExpr)
+      walk(((UnaryExpr) e).E);
+    else if (e instanceof BinaryExpr) {
+      BinaryExpr b = (BinaryExpr) e;
+      walk(b.E1);
+      if (isShortCircuit(b))
+        conditional++;
+      walk(b.E2);
+      if (isShortCircuit(b))
+        conditional--;
+    } else if (e instanceof ArrayExpr)
+      walk(((ArrayExpr) e).E);
+    else if (e instanceof AssignExpr) {
+      AssignExpr a = (AssignExpr) e;
+      if (a.E1 instanceof ArrayExpr) {
+        walk(((ArrayExpr) a.E1).E);
+        walk(a.E2);
+        kill("[");
+      } else {
+        walk(a.E2);
+        kill("v" + id(decl(((VarExpr) a.E1).V)) + ";");
+      }
+    } else if (e instanceof CallExpr) {
+      for (List l = ((CallExpr) e).AL; !l.isEmpty(); l = ((ArgList) l).AL)
+        walk(((ArgList) l).A.E);
+      available.clear();
+    }
+
+    if (key != null && conditional == 0)
+      available.put(key, e);
+  }
+
+  private void kill(String token) {
+    for (Iterator<String> i = available.keySet().iterator(); i.hasNext(); )
+      if (i.next().contains(token))
+        i.remove();
+  }
+
+  private static boolean isCandidate(Expr e) {
+    if (e instanceof BinaryExpr)
+      return !isShortCircuit((BinaryExpr) e);
+    if (e instanceof UnaryExpr) {
+      String op = ((UnaryExpr) e).O.spelling;
+      return op.equals("i-") || op.equals("f-") || op.equals("i!");
+    }
+    return e instanceof ArrayExpr;
+  }
+
+  private static boolean isShortCircuit(BinaryExpr e) {
+    return e.O.spelling.equals("i&&") || e.O.spelling.equals("i||");
+  }
+
+  // the key of an expression without side effects, or null
+  private String key(Expr e) {
+    if (e instanceof IntExpr)
+      return "#i" + ((IntExpr) e).IL.spelling;
+    if (e instanceof FloatExpr)
+      return "#f" + ((FloatExpr) e).FL.spelling;
+    if (e instanceof BooleanExpr)
+      return "#b" + ((BooleanExpr) e).BL.spelling;
+    if (e instanceof VarExpr) {
+      Decl d = decl(((VarExpr) e).V);
+      return d.T.isArrayType() ? null : "v" + id(d) + ";";
+    }
+    if (e instanceof ArrayExpr) {
+      String index = key(((ArrayExpr) e).E);
+      return (index == null) ? null 
+          : "[" + id(decl(((ArrayExpr) e).V)) + ";" + index + "]";
+    }
+    if (e instanceof UnaryExpr) {
+      String operand = key(((UnaryExpr) e).E);
+      return (operand == null) ? null 
+          : "(" + ((UnaryExpr) e).O.spelling + " " + operand + ")";
+    }
+    if (e instanceof BinaryExpr && !isShortCircuit((BinaryExpr) e)) {
+      BinaryExpr b = (BinaryExpr) e;
+      String left = key(b.E1);
+      String right = key(b.E2);
+      return (left == null || right == null) ? null 
+          : "(" + b.O.spelling + " " + left + " " + right + ")";
+    }
+    return null;
+  }
+
+  private static Decl decl(Var v) {
+    return (Decl) ((SimpleVar) v).I.decl;
+  }
+
+  private int id(Decl d) {
+    Integer n = ids.get(d);
+    if (n == null) {
+      n = ids.size();
+      ids.put(d, n);
+    }
+    return n;
+  }
+
+}
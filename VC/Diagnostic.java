@@ -0,0 +1,75 @@
+/*
+ * Diagnostic.java     
+ */
+
+// An error or a warning reported by one of the passes of the compiler.
+// The code of a semantic error is the "*n" its message starts with (see
+// VC/Checker/errorTypes.txt); other diagnostics have no code.
+
+package VC;
+
+import VC.Scanner.SourcePosition;
+
+public class Diagnostic implements Comparable<Diagnostic> {
+
+    public final String severity;  // "ERROR" or "WARNING"
+    public final String code;
+    public final String message;
+    public final SourcePosition position;
+    private final int order;       // among all the diagnostics reported
+
+    public Diagnostic(String severity, String message, SourcePosition position, int order) {
+        this.severity = severity;
+        this.message = message;
+        this.position = position;
+        this.order = order;
+        int i = 1;
+        while (i < message.length() && Character.isDigit(message.charAt(i)))
+            i++;
+        code = (message.startsWith("*") && i > 1) ? message.substring(0, i) : "";
+    }
+
+    // by position, and then in the order reported
+    public int compareTo(Diagnostic d) {
+        if (position.lineStart != d.position.lineStart)
+            return position.lineStart < d.position.lineStart ? -1 : 1;
+        if (position.charStart != d.position.charStart)
+            return position.charStart < d.position.charStart ? -1 : 1;
+        return order < d.order ? -1 : (order == d.order ? 0 : 1);
+    }
+
+    // identifies a diagnostic repeated at the same place
+    String key() {
+        return severity + " " + positionString() + " " + message;
+    }
+
+    String positionString() {
+        return position.lineStart + "(" + position.charStart + ").."
+            + position.lineFinish + "(" + position.charFinish + ")";
+    }
+
+    public String toString() {
+        return severity + ": " + positionString() + ": " + message;
+    }
+
+    public String toJSON() {
+        return "{\"severity\": \"" + severity.toLowerCase() + "\", \"code\": \"" + quote(code)
+            + "\", \"message\": \"" + quote(message)
+            + "\", \"line\": " + position.lineStart + ", \"column\": " + position.charStart
+            + ", \"endLine\": " + position.lineFinish + ", \"endColumn\": " + position.charFinish + "}";
+    }
+
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\')
+                sb.append('\\').append(c);
+            else if (c < ' ')
+                sb.append(String.format("\\u%04x", (int) c));
+            else
+                sb.append(c);
+        }
+        return sb.toString();
+    }
+}
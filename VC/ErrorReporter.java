@@ -2,34 +2,126 @@
  * ErrorReporter.java     
  */
 
+// The errors and warnings reported are collected as Diagnostics and
+// written out together by flush, sorted by position, once a pass is
+// over, so the output is in order within each pass only. A diagnostic
+// repeated at the same place is written once, and at most
+// MAX_DIAGNOSTICS are written in all; the rest are counted only. With
+// enableJSON, they are written into a JSON file by writeJSON instead
+// of the standard output, all sorted by position, together with the
+// number dropped.
+
 package VC;
 
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+
 import VC.Scanner.SourcePosition;
 
 public class ErrorReporter {
 
     public int numErrors;
+    public int numWarnings;
+
+    public final static int MAX_DIAGNOSTICS = 100;
+
+    private ArrayList<Diagnostic> pending = new ArrayList<Diagnostic>();
+    private ArrayList<Diagnostic> written = new ArrayList<Diagnostic>();
+    private HashSet<String> reported = new HashSet<String>();
+    private int numReported = 0;
+    private int numDropped = 0;
+    private boolean json = false;
+    private boolean closed = false;
+
+    private PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
 
     public ErrorReporter() {
         numErrors = 0;
+        numWarnings = 0;
+    }
+
+    // Writes the diagnostics to out instead of the standard output.
+    public ErrorReporter(PrintWriter out) {
+        this();
+        this.out = out;
+    }
+
+    public void enableJSON() {
+        json = true;
     }
 
     public void reportError(String message, String tokenName, SourcePosition pos) {
-        System.out.print("ERROR: ");
-        System.out.print(pos.lineStart + "(" + pos.charStart + ").."
-                + pos.lineFinish + "(" + pos.charFinish + "): ");
+        if (report("ERROR", message, tokenName, pos))
+            numErrors++;
+    }
 
-        for (int p = 0; p < message.length(); p++)
-            if (message.charAt(p) == '%')
-                System.out.print(tokenName);
-            else
-                System.out.print(message.charAt(p));
+    // A warning does not stop the compilation.
+    public void reportWarning(String message, String tokenName, SourcePosition pos) {
+        if (report("WARNING", message, tokenName, pos))
+            numWarnings++;
+    }
 
-        System.out.println();
-        numErrors++;
+    private boolean report(String severity, String message, String tokenName, SourcePosition pos) {
+        Diagnostic d = new Diagnostic(severity, message.replace("%", tokenName), pos, numReported++);
+        if (!reported.add(d.key()))
+            return false;
+        pending.add(d);
+        return true;
     }
 
     public void reportRestriction(String message) {
+        flush();
         System.out.println("RESTRICTION: " + message);
     }
+
+    // Writes the diagnostics reported since the last flush.
+    public void flush() {
+        Collections.sort(pending);
+        for (Diagnostic d : pending)
+            if (written.size() >= MAX_DIAGNOSTICS)
+                numDropped++;
+            else {
+                written.add(d);
+                if (!json)
+                    out.println(d);
+            }
+        pending.clear();
+        out.flush();
+    }
+
+    // Writes the summary of the diagnostics not written, if any.
+    // Only the first call does anything, so that vc can also close the
+    // reporter when a pass calls System.exit.
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        flush();
+        if (numDropped > 0 && !json)
+            out.println("[# vc #]: " + numDropped + " more diagnostic(s) not shown");
+        out.flush();
+    }
+
+    public void writeJSON(String filename) {
+        flush();
+        try {
+            PrintWriter file = new PrintWriter(new BufferedWriter(new FileWriter(filename)));
+            ArrayList<Diagnostic> sorted = new ArrayList<Diagnostic>(written);
+            Collections.sort(sorted);
+            file.println("{\"errors\": " + numErrors + ", \"warnings\": " + numWarnings
+                + ", \"dropped\": " + numDropped + ", \"diagnostics\": [");
+            for (int i = 0; i < sorted.size(); i++)
+                file.println("  " + sorted.get(i).toJSON() + (i + 1 < sorted.size() ? "," : ""));
+            file.println("]}");
+            file.close();
+        } catch (IOException e) {
+            System.out.println("[# vc #]: cannot write " + filename + ": " + e.getMessage());
+        }
+    }
 }
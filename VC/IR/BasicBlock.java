@@ -0,0 +1,55 @@
+/*
+ * BasicBlock.java
+ */
+
+package VC.IR;
+
+import java.util.ArrayList;
+
+public class BasicBlock {
+
+  public int id;
+  public String label;
+  public ArrayList<Quad> quads;
+  public ArrayList<BasicBlock> preds;
+  public ArrayList<BasicBlock> succs;
+
+  // Computed by SSABuilder:
+  //   rpo         the position of this block in reverse postorder
+  //   idom        the immediate dominator (the entry is its own idom)
+  //   domChildren the blocks immediately dominated by this block
+  //   frontier    the dominance frontier of this block
+  public int rpo = -1;
+  public BasicBlock idom;
+  public ArrayList<BasicBlock> domChildren;
+  public ArrayList<BasicBlock> frontier;
+
+  public BasicBlock(int id) {
+    this.id = id;
+    this.label = "B" + id;
+    quads = new ArrayList<Quad>();
+    preds = new ArrayList<BasicBlock>();
+    succs = new ArrayList<BasicBlock>();
+  }
+
+  public boolean isTerminated() {
+    return !quads.isEmpty() && quads.get(quads.size() - 1).isTerminator();
+  }
+
+  public Quad terminator() {
+    return isTerminated() ? quads.get(quads.size() - 1) : null;
+  }
+
+  // the number of phi functions at the start of this block
+  public int phiCount() {
+    int n = 0;
+    while (n < quads.size() && quads.get(n).isPhi())
+      n++;
+    return n;
+  }
+
+  public String toString() {
+    return label;
+  }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Constant.java
+ */
+
+package VC.IR;
+
+import VC.ASTs.Type;
+import VC.StdEnvironment;
+
+public class Constant extends Operand {
+
+  public Type type;
+  public Object value; // an Integer, a Float, a Boolean or a String
+
+  public Constant(Type type, Object value) {
+    this.type = type;
+    this.value = value;
+  }
+
+  public static Constant intConst(int i) {
+    return new Constant(StdEnvironment.intType, Integer.valueOf(i));
+  }
+
+  public static Constant floatConst(float f) {
+    return new Constant(StdEnvironment.floatType, Float.valueOf(f));
+  }
+
+  public static Constant boolConst(boolean b) {
+    return new Constant(StdEnvironment.booleanType, Boolean.valueOf(b));
+  }
+
+  public String toString() {
+    if (value instanceof String)
+      return "\"" + value + "\"";
+    return value.toString();
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * ControlFlowGraph.java
+ */
+
+// The control-flow graph of one VC function. Blocks are kept in the
+// order in which they were created by the IRBuilder, which is also
+// the order in which IRLowering lays them out.
+
+package VC.IR;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import VC.ASTs.Decl;
+import VC.ASTs.FuncDecl;
+import VC.ASTs.Type;
+
+public class ControlFlowGraph {
+
+  public FuncDecl func;
+  public BasicBlock entry;
+  public ArrayList<BasicBlock> blocks;
+  public ArrayList<Temp> temps;
+
+  // true once SSABuilder.construct has been applied
+  public boolean ssa;
+
+  private int nextTempId;
+
+  public ControlFlowGraph(FuncDecl func) {
+    this.func = func;
+    blocks = new ArrayList<BasicBlock>();
+    temps = new ArrayList<Temp>();
+    nextTempId = 0;
+    ssa = false;
+    entry = newBlock();
+  }
+
+  public boolean isMain() {
+    return func.I.spelling.equals("main");
+  }
+
+  public BasicBlock newBlock() {
+    BasicBlock b = new BasicBlock(blocks.size());
+    blocks.add(b);
+    return b;
+  }
+
+  public Temp newTemp(Type type, Decl decl) {
+    Temp t = new Temp(nextTempId++, type, decl);
+    temps.add(t);
+    return t;
+  }
+
+  public Temp newVersion(Temp base, int version) {
+    Temp t = new Temp(base, nextTempId++, version);
+    temps.add(t);
+    return t;
+  }
+
+  public static void addEdge(BasicBlock from, BasicBlock to) {
+    from.succs.add(to);
+    to.preds.add(from);
+  }
+
+  // Splits the edge from -> to by inserting a new block holding a
+  // single GOTO. Phi operands in "to" keep their positions.
+  public BasicBlock splitEdge(BasicBlock from, BasicBlock to) {
+    BasicBlock mid = newBlock();
+    Quad jump = new Quad(Quad.GOTO, null);
+    jump.targets = new BasicBlock[] { to };
+    mid.quads.add(jump);
+
+    from.succs.set(from.succs.indexOf(to), mid);
+    Quad t = from.terminator();
+    for (int i = 0; i < t.targets.length; i++)
+      if (t.targets[i] == to)
+        t.targets[i] = mid;
+    to.preds.set(to.preds.indexOf(from), mid);
+    mid.preds.add(from);
+    mid.succs.add(to);
+    return mid;
+  }
+
+  // Removes the blocks that cannot be reached from the entry, such as
+  // those holding the statements after a return, break or continue.
+  public int removeUnreachable() {
+    HashSet<BasicBlock> reached = new HashSet<BasicBlock>();
+    ArrayList<BasicBlock> work = new ArrayList<BasicBlock>();
+    reached.add(entry);
+    work.add(entry);
+    while (!work.isEmpty()) {
+      BasicBlock b = work.remove(work.size() - 1);
+      for (BasicBlock s : b.succs)
+        if (reached.add(s))
+          work.add(s);
+    }
+
+    int removed = 0;
+    ArrayList<BasicBlock> live = new ArrayList<BasicBlock>();
+    for (BasicBlock b : blocks) {
+      if (reached.contains(b)) {
+        live.add(b);
+        continue;
+      }
+      removed++;
+      for (BasicBlock s : b.succs) {
+        if (!reached.contains(s))
+          continue;
+        int j = s.preds.indexOf(b);
+        s.preds.remove(j);
+        for (int k = 0; k < s.phiCount(); k++) {
+          Quad phi = s.quads.get(k);
+          Operand[] args = new Operand[phi.args.length - 1];
+          for (int m = 0, n = 0; m < phi.args.length; m++)
+            if (m != j)
+              args[n++] = phi.args[m];
+          phi.args = args;
+        }
+      }
+    }
+    blocks = live;
+    return removed;
+  }
+
+  public void print(PrintWriter out) {
+    out.println("function " + func.I.spelling + (ssa ? " (SSA)" : ""));
+    for (BasicBlock b : blocks) {
+      out.print(b.label + ":");
+      if (!b.preds.isEmpty()) {
+        out.print("    ; preds");
+        for (BasicBlock p : b.preds)
+          out.print(" " + p.label);
+      }
+      out.println();
+      for (Quad q : b.quads)
+        out.println("\t" + q);
+    }
+    out.println();
+  }
+
+}
@@ -0,0 +1,559 @@
+/*
+ * IRBuilder.java
+ */
+
+// Lowers the checked AST of a function into a control-flow graph of
+// basic blocks of quadruples.
+//
+// Every visitor method for an expression returns the Operand holding
+// its value (or null for a void call and an EmptyExpr). Reads of
+// variables are copied into fresh temporaries so that an assignment
+// embedded in an expression, as in x + (x = 1), does not change the
+// value of an operand that has already been evaluated.
+//
+// PRE: the AST has been decorated by the Checker without errors.
+
+package VC.IR;
+
+import java.util.IdentityHashMap;
+import java.util.Stack;
+
+import VC.ASTs.*;
+import VC.CodeGen.JVM;
+import VC.StdEnvironment;
+
+public final class IRBuilder implements Visitor {
+
+  private ControlFlowGraph cfg;
+  private BasicBlock current;
+  private IdentityHashMap<Decl, Temp> vars;
+  private Stack<BasicBlock> brkStack;
+  private Stack<BasicBlock> conStack;
+
+  public ControlFlowGraph build(FuncDecl ast) {
+    ast.visit(this, null);
+    cfg.removeUnreachable();
+    return cfg;
+  }
+
+  // Auxiliary methods for building the graph
+
+  private Quad append(Quad q) {
+    current.quads.add(q);
+    return q;
+  }
+
+  private Temp newTemp(Type type) {
+    return cfg.newTemp(type, null);
+  }
+
+  private void jump(BasicBlock target) {
+    Quad q = append(new Quad(Quad.GOTO, null));
+    q.targets = new BasicBlock[] { target };
+    ControlFlowGraph.addEdge(current, target);
+  }
+
+  private void branch(Operand cond, BasicBlock ifTrue, BasicBlock ifFalse) {
+    Quad q = append(new Quad(Quad.IF, null, cond));
+    q.targets = new BasicBlock[] { ifTrue, ifFalse };
+    ControlFlowGraph.addEdge(current, ifTrue);
+    ControlFlowGraph.addEdge(current, ifFalse);
+  }
+
+  // Starts a new block. If the current block falls through, it is
+  // terminated with a jump to the new one.
+  private void startBlock(BasicBlock b) {
+    if (!current.isTerminated())
+      jump(b);
+    current = b;
+  }
+
+  // Starts a block with no predecessors to hold any code after a
+  // return, break or continue. It is removed by removeUnreachable.
+  private void startDeadBlock() {
+    current = cfg.newBlock();
+  }
+
+  private Temp declare(Decl decl) {
+    Temp t = cfg.newTemp(decl.T, decl);
+    vars.put(decl, t);
+    return t;
+  }
+
+  private static String arithOpcode(String op) {
+    if (op.equals("i+")) return JVM.IADD;
+    if (op.equals("f+")) return JVM.FADD;
+    if (op.equals("i-")) return JVM.ISUB;
+    if (op.equals("f-")) return JVM.FSUB;
+    if (op.equals("i*")) return JVM.IMUL;
+    if (op.equals("f*")) return JVM.FMUL;
+    if (op.equals("i/")) return JVM.IDIV;
+    if (op.equals("f/")) return JVM.FDIV;
+    return null;
+  }
+
+  static String arrayOpcode(Type elemType, boolean store) {
+    if (elemType.isFloatType())
+      return store ? JVM.FASTORE : JVM.FALOAD;
+    else if (elemType.isBooleanType())
+      return store ? JVM.BASTORE : JVM.BALOAD;
+    else
+      return store ? JVM.IASTORE : JVM.IALOAD;
+  }
+
+  // the array reference of the array variable in an ArrayExpr or in an
+  // argument passing a whole array
+  private Operand arrayRef(SimpleVar var) {
+    Decl decl = (Decl) var.I.decl;
+    if (decl instanceof GlobalVarDecl) {
+      Quad q = append(new Quad(Quad.GETSTATIC, newTemp(decl.T)));
+      q.decl = decl;
+      return q.dest;
+    }
+    return vars.get(decl);
+  }
+
+  private void initArray(Operand array, Type elemType, List il) {
+    int i = 0;
+    while (!il.isEmpty()) {
+      ExprList el = (ExprList) il;
+      Operand value = (Operand) el.E.visit(this, null);
+      append(new Quad(arrayOpcode(elemType, true), null, array, Constant.intConst(i), value));
+      il = el.EL;
+      i++;
+    }
+  }
+
+  private Constant defaultValue(Type type) {
+    if (type.isFloatType())
+      return Constant.floatConst(0.0F);
+    else if (type.isBooleanType())
+      return Constant.boolConst(false);
+    else
+      return Constant.intConst(0);
+  }
+
+  // Programs
+
+  public Object visitProgram(Program ast, Object o) {
+    return null;
+  }
+
+  // Lists for denoting the null reference
+
+  public Object visitEmptyDeclList(EmptyDeclList ast, Object o) {
+    return null;
+  }
+
+  public Object visitEmptyStmtList(EmptyStmtList ast, Object o) {
+    return null;
+  }
+
+  public Object visitEmptyExprList(EmptyExprList ast, Object o) {
+    return null;
+  }
+
+  public Object visitEmptyParaList(EmptyParaList ast, Object o) {
+    return null;
+  }
+
+  public Object visitEmptyArgList(EmptyArgList ast, Object o) {
+    return null;
+  }
+
+  // Declarations
+
+  public Object visitDeclList(DeclList ast, Object o) {
+    ast.D.visit(this, o);
+    ast.DL.visit(this, o);
+    return null;
+  }
+
+  public Object visitFuncDecl(FuncDecl ast, Object o) {
+    cfg = new ControlFlowGraph(ast);
+    current = cfg.entry;
+    vars = new IdentityHashMap<Decl, Temp>();
+    brkStack = new Stack<BasicBlock>();
+    conStack = new Stack<BasicBlock>();
+
+    ast.PL.visit(this, o);
+    ast.S.visit(this, o);
+
+    // JVM requires an explicit return at the end of every method
+    if (!current.isTerminated()) {
+      if (cfg.isMain() || ast.T.isVoidType())
+        append(new Quad(Quad.RETURN, null));
+      else
+        append(new Quad(Quad.RETURN, null, defaultValue(ast.T)));
+    }
+    return null;
+  }
+
+  public Object visitGlobalVarDecl(GlobalVarDecl ast, Object o) {
+    return null;
+  }
+
+  public Object visitLocalVarDecl(LocalVarDecl ast, Object o) {
+    Temp t = declare(ast);
+    if (ast.T.isArrayType()) {
+      ArrayType at = (ArrayType) ast.T;
+      append(new Quad(Quad.NEWARRAY, t, (Operand) at.E.visit(this, o)));
+      if (ast.E instanceof InitExpr)
+        initArray(t, at.T, ((InitExpr) ast.E).IL);
+    } else if (!ast.E.isEmptyExpr()) {
+      append(new Quad(Quad.COPY, t, (Operand) ast.E.visit(this, o)));
+    } else {
+      // gives every variable a definition on all paths
+      append(new Quad(Quad.COPY, t, defaultValue(ast.T)));
+    }
+    return null;
+  }
+
+  // Stmts
+
+  public Object visitStmtList(StmtList ast, Object o) {
+    ast.S.visit(this, o);
+    ast.SL.visit(this, o);
+    return null;
+  }
+
+  public Object visitIfStmt(IfStmt ast, Object o) {
+    Operand cond = (Operand) ast.E.visit(this, o);
+    BasicBlock thenBlock = cfg.newBlock();
+    BasicBlock elseBlock = ast.S2.isEmptyStmt() ? null : cfg.newBlock();
+    BasicBlock nextBlock = cfg.newBlock();
+    if (elseBlock == null)
+      elseBlock = nextBlock;
+
+    branch(cond, thenBlock, elseBlock);
+    current = thenBlock;
+    ast.S1.visit(this, o);
+    if (elseBlock != nextBlock) {
+      if (!current.isTerminated())
+        jump(nextBlock);
+      current = elseBlock;
+      ast.S2.visit(this, o);
+    }
+    startBlock(nextBlock);
+    return null;
+  }
+
+  public Object visitWhileStmt(WhileStmt ast, Object o) {
+    BasicBlock head = cfg.newBlock();
+    BasicBlock body = cfg.newBlock();
+    BasicBlock exit = cfg.newBlock();
+
+    startBlock(head);
+    branch((Operand) ast.E.visit(this, o), body, exit);
+
+    current = body;
+    conStack.push(head);
+    brkStack.push(exit);
+    ast.S.visit(this, o);
+    conStack.pop();
+    brkStack.pop();
+    if (!current.isTerminated())
+      jump(head);
+
+    current = exit;
+    return null;
+  }
+
+  public Object visitForStmt(ForStmt ast, Object o) {
+    BasicBlock head = cfg.newBlock();
+    BasicBlock body = cfg.newBlock();
+    BasicBlock step = cfg.newBlock();
+    BasicBlock exit = cfg.newBlock();
+
+    ast.E1.visit(this, o);
+    startBlock(head);
+    if (ast.E2.isEmptyExpr())
+      jump(body);
+    else
+      branch((Operand) ast.E2.visit(this, o), body, exit);
+
+    current = body;
+    conStack.push(step);
+    brkStack.push(exit);
+    ast.S.visit(this, o);
+    conStack.pop();
+    brkStack.pop();
+
+    startBlock(step);
+    ast.E3.visit(this, o);
+    jump(head);
+
+    current = exit;
+    return null;
+  }
+
+  public Object visitBreakStmt(BreakStmt ast, Object o) {
+    jump(brkStack.peek());
+    startDeadBlock();
+    return null;
+  }
+
+  public Object visitContinueStmt(ContinueStmt ast, Object o) {
+    jump(conStack.peek());
+    startDeadBlock();
+    return null;
+  }
+
+  public Object visitReturnStmt(ReturnStmt ast, Object o) {
+    // return expr in main is translated into return (see Emitter)
+    Operand value = (Operand) ast.E.visit(this, o);
+    if (cfg.isMain() || value == null)
+      append(new Quad(Quad.RETURN, null));
+    else
+      append(new Quad(Quad.RETURN, null, value));
+    startDeadBlock();
+    return null;
+  }
+
+  public Object visitCompoundStmt(CompoundStmt ast, Object o) {
+    ast.DL.visit(this, o);
+    ast.SL.visit(this, o);
+    return null;
+  }
+
+  public Object visitExprStmt(ExprStmt ast, Object o) {
+    ast.E.visit(this, o);
+    return null;
+  }
+
+  public Object visitEmptyCompStmt(EmptyCompStmt ast, Object o) {
+    return null;
+  }
+
+  public Object visitEmptyStmt(EmptyStmt ast, Object o) {
+    return null;
+  }
+
+  public Object visitErrorStmt(ErrorStmt ast, Object o) {
+    return null;
+  }
+
+  // Expressions
+
+  public Object visitIntExpr(IntExpr ast, Object o) {
+    return Constant.intConst(Integer.parseInt(ast.IL.spelling));
+  }
+
+  public Object visitFloatExpr(FloatExpr ast, Object o) {
+    return Constant.floatConst(Float.parseFloat(ast.FL.spelling));
+  }
+
+  public Object visitBooleanExpr(BooleanExpr ast, Object o) {
+    return Constant.boolConst(ast.BL.spelling.equals("true"));
+  }
+
+  public Object visitStringExpr(StringExpr ast, Object o) {
+    return new Constant(StdEnvironment.stringType, ast.SL.spelling);
+  }
+
+  public Object visitUnaryExpr(UnaryExpr ast, Object o) {
+    String op = ast.O.spelling;
+    Operand e = (Operand) ast.E.visit(this, o);
+    if (op.equals("i+") || op.equals("f+"))
+      return e;
+
+    String opcode;
+    Type type = ast.type;
+    if (op.equals("i!"))
+      opcode = Quad.NOT;
+    else if (op.equals("i-"))
+      opcode = JVM.INEG;
+    else if (op.equals("f-"))
+      opcode = JVM.FNEG;
+    else { // i2f
+      opcode = JVM.I2F;
+      type = StdEnvironment.floatType;
+    }
+    return append(new Quad(opcode, newTemp(type), e)).dest;
+  }
+
+  public Object visitBinaryExpr(BinaryExpr ast, Object o) {
+    String op = ast.O.spelling;
+
+    if (op.equals("i&&") || op.equals("i||")) {
+      // r = E1; if (r) r = E2   for &&
+      // r = E1; if (!r) r = E2  for ||
+      Temp r = newTemp(StdEnvironment.booleanType);
+      append(new Quad(Quad.COPY, r, (Operand) ast.E1.visit(this, o)));
+      BasicBlock rhs = cfg.newBlock();
+      BasicBlock next = cfg.newBlock();
+      if (op.equals("i&&"))
+        branch(r, rhs, next);
+      else
+        branch(r, next, rhs);
+      current = rhs;
+      append(new Quad(Quad.COPY, r, (Operand) ast.E2.visit(this, o)));
+      startBlock(next);
+      return r;
+    }
+
+    Operand e1 = (Operand) ast.E1.visit(this, o);
+    Operand e2 = (Operand) ast.E2.visit(this, o);
+    String opcode = arithOpcode(op);
+    if (opcode == null) // a comparison
+      return append(new Quad(op, newTemp(StdEnvironment.booleanType), e1, e2)).dest;
+    return append(new Quad(opcode, newTemp(ast.type), e1, e2)).dest;
+  }
+
+  public Object visitInitExpr(InitExpr ast, Object o) {
+    return null; // handled by visitLocalVarDecl
+  }
+
+  public Object visitExprList(ExprList ast, Object o) {
+    return null; // handled by visitLocalVarDecl
+  }
+
+  public Object visitArrayExpr(ArrayExpr ast, Object o) {
+    Operand array = arrayRef((SimpleVar) ast.V);
+    Operand index = (Operand) ast.E.visit(this, o);
+    return append(new Quad(arrayOpcode(ast.type, false), newTemp(ast.type), array, index)).dest;
+  }
+
+  public Object visitVarExpr(VarExpr ast, Object o) {
+    SimpleVar var = (SimpleVar) ast.V;
+    Decl decl = (Decl) var.I.decl;
+    if (decl.T.isArrayType())
+      return arrayRef(var);
+    if (decl instanceof GlobalVarDecl) {
+      Quad q = append(new Quad(Quad.GETSTATIC, newTemp(decl.T)));
+      q.decl = decl;
+      return q.dest;
+    }
+    return append(new Quad(Quad.COPY, newTemp(decl.T), vars.get(decl))).dest;
+  }
+
+  public Object visitCallExpr(CallExpr ast, Object o) {
+    FuncDecl f = (FuncDecl) ast.I.decl;
+    java.util.ArrayList<Operand> args = new java.util.ArrayList<Operand>();
+    List al = ast.AL;
+    while (!al.isEmpty()) {
+      ArgList a = (ArgList) al;
+      args.add((Operand) a.A.visit(this, o));
+      al = a.AL;
+    }
+    Temp dest = f.T.isVoidType() ? null : newTemp(f.T);
+    Quad q = append(new Quad(Quad.CALL, dest, args.toArray(new Operand[args.size()])));
+    q.decl = f;
+    return dest;
+  }
+
+  public Object visitAssignExpr(AssignExpr ast, Object o) {
+    if (ast.E1 instanceof ArrayExpr) {
+      ArrayExpr ae = (ArrayExpr) ast.E1;
+      Operand array = arrayRef((SimpleVar) ae.V);
+      Operand index = (Operand) ae.E.visit(this, o);
+      Operand value = (Operand) ast.E2.visit(this, o);
+      append(new Quad(arrayOpcode(ae.type, true), null, array, index, value));
+      return value;
+    }
+
+    Decl decl = (Decl) ((SimpleVar) ((VarExpr) ast.E1).V).I.decl;
+    Operand value = (Operand) ast.E2.visit(this, o);
+    if (decl instanceof GlobalVarDecl) {
+      Quad q = append(new Quad(Quad.PUTSTATIC, null, value));
+      q.decl = decl;
+    } else
+      append(new Quad(Quad.COPY, vars.get(decl), value));
+    return value;
+  }
+
+  public Object visitEmptyExpr(EmptyExpr ast, Object o) {
+    return null;
+  }
+
+  public Object visitErrorExpr(ErrorExpr ast, Object o) {
+    return null;
+  }
+
+  // Literals, identifiers and operators
+
+  public Object visitIntLiteral(IntLiteral ast, Object o) {
+    return null;
+  }
+
+  public Object visitFloatLiteral(FloatLiteral ast, Object o) {
+    return null;
+  }
+
+  public Object visitBooleanLiteral(BooleanLiteral ast, Object o) {
+    return null;
+  }
+
+  public Object visitStringLiteral(StringLiteral ast, Object o) {
+    return null;
+  }
+
+  public Object visitIdent(Ident ast, Object o) {
+    return null;
+  }
+
+  public Object visitOperator(Operator ast, Object o) {
+    return null;
+  }
+
+  // Parameters
+
+  public Object visitParaList(ParaList ast, Object o) {
+    ast.P.visit(this, o);
+    ast.PL.visit(this, o);
+    return null;
+  }
+
+  public Object visitParaDecl(ParaDecl ast, Object o) {
+    Quad q = append(new Quad(Quad.PARAM, declare(ast)));
+    q.decl = ast;
+    return null;
+  }
+
+  // Arguments
+
+  public Object visitArgList(ArgList ast, Object o) {
+    return null; // handled by visitCallExpr
+  }
+
+  public Object visitArg(Arg ast, Object o) {
+    return ast.E.visit(this, o);
+  }
+
+  // Types
+
+  public Object visitVoidType(VoidType ast, Object o) {
+    return null;
+  }
+
+  public Object visitBooleanType(BooleanType ast, Object o) {
+    return null;
+  }
+
+  public Object visitIntType(IntType ast, Object o) {
+    return null;
+  }
+
+  public Object visitFloatType(FloatType ast, Object o) {
+    return null;
+  }
+
+  public Object visitStringType(StringType ast, Object o) {
+    return null;
+  }
+
+  public Object visitArrayType(ArrayType ast, Object o) {
+    return null;
+  }
+
+  public Object visitErrorType(ErrorType ast, Object o) {
+    return null;
+  }
+
+  // Variables
+
+  public Object visitSimpleVar(SimpleVar ast, Object o) {
+    return null;
+  }
+
+}
@@ -0,0 +1,402 @@
+/*
+ * IRLowering.java
+ */
+
+// Lowers a control-flow graph (in SSA form or not) back into Jasmin
+// instructions for the Emitter. The method produced is complete: it
+// starts with .method and ends with .end method.
+//
+// SSA form is left by replacing each phi function with copies at the
+// end of its predecessors. A predecessor with several successors has
+// the edge split first. All phi operands of one edge are first copied
+// into fresh temporaries so that the copies behave as a parallel
+// assignment.
+//
+// Every temporary is given its own local variable index.
+
+package VC.IR;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+
+import VC.ASTs.*;
+import VC.CodeGen.Instruction;
+import VC.CodeGen.JVM;
+import VC.CodeGen.StackAnalyser;
+import VC.StdEnvironment;
+
+public final class IRLowering {
+
+  private ControlFlowGraph cfg;
+  private String classname;
+  private ArrayList<Instruction> code;
+  private int label;
+  private int nextIndex;
+  private ArrayList<Temp> undefined;
+
+  public IRLowering(String classname) {
+    this.classname = classname;
+  }
+
+  public java.util.List<Instruction> lower(ControlFlowGraph cfg) {
+    this.cfg = cfg;
+    code = new ArrayList<Instruction>();
+    label = 0;
+
+    if (cfg.ssa)
+      removePhis();
+    assignIndices();
+
+    FuncDecl f = cfg.func;
+    if (cfg.isMain()) {
+      emit(JVM.METHOD_START, "public static main([Ljava/lang/String;)V");
+      emit(JVM.NEW, classname);
+      emit(JVM.DUP);
+      emit("invokenonvirtual", classname + "/<init>()V");
+      emit(JVM.ASTORE_1);
+    } else
+      emit(JVM.METHOD_START, f.I.spelling + descriptor(f));
+
+    initUndefined();
+    for (int i = 0; i < cfg.blocks.size(); i++) {
+      BasicBlock b = cfg.blocks.get(i);
+      BasicBlock next = (i + 1 < cfg.blocks.size()) ? cfg.blocks.get(i + 1) : null;
+      emit(b.label + ":");
+      for (Quad q : b.quads)
+        lower(q, next);
+    }
+
+    emit(JVM.LIMIT, "locals " + nextIndex);
+    emit(JVM.LIMIT, "stack " + StackAnalyser.maxStack(code.toArray(new Instruction[0]), 0, code.size()));
+    emit(".end method");
+    return code;
+  }
+
+  // Leaving SSA form
+
+  private void removePhis() {
+    ArrayList<BasicBlock> blocks = new ArrayList<BasicBlock>(cfg.blocks);
+    for (BasicBlock b : blocks) {
+      int n = b.phiCount();
+      if (n == 0)
+        continue;
+      for (int j = 0; j < b.preds.size(); j++) {
+        BasicBlock p = b.preds.get(j);
+        if (p.succs.size() > 1)
+          p = cfg.splitEdge(p, b);
+        ArrayList<Quad> copies = new ArrayList<Quad>();
+        ArrayList<Quad> moves = new ArrayList<Quad>();
+        for (int k = 0; k < n; k++) {
+          Quad phi = b.quads.get(k);
+          Temp t = cfg.newTemp(phi.dest.type, null);
+          copies.add(new Quad(Quad.COPY, t, phi.args[j]));
+          moves.add(new Quad(Quad.COPY, phi.dest, t));
+        }
+        int at = p.quads.size() - 1; // before the terminator
+        p.quads.addAll(at, moves);
+        p.quads.addAll(at, copies);
+      }
+      for (int k = 0; k < n; k++)
+        b.quads.remove(0);
+    }
+    cfg.ssa = false;
+  }
+
+  // Local variable indices
+
+  // Only the temporaries that occur in the graph are given an index.
+  // Those used without a definition on some path (possible only for
+  // the unversioned temporaries of SSA form) are initialised with a
+  // default value so that the JVM verifier accepts the method.
+  private void assignIndices() {
+    // main: argv is 0 and vc$ is 1; otherwise this is 0 and the
+    // parameters follow in order
+    nextIndex = cfg.isMain() ? 2 : 1;
+    List pl = cfg.func.PL;
+    while (!pl.isEmpty()) {
+      ((ParaList) pl).P.index = nextIndex++;
+      pl = ((ParaList) pl).PL;
+    }
+
+    LinkedHashSet<Temp> defined = new LinkedHashSet<Temp>();
+    LinkedHashSet<Temp> used = new LinkedHashSet<Temp>();
+    for (BasicBlock b : cfg.blocks)
+      for (Quad q : b.quads) {
+        if (q.dest != null)
+          defined.add(q.dest);
+        for (Operand a : q.args)
+          if (a instanceof Temp)
+            used.add((Temp) a);
+      }
+    for (Temp t : cfg.temps)
+      if (defined.contains(t) || used.contains(t))
+        t.index = nextIndex++;
+
+    undefined = new ArrayList<Temp>();
+    for (Temp t : used)
+      if (!defined.contains(t))
+        undefined.add(t);
+  }
+
+  private void initUndefined() {
+    for (Temp t : undefined) {
+      if (t.type.isFloatType())
+        emit(JVM.FCONST_0);
+      else
+        emit(JVM.ICONST_0);
+      store(t);
+    }
+  }
+
+  // Instructions
+
+  private void lower(Quad q, BasicBlock next) {
+    String op = q.op;
+
+    if (op.equals(Quad.COPY)) {
+      load(q.args[0]);
+      store(q.dest);
+    } else if (op.equals(Quad.PARAM)) {
+      load(q.decl.T, q.decl.index);
+      store(q.dest);
+    } else if (op.equals(Quad.NOT)) {
+      load(q.args[0]);
+      emit(JVM.ICONST_1);
+      emit(JVM.IXOR);
+      store(q.dest);
+    } else if (q.isCompare()) {
+      load(q.args[0]);
+      load(q.args[1]);
+      emitCompare(op);
+      store(q.dest);
+    } else if (q.isArrayLoad()) {
+      load(q.args[0]);
+      load(q.args[1]);
+      emit(op);
+      store(q.dest);
+    } else if (q.isArrayStore()) {
+      load(q.args[0]);
+      load(q.args[1]);
+      load(q.args[2]);
+      emit(op);
+    } else if (op.equals(Quad.NEWARRAY)) {
+      load(q.args[0]);
+      emit(JVM.NEWARRAY, elementTypeName(((ArrayType) q.dest.type).T));
+      store(q.dest);
+    } else if (op.equals(Quad.GETSTATIC)) {
+      emit(JVM.GETSTATIC, classname + "/" + q.decl.I.spelling + " " + typeDescriptor(q.decl.T));
+      store(q.dest);
+    } else if (op.equals(Quad.PUTSTATIC)) {
+      load(q.args[0]);
+      emit(JVM.PUTSTATIC, classname + "/" + q.decl.I.spelling + " " + typeDescriptor(q.decl.T));
+    } else if (op.equals(Quad.CALL)) {
+      emitCall(q);
+    } else if (op.equals(Quad.GOTO)) {
+      if (q.targets[0] != next)
+        emit(JVM.GOTO, q.targets[0].label);
+    } else if (op.equals(Quad.IF)) {
+      load(q.args[0]);
+      if (q.targets[1] == next)
+        emit(JVM.IFNE, q.targets[0].label);
+      else if (q.targets[0] == next)
+        emit(JVM.IFEQ, q.targets[1].label);
+      else {
+        emit(JVM.IFNE, q.targets[0].label);
+        emit(JVM.GOTO, q.targets[1].label);
+      }
+    } else if (op.equals(Quad.RETURN)) {
+      if (q.args.length == 0)
+        emit(JVM.RETURN);
+      else {
+        load(q.args[0]);
+        emit(cfg.func.T.isFloatType() ? JVM.FRETURN : JVM.IRETURN);
+      }
+    } else { // arithmetic and conversions
+      for (Operand a : q.args)
+        load(a);
+      emit(op);
+      store(q.dest);
+    }
+  }
+
+  private void emitCompare(String op) {
+    String trueLabel = "L" + label++;
+    String nextLabel = "L" + label++;
+    String cond = op.substring(1);
+    String opcode;
+    if (op.charAt(0) == 'f') {
+      emit(JVM.FCMPG);
+      if (cond.equals("!=")) opcode = JVM.IFNE;
+      else if (cond.equals("==")) opcode = JVM.IFEQ;
+      else if (cond.equals("<")) opcode = JVM.IFLT;
+      else if (cond.equals("<=")) opcode = JVM.IFLE;
+      else if (cond.equals(">")) opcode = JVM.IFGT;
+      else opcode = JVM.IFGE;
+    } else {
+      if (cond.equals("!=")) opcode = JVM.IF_ICMPNE;
+      else if (cond.equals("==")) opcode = JVM.IF_ICMPEQ;
+      else if (cond.equals("<")) opcode = JVM.IF_ICMPLT;
+      else if (cond.equals("<=")) opcode = JVM.IF_ICMPLE;
+      else if (cond.equals(">")) opcode = JVM.IF_ICMPGT;
+      else opcode = JVM.IF_ICMPGE;
+    }
+    emit(opcode, trueLabel);
+    emit(JVM.ICONST_0);
+    emit(JVM.GOTO, nextLabel);
+    emit(trueLabel + ":");
+    emit(JVM.ICONST_1);
+    emit(nextLabel + ":");
+  }
+
+  private void emitCall(Quad q) {
+    FuncDecl f = (FuncDecl) q.decl;
+    String fname = f.I.spelling;
+    boolean builtin = isBuiltin(f);
+
+    if (!builtin)
+      emit(cfg.isMain() ? JVM.ALOAD_1 : JVM.ALOAD_0);
+    for (Operand a : q.args)
+      load(a);
+
+    if (builtin)
+      emit(JVM.INVOKESTATIC, "VC/lang/System/" + fname + descriptor(f));
+    else
+      emit(JVM.INVOKEVIRTUAL, classname + "/" + fname + descriptor(f));
+
+    if (q.dest != null)
+      store(q.dest);
+    else if (!f.T.isVoidType())
+      emit(JVM.POP);
+  }
+
+  static boolean isBuiltin(FuncDecl f) {
+    return f == StdEnvironment.getIntDecl || f == StdEnvironment.putIntDecl
+        || f == StdEnvironment.putIntLnDecl || f == StdEnvironment.getFloatDecl
+        || f == StdEnvironment.putFloatDecl || f == StdEnvironment.putFloatLnDecl
+        || f == StdEnvironment.putBoolDecl || f == StdEnvironment.putBoolLnDecl
+        || f == StdEnvironment.putStringDecl || f == StdEnvironment.putStringLnDecl
+        || f == StdEnvironment.putLnDecl || f == StdEnvironment.flushDecl;
+  }
+
+  // Loads and stores
+
+  private void load(Operand a) {
+    if (a instanceof Temp) {
+      Temp t = (Temp) a;
+      load(t.type, t.index);
+    } else {
+      Constant c = (Constant) a;
+      if (c.value instanceof Integer)
+        emitICONST(((Integer) c.value).intValue());
+      else if (c.value instanceof Float)
+        emitFCONST(((Float) c.value).floatValue());
+      else if (c.value instanceof Boolean)
+        emit(((Boolean) c.value).booleanValue() ? JVM.ICONST_1 : JVM.ICONST_0);
+      else
+        emit(JVM.LDC, "\"" + c.value + "\"");
+    }
+  }
+
+  private void load(Type type, int index) {
+    String opcode;
+    if (type.isArrayType() || type.isStringType())
+      opcode = JVM.ALOAD;
+    else if (type.isFloatType())
+      opcode = JVM.FLOAD;
+    else
+      opcode = JVM.ILOAD;
+    if (index <= 3)
+      emit(opcode + "_" + index);
+    else
+      emit(opcode, index);
+  }
+
+  private void store(Temp t) {
+    String opcode;
+    if (t.type.isArrayType() || t.type.isStringType())
+      opcode = JVM.ASTORE;
+    else if (t.type.isFloatType())
+      opcode = JVM.FSTORE;
+    else
+      opcode = JVM.ISTORE;
+    if (t.index <= 3)
+      emit(opcode + "_" + t.index);
+    else
+      emit(opcode, t.index);
+  }
+
+  private void emitICONST(int value) {
+    if (value == -1)
+      emit(JVM.ICONST_M1);
+    else if (value >= 0 && value <= 5)
+      emit(JVM.ICONST + "_" + value);
+    else if (value >= -128 && value <= 127)
+      emit(JVM.BIPUSH, value);
+    else if (value >= -32768 && value <= 32767)
+      emit(JVM.SIPUSH, value);
+    else
+      emit(JVM.LDC, value);
+  }
+
+  private void emitFCONST(float value) {
+    if (value == 0.0F && 1.0F / value > 0)
+      emit(JVM.FCONST_0);
+    else if (value == 1.0F)
+      emit(JVM.FCONST_1);
+    else if (value == 2.0F)
+      emit(JVM.FCONST_2);
+    else
+      emit(JVM.LDC, "" + value);
+  }
+
+  // Type descriptors
+
+  private static String elementTypeName(Type t) {
+    if (t.isFloatType())
+      return "float";
+    else if (t.isBooleanType())
+      return "boolean";
+    else
+      return "int";
+  }
+
+  static String typeDescriptor(Type t) {
+    if (t.isArrayType())
+      return "[" + typeDescriptor(((ArrayType) t).T);
+    else if (t.isBooleanType())
+      return "Z";
+    else if (t.isIntType())
+      return "I";
+    else if (t.isFloatType())
+      return "F";
+    else if (t.isStringType())
+      return "Ljava/lang/String;";
+    else
+      return "V";
+  }
+
+  static String descriptor(FuncDecl f) {
+    StringBuffer sb = new StringBuffer("(");
+    List pl = f.PL;
+    while (!pl.isEmpty()) {
+      sb.append(typeDescriptor(((ParaList) pl).P.T));
+      pl = ((ParaList) pl).PL;
+    }
+    return sb.append(")").append(typeDescriptor(f.T)).toString();
+  }
+
+  // Auxiliary methods
+
+  private void emit(String s) {
+    code.add(new Instruction(s));
+  }
+
+  private void emit(String s1, String s2) {
+    emit(s1 + " " + s2);
+  }
+
+  private void emit(String s1, int i) {
+    emit(s1 + " " + i);
+  }
+
+}
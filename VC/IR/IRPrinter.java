@@ -0,0 +1,45 @@
+/*
+ * IRPrinter.java
+ */
+
+// Prints the control-flow graph of every function of a checked
+// program in SSA form. Useful for debugging the IRBuilder and the
+// SSABuilder.
+
+package VC.IR;
+
+import java.io.FileWriter;
+import java.io.PrintWriter;
+
+import VC.ASTs.*;
+
+public class IRPrinter {
+
+  private PrintWriter textOut;
+
+  public IRPrinter(String filename) {
+    try {
+      textOut = new PrintWriter(new FileWriter(filename));
+    } catch (java.io.IOException e) {
+      System.out.println("Caught IOException: " + e.getMessage());
+      System.exit(1);
+    }
+  }
+
+  // PRE: ast must be a Program node decorated by the Checker
+
+  public final void print(AST ast) {
+    List list = ((Program) ast).FL;
+    while (!list.isEmpty()) {
+      DeclList dl = (DeclList) list;
+      if (dl.D instanceof FuncDecl) {
+        ControlFlowGraph cfg = new IRBuilder().build((FuncDecl) dl.D);
+        SSABuilder.construct(cfg);
+        cfg.print(textOut);
+      }
+      list = dl.DL;
+    }
+    textOut.close();
+  }
+
+}
@@ -0,0 +1,20 @@
+/*
+ * Operand.java
+ */
+
+// An operand of a quadruple is either a temporary (a virtual register
+// standing for a VC variable or an intermediate result) or a constant.
+
+package VC.IR;
+
+public abstract class Operand {
+
+  public boolean isTemp() {
+    return this instanceof Temp;
+  }
+
+  public boolean isConstant() {
+    return this instanceof Constant;
+  }
+
+}
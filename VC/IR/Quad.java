@@ -0,0 +1,96 @@
+/*
+ * Quad.java
+ */
+
+// A quadruple (three-address instruction) of the VC intermediate
+// representation:
+//
+//    dest = op args[0], args[1], ...
+//
+// Arithmetic, conversion and array instructions reuse the opcodes in
+// VC.CodeGen.JVM so that lowering them is a one-to-one translation.
+// Comparisons use the operator spellings produced by the Checker
+// ("i<", "f==", ...). All other opcodes are defined below.
+//
+// Every basic block ends with exactly one of GOTO, IF or RETURN.
+
+package VC.IR;
+
+import VC.ASTs.Decl;
+import VC.CodeGen.JVM;
+
+public class Quad {
+
+  public final static String
+    COPY = "copy",          // dest = args[0]
+    PHI = "phi",            // dest = phi(args[0], ..., args[n-1]), one per predecessor
+    PARAM = "param",        // dest = the formal parameter decl
+    NOT = "not",            // dest = !args[0]
+    NEWARRAY = "newarray",  // dest = new T[args[0]]
+    GETSTATIC = "getstatic",// dest = the global variable decl
+    PUTSTATIC = "putstatic",// the global variable decl = args[0]
+    CALL = "call",          // dest = decl(args[0], ..., args[n-1]), dest may be null
+    GOTO = "goto",          // goto targets[0]
+    IF = "if",              // if args[0] goto targets[0] else goto targets[1]
+    RETURN = "return";      // return args[0] (if any)
+
+  public String op;
+  public Temp dest;
+  public Operand[] args;
+
+  // the parameter (PARAM), global variable (GETSTATIC/PUTSTATIC)
+  // or function (CALL) referenced by this quadruple
+  public Decl decl;
+
+  public BasicBlock[] targets;
+
+  public Quad(String op, Temp dest, Operand... args) {
+    this.op = op;
+    this.dest = dest;
+    this.args = args;
+  }
+
+  public boolean isTerminator() {
+    return op.equals(GOTO) || op.equals(IF) || op.equals(RETURN);
+  }
+
+  public boolean isPhi() {
+    return op.equals(PHI);
+  }
+
+  public boolean isCompare() {
+    return op.length() >= 2 && (op.charAt(0) == 'i' || op.charAt(0) == 'f')
+           && "<>=!".indexOf(op.charAt(1)) >= 0;
+  }
+
+  public boolean isArrayLoad() {
+    return op.equals(JVM.IALOAD) || op.equals(JVM.FALOAD) || op.equals(JVM.BALOAD);
+  }
+
+  public boolean isArrayStore() {
+    return op.equals(JVM.IASTORE) || op.equals(JVM.FASTORE) || op.equals(JVM.BASTORE);
+  }
+
+  // true if removing this quadruple cannot change the behaviour of
+  // the program when its result is unused
+  public boolean isPure() {
+    return !(op.equals(CALL) || op.equals(PUTSTATIC) || isArrayStore()
+             || isTerminator() || op.equals(JVM.IDIV) || isArrayLoad());
+  }
+
+  public String toString() {
+    StringBuffer sb = new StringBuffer();
+    if (dest != null)
+      sb.append(dest).append(" = ");
+    sb.append(op);
+    if (decl != null)
+      sb.append(" ").append(decl.I.spelling);
+    for (int i = 0; i < args.length; i++)
+      sb.append(i == 0 ? " " : ", ").append(args[i]);
+    if (targets != null)
+      for (int i = 0; i < targets.length; i++)
+        sb.append(i == 0 ? " -> " : ", ").append(targets[i].label);
+    return sb.toString();
+  }
+
+}
@@ -0,0 +1,280 @@
+/*
+ * SSABuilder.java
+ */
+
+// Converts a control-flow graph into static single assignment form.
+//
+// (1) Dominators are computed with the iterative algorithm of Cooper,
+//     Harvey and Kennedy ("A Simple, Fast Dominance Algorithm").
+// (2) Phi functions are inserted at the iterated dominance frontiers
+//     of the definitions of every temporary that is live on entry to
+//     some block (semi-pruned SSA, see Briggs et al.).
+// (3) Temporaries are renamed by a walk over the dominator tree so
+//     that every version has exactly one definition.
+// (4) Phi functions whose results are never used are removed.
+
+package VC.IR;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Stack;
+
+public final class SSABuilder {
+
+  private ControlFlowGraph cfg;
+  private ArrayList<BasicBlock> order; // reverse postorder
+  private HashMap<Temp, Stack<Temp>> stacks;
+  private HashMap<Temp, Integer> versions;
+
+  public static void construct(ControlFlowGraph cfg) {
+    if (cfg.ssa)
+      return;
+    SSABuilder builder = new SSABuilder(cfg);
+    builder.computeDominators();
+    builder.computeFrontiers();
+    builder.insertPhis();
+    builder.rename();
+    builder.removeDeadPhis();
+    cfg.ssa = true;
+  }
+
+  private SSABuilder(ControlFlowGraph cfg) {
+    this.cfg = cfg;
+    cfg.removeUnreachable();
+  }
+
+  // (1) Dominators
+
+  private void computeReversePostorder() {
+    order = new ArrayList<BasicBlock>();
+    HashSet<BasicBlock> visited = new HashSet<BasicBlock>();
+    // iterative depth-first search; a frame is a block and the index
+    // of the next successor to visit
+    Stack<BasicBlock> blocks = new Stack<BasicBlock>();
+    Stack<Integer> next = new Stack<Integer>();
+    visited.add(cfg.entry);
+    blocks.push(cfg.entry);
+    next.push(0);
+    while (!blocks.isEmpty()) {
+      BasicBlock b = blocks.peek();
+      int i = next.pop();
+      if (i < b.succs.size()) {
+        next.push(i + 1);
+        BasicBlock s = b.succs.get(i);
+        if (visited.add(s)) {
+          blocks.push(s);
+          next.push(0);
+        }
+      } else {
+        blocks.pop();
+        order.add(0, b);
+      }
+    }
+    for (int i = 0; i < order.size(); i++)
+      order.get(i).rpo = i;
+  }
+
+  private BasicBlock intersect(BasicBlock b1, BasicBlock b2) {
+    while (b1 != b2) {
+      while (b1.rpo > b2.rpo)
+        b1 = b1.idom;
+      while (b2.rpo > b1.rpo)
+        b2 = b2.idom;
+    }
+    return b1;
+  }
+
+  private void computeDominators() {
+    computeReversePostorder();
+    for (BasicBlock b : order) {
+      b.idom = null;
+      b.domChildren = new ArrayList<BasicBlock>();
+      b.frontier = new ArrayList<BasicBlock>();
+    }
+    cfg.entry.idom = cfg.entry;
+
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (BasicBlock b : order) {
+        if (b == cfg.entry)
+          continue;
+        BasicBlock newIdom = null;
+        for (BasicBlock p : b.preds) {
+          if (p.idom == null)
+            continue; // not processed yet
+          newIdom = (newIdom == null) ? p : intersect(p, newIdom);
+        }
+        if (b.idom != newIdom) {
+          b.idom = newIdom;
+          changed = true;
+        }
+      }
+    }
+
+    for (BasicBlock b : order)
+      if (b != cfg.entry)
+        b.idom.domChildren.add(b);
+  }
+
+  private void computeFrontiers() {
+    for (BasicBlock b : order) {
+      if (b.preds.size() < 2)
+        continue;
+      for (BasicBlock p : b.preds) {
+        BasicBlock runner = p;
+        while (runner != b.idom) {
+          if (!runner.frontier.contains(b))
+            runner.frontier.add(b);
+          runner = runner.idom;
+        }
+      }
+    }
+  }
+
+  // (2) Phi insertion
+
+  private void insertPhis() {
+    HashSet<Temp> globals = new HashSet<Temp>();
+    HashMap<Temp, ArrayList<BasicBlock>> defSites = new HashMap<Temp, ArrayList<BasicBlock>>();
+
+    for (BasicBlock b : order) {
+      HashSet<Temp> killed = new HashSet<Temp>();
+      for (Quad q : b.quads) {
+        for (Operand a : q.args)
+          if (a instanceof Temp && !killed.contains(a))
+            globals.add((Temp) a);
+        if (q.dest != null) {
+          killed.add(q.dest);
+          ArrayList<BasicBlock> sites = defSites.get(q.dest);
+          if (sites == null) {
+            sites = new ArrayList<BasicBlock>();
+            defSites.put(q.dest, sites);
+          }
+          if (!sites.contains(b))
+            sites.add(b);
+        }
+      }
+    }
+
+    for (Temp t : globals) {
+      ArrayList<BasicBlock> work = defSites.get(t);
+      if (work == null)
+        continue;
+      work = new ArrayList<BasicBlock>(work);
+      HashSet<BasicBlock> hasPhi = new HashSet<BasicBlock>();
+      while (!work.isEmpty()) {
+        BasicBlock b = work.remove(work.size() - 1);
+        for (BasicBlock d : b.frontier) {
+          if (hasPhi.add(d)) {
+            Operand[] args = new Operand[d.preds.size()];
+            for (int i = 0; i < args.length; i++)
+              args[i] = t;
+            d.quads.add(0, new Quad(Quad.PHI, t, args));
+            work.add(d);
+          }
+        }
+      }
+    }
+  }
+
+  // (3) Renaming
+
+  private Temp top(Temp base) {
+    Stack<Temp> s = stacks.get(base);
+    return (s == null || s.isEmpty()) ? base : s.peek();
+  }
+
+  private Temp newName(Temp base) {
+    Integer v = versions.get(base);
+    int version = (v == null) ? 1 : v + 1;
+    versions.put(base, version);
+    Temp t = cfg.newVersion(base, version);
+    Stack<Temp> s = stacks.get(base);
+    if (s == null) {
+      s = new Stack<Temp>();
+      stacks.put(base, s);
+    }
+    s.push(t);
+    return t;
+  }
+
+  private void rename() {
+    stacks = new HashMap<Temp, Stack<Temp>>();
+    versions = new HashMap<Temp, Integer>();
+
+    // iterative walk over the dominator tree; the pushes made in a
+    // block are popped when the walk leaves the block
+    Stack<BasicBlock> blocks = new Stack<BasicBlock>();
+    Stack<ArrayList<Temp>> pushed = new Stack<ArrayList<Temp>>();
+    Stack<Integer> next = new Stack<Integer>();
+
+    blocks.push(cfg.entry);
+    pushed.push(renameBlock(cfg.entry));
+    next.push(0);
+    while (!blocks.isEmpty()) {
+      BasicBlock b = blocks.peek();
+      int i = next.pop();
+      if (i < b.domChildren.size()) {
+        next.push(i + 1);
+        BasicBlock c = b.domChildren.get(i);
+        blocks.push(c);
+        pushed.push(renameBlock(c));
+        next.push(0);
+      } else {
+        blocks.pop();
+        for (Temp base : pushed.pop())
+          stacks.get(base).pop();
+      }
+    }
+  }
+
+  // Renames the uses and definitions in b and the phi operands in its
+  // successors. Returns the base temporaries of the versions pushed.
+  private ArrayList<Temp> renameBlock(BasicBlock b) {
+    ArrayList<Temp> defined = new ArrayList<Temp>();
+    for (Quad q : b.quads) {
+      if (!q.isPhi())
+        for (int i = 0; i < q.args.length; i++)
+          if (q.args[i] instanceof Temp)
+            q.args[i] = top(((Temp) q.args[i]).base);
+      if (q.dest != null) {
+        Temp base = q.dest.base;
+        q.dest = newName(base);
+        defined.add(base);
+      }
+    }
+    for (BasicBlock s : b.succs) {
+      int j = s.preds.indexOf(b);
+      for (int k = 0; k < s.phiCount(); k++) {
+        Quad phi = s.quads.get(k);
+        phi.args[j] = top(((Temp) phi.args[j]).base);
+      }
+    }
+    return defined;
+  }
+
+  // (4) Dead phi removal
+
+  private void removeDeadPhis() {
+    boolean changed = true;
+    while (changed) {
+      HashSet<Temp> used = new HashSet<Temp>();
+      for (BasicBlock b : order)
+        for (Quad q : b.quads)
+          for (Operand a : q.args)
+            if (a instanceof Temp && a != q.dest)
+              used.add((Temp) a);
+
+      changed = false;
+      for (BasicBlock b : order)
+        for (int k = b.phiCount() - 1; k >= 0; k--)
+          if (!used.contains(b.quads.get(k).dest)) {
+            b.quads.remove(k);
+            changed = true;
+          }
+    }
+  }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Temp.java
+ */
+
+// A temporary is a virtual register. Every scalar or array variable
+// local to a function (including its parameters) is given one temporary
+// by the IRBuilder, and so is every intermediate result.
+//
+// After SSA construction, every definition of a temporary is replaced
+// by a new version of it. All versions share the same base temporary.
+
+package VC.IR;
+
+import VC.ASTs.Decl;
+import VC.ASTs.Type;
+
+public class Temp extends Operand {
+
+  public int id;
+  public Type type;
+
+  // the declaration of the VC variable represented by this temporary,
+  // or null if this temporary holds an intermediate result
+  public Decl decl;
+
+  // the unversioned temporary this one was renamed from, or itself
+  public Temp base;
+  public int version;
+
+  // the JVM local variable index assigned by IRLowering
+  public int index = -1;
+
+  public Temp(int id, Type type, Decl decl) {
+    this.id = id;
+    this.type = type;
+    this.decl = decl;
+    this.base = this;
+    this.version = 0;
+  }
+
+  public Temp(Temp base, int id, int version) {
+    this.id = id;
+    this.type = base.type;
+    this.decl = base.decl;
+    this.base = base;
+    this.version = version;
+  }
+
+  public String toString() {
+    String name = (decl != null) ? decl.I.spelling : "t" + base.id;
+    if (base != this)
+      return name + "." + version;
+    return name;
+  }
+
+}
@@ -0,0 +1,299 @@
+/*
+ * DeadCodeEliminator.java
+ */
+
+// Removes the code of a checked AST that can never be executed or
+// whose execution has no effect:
+//
+//   (1) the statements following a return, break or continue (or any
+//       statement that always jumps) in the same statement list,
+//   (2) the branch not taken of an if statement whose condition is a
+//       boolean literal, a while statement whose condition is false
+//       and a for statement whose condition is false (except for its
+//       initialising expression, which is still evaluated),
+//   (3) the local variables that are never read and whose initialisers
+//       have no side effects, together with the assignments to them
+//       whose right sides have no side effects (as expression
+//       statements, or as the first or third expression of a for),
+//       and
+//   (4) the expression statements that have no side effects.
+//
+// An assignment of such a variable anywhere else, or of a right side
+// with side effects, counts as a read and keeps the variable.
+//
+// An expression has no side effects if it contains no calls and no
+// assignments and cannot throw an exception. Integer divisions and
+// array accesses may throw and are therefore kept.
+//
+// The elimination is repeated on each function until nothing changes
+// since removing a variable may leave others unused.
+//
+// PRE: the AST has been decorated by the Checker without errors.
+
+package VC.Optimiser;
+
+import java.util.IdentityHashMap;
+
+import VC.ASTs.*;
+import VC.Scanner.SourcePosition;
+
+public final class DeadCodeEliminator extends ASTWalker {
+
+  private int stmtsRemoved = 0;
+  private int branchesFolded = 0;
+  private int varsRemoved = 0;
+
+  // the number of reads of each variable of the current function
+  private IdentityHashMap<Decl, Integer> uses;
+  private boolean changed;
+
+  public final void eliminate(AST ast) {
+    ast.visit(this, null);
+  }
+
+  public int getStmtsRemoved() {
+    return stmtsRemoved;
+  }
+
+  public int getBranchesFolded() {
+    return branchesFolded;
+  }
+
+  public int getVarsRemoved() {
+    return varsRemoved;
+  }
+
+  public Object visitFuncDecl(FuncDecl ast, Object o) {
+    // The body is kept as it is: the Emitter generates the prologue
+    // of main in the CompoundStmt of the function.
+    do {
+      changed = false;
+      uses = new IdentityHashMap<Decl, Integer>();
+      ast.S.visit(new UseCounter(), null);
+      ast.S.visit(this, null);
+    } while (changed);
+    return null;
+  }
+
+  public Object visitGlobalVarDecl(GlobalVarDecl ast, Object o) {
+    return null;
+  }
+
+  // Statements
+  //
+  // Every visitor method for a statement returns the statement that
+  // should replace it.
+
+  private Stmt simplify(Stmt s, AST parent) {
+    Object r = s.visit(this, null);
+    Stmt result = (r instanceof Stmt) ? (Stmt) r : s;
+    result.parent = parent;
+    return result;
+  }
+
+  public Object visitCompoundStmt(CompoundStmt ast, Object o) {
+    ast.DL = pruneDecls(ast.DL);
+    ast.DL.parent = ast;
+    ast.SL = pruneStmts(ast.SL);
+    ast.SL.parent = ast;
+    return ast;
+  }
+
+  public Object visitIfStmt(IfStmt ast, Object o) {
+    ast.S1 = simplify(ast.S1, ast);
+    ast.S2 = simplify(ast.S2, ast);
+    if (ast.E instanceof BooleanExpr) {
+      branchesFolded++;
+      changed = true;
+      if (((BooleanExpr) ast.E).BL.spelling.equals("true"))
+        return ast.S1;
+      else
+        return ast.S2;
+    }
+    return ast;
+  }
+
+  public Object visitWhileStmt(WhileStmt ast, Object o) {
+    if (isFalse(ast.E)) {
+      branchesFolded++;
+      changed = true;
+      return new EmptyStmt(ast.position);
+    }
+    ast.S = simplify(ast.S, ast);
+    return ast;
+  }
+
+  public Object visitForStmt(ForStmt ast, Object o) {
+    if (isDeadStore(ast.E1)) {
+      stmtsRemoved++;
+      changed = true;
+      ast.E1 = new EmptyExpr(ast.E1.position);
+      ast.E1.parent = ast;
+    }
+    if (isDeadStore(ast.E3)) {
+      stmtsRemoved++;
+      changed = true;
+      ast.E3 = new EmptyExpr(ast.E3.position);
+      ast.E3.parent = ast;
+    }
+    if (isFalse(ast.E2)) {
+      branchesFolded++;
+      changed = true;
+      if (ast.E1 instanceof EmptyExpr)
+        return new EmptyStmt(ast.position);
+      return new ExprStmt(ast.E1, ast.position);
+    }
+    ast.S = simplify(ast.S, ast);
+    return ast;
+  }
+
+  public Object visitExprStmt(ExprStmt ast, Object o) {
+    if (ast.E instanceof EmptyExpr)
+      return new EmptyStmt(ast.position);
+    if (isDeadStore(ast.E)) {
+      stmtsRemoved++;
+      changed = true;
+      return new EmptyStmt(ast.position);
+    }
+    if (isPure(ast.E)) {
+      stmtsRemoved++;
+      changed = true;
+      return new EmptyStmt(ast.position);
+    }
+    return ast;
+  }
+
+  // Drops the empty statements of a statement list and the statements
+  // following one that always jumps.
+  private List pruneStmts(List sl) {
+    if (sl.isEmpty())
+      return sl;
+    StmtList l = (StmtList) sl;
+    Stmt s = simplify(l.S, l);
+    if (s instanceof EmptyStmt) {
+      List rest = pruneStmts(l.SL);
+      return rest;
+    }
+    l.S = s;
+    if (alwaysJumps(s)) {
+      for (List r = l.SL; !r.isEmpty(); r = ((StmtList) r).SL)
+        stmtsRemoved++;
+      if (!l.SL.isEmpty())
+        changed = true;
+      l.SL = new EmptyStmtList(new SourcePosition());
+    } else
+      l.SL = pruneStmts(l.SL);
+    l.SL.parent = l;
+    return l;
+  }
+
+  private List pruneDecls(List dl) {
+    if (dl.isEmpty())
+      return dl;
+    DeclList l = (DeclList) dl;
+    l.DL = pruneDecls(l.DL);
+    l.DL.parent = l;
+    if (l.D instanceof LocalVarDecl && !uses.containsKey(l.D)
+        && isPure(((LocalVarDecl) l.D).E)) {
+      varsRemoved++;
+      changed = true;
+      return l.DL;
+    }
+    return l;
+  }
+
+  private static boolean alwaysJumps(Stmt s) {
+    if (s instanceof ReturnStmt || s instanceof BreakStmt
+        || s instanceof ContinueStmt)
+      return true;
+    if (s instanceof IfStmt)
+      return alwaysJumps(((IfStmt) s).S1) && alwaysJumps(((IfStmt) s).S2);
+    if (s instanceof CompoundStmt) {
+      List sl = ((CompoundStmt) s).SL;
+      Stmt last = null;
+      for (; !sl.isEmpty(); sl = ((StmtList) sl).SL)
+        last = ((StmtList) sl).S;
+      return last != null && alwaysJumps(last);
+    }
+    return false;
+  }
+
+  // Expressions
+
+  // an assignment of a local variable, with a right side without side
+  // effects, that is removed along with the variable if it is not read
+  private static Decl storedLocal(Expr e) {
+    if (!(e instanceof AssignExpr))
+      return null;
+    AssignExpr a = (AssignExpr) e;
+    if (!(a.E1 instanceof VarExpr) || !isPure(a.E2))
+      return null;
+    Decl d = (Decl) ((SimpleVar) ((VarExpr) a.E1).V).I.decl;
+    return (d instanceof LocalVarDecl) ? d : null;
+  }
+
+  private boolean isDeadStore(Expr e) {
+    Decl d = storedLocal(e);
+    return d != null && !uses.containsKey(d);
+  }
+
+  private static boolean isFalse(Expr e) {
+    return e instanceof BooleanExpr
+           && ((BooleanExpr) e).BL.spelling.equals("false");
+  }
+
+  static boolean isPure(Expr e) {
+    if (e instanceof EmptyExpr || e instanceof VarExpr
+        || e instanceof IntExpr || e instanceof FloatExpr
+        || e instanceof BooleanExpr || e instanceof StringExpr)
+      return true;
+    if (e instanceof UnaryExpr)
+      return isPure(((UnaryExpr) e).E);
+    if (e instanceof BinaryExpr) {
+      BinaryExpr b = (BinaryExpr) e;
+      return !b.O.spelling.equals("i/") && isPure(b.E1) && isPure(b.E2);
+    }
+    if (e instanceof InitExpr) {
+      for (List il = ((InitExpr) e).IL; !il.isEmpty(); il = ((ExprList) il).EL)
+        if (!isPure(((ExprList) il).E))
+          return false;
+      return true;
+    }
+    return false; // ArrayExpr, CallExpr and AssignExpr
+  }
+
+  // Counts the reads of the variables of a function
+
+  private final class UseCounter extends ASTWalker {
+
+    public Object visitForStmt(ForStmt ast, Object o) {
+      visitStmtExpr(ast.E1);
+      ast.E2.visit(this, o);
+      visitStmtExpr(ast.E3);
+      ast.S.visit(this, o);
+      return null;
+    }
+
+    public Object visitExprStmt(ExprStmt ast, Object o) {
+      visitStmtExpr(ast.E);
+      return null;
+    }
+
+    // The variable assigned by a removable assignment is not read.
+    private void visitStmtExpr(Expr e) {
+      if (storedLocal(e) != null)
+        ((AssignExpr) e).E2.visit(this, null);
+      else
+        e.visit(this, null);
+    }
+
+    public Object visitSimpleVar(SimpleVar ast, Object o) {
+      Decl decl = (Decl) ast.I.decl;
+      Integer n = uses.get(decl);
+      uses.put(decl, (n == null) ? 1 : n + 1);
+      return null;
+    }
+
+  }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * RangeAnalyser.java
+ */
+
+// Proves array accesses inside counted loops to be in bounds, or to be
+// out of bounds, by interval arithmetic over the induction variables
+// of the loops.
+//
+// A for statement is a counted loop if it has the canonical form
+//
+//   for (i = c1; i < c2; i = i + c3) S      (or i <= c2)
+//
+// where i is a local int variable or parameter not assigned in S and
+// c1, c2 and c3 > 0 are integer constants. In S, i ranges over
+// c1 .. c1 + k * c3, the last value that passes the test.
+//
+// The index of an access is given an interval if it is built from
+// constants and induction variables with +, - and *. The access is in
+// bounds if the interval lies within 0 .. N - 1 where N is the size
+// declared for the array (array parameters have no size). It is
+// reported as a warning if some value in the interval is out of bounds,
+// the interval is exact and the access is executed in every iteration
+// of all the enclosing counted loops. The interval is exact if no
+// induction variable occurs in the index more than once: each bound is
+// then the value of the index for some bounds of the variables, which
+// they all reach together. Otherwise, it may be wider than the values
+// the index takes (e.g., i - i is given -c .. c instead of 0 .. 0).
+//
+// PRE: the AST has been decorated by the Checker without errors.
+
+package VC.Optimiser;
+
+import java.util.IdentityHashMap;
+
+import VC.ASTs.*;
+import VC.ErrorReporter;
+
+public final class RangeAnalyser extends ASTWalker {
+
+  private ErrorReporter reporter;
+
+  private int accesses = 0;
+  private int inBounds = 0;
+  private int outOfBounds = 0;
+
+  // the ranges { low, high } of the induction variables in scope
+  private IdentityHashMap<Decl, long[]> ranges;
+  // > 0 if the node being visited may be skipped in some iteration
+  private int conditional;
+
+  public RangeAnalyser(ErrorReporter reporter) {
+    this.reporter = reporter;
+  }
+
+  public final void analyse(AST ast) {
+    ranges = new IdentityHashMap<Decl, long[]>();
+    conditional = 0;
+    ast.visit(this, null);
+  }
+
+  // the number of the accesses in counted loops
+  public int getAccesses() {
+    return accesses;
+  }
+
+  public int getInBounds() {
+    return inBounds;
+  }
+
+  public int getOutOfBounds() {
+    return outOfBounds;
+  }
+
+  // Statements
+
+  public Object visitForStmt(ForStmt ast, Object o) {
+    Decl i = inductionVariable(ast);
+    if (i == null) {
+      ast.E1.visit(this, o);
+      conditional++;
+      ast.E2.visit(this, o);
+      ast.E3.visit(this, o);
+      ast.S.visit(this, o);
+      conditional--;
+      return null;
+    }
+
+    long low = constant(((AssignExpr) ast.E1).E2);
+    BinaryExpr test = (BinaryExpr) ast.E2;
+    long limit = constant(test.E2) - (test.O.spelling.equals("i<") ? 1 : 0);
+    long step = constant(((BinaryExpr) ((AssignExpr) ast.E3).E2).E2);
+    if (low > limit) // the body is never executed
+      return null;
+    long high = low + (limit - low) / step * step;
+
+    ranges.put(i, new long[] { low, high });
+    // A jump in the body may cut an iteration short.
+    if (containsJump(ast.S))
+      conditional++;
+    ast.S.visit(this, o);
+    if (containsJump(ast.S))
+      conditional--;
+    ranges.remove(i);
+    return null;
+  }
+
+  public Object visitWhileStmt(WhileStmt ast, Object o) {
+    conditional++;
+    super.visitWhileStmt(ast, o);
+    conditional--;
+    return null;
+  }
+
+  public Object visitIfStmt(IfStmt ast, Object o) {
+    ast.E.visit(this, o);
+    conditional++;
+    ast.S1.visit(this, o);
+    ast.S2.visit(this, o);
+    conditional--;
+    return null;
+  }
+
+  // Expressions
+
+  public Object visitBinaryExpr(BinaryExpr ast, Object o) {
+    ast.E1.visit(this, o);
+    boolean shortCircuit = ast.O.spelling.equals("i&&") || ast.O.spelling.equals("i||");
+    if (shortCircuit)
+      conditional++;
+    ast.E2.visit(this, o);
+    if (shortCircuit)
+      conditional--;
+    return null;
+  }
+
+  public Object visitArrayExpr(ArrayExpr ast, Object o) {
+    ast.E.visit(this, o);
+    if (ranges.isEmpty())
+      return null;
+    accesses++;
+
+    long[] index = interval(ast.E);
+    long size = arraySize((Decl) ((SimpleVar) ast.V).I.decl);
+    if (index == null || size < 0)
+      return null;
+    if (index[0] >= 0 && index[1] < size)
+      inBounds++;
+    else if (conditional == 0 && !repeatsVariable(ast.E)) {
+      outOfBounds++;
+      reporter.reportWarning("array index out of bounds: %", 
+          ((SimpleVar) ast.V).I.spelling + "[" + index[0] + ".." + index[1] 
+          + "] with size " + size, ast.position);
+    }
+    return null;
+  }
+
+  // Auxiliary methods
+
+  // returns the induction variable of a counted loop, or null
+  private Decl inductionVariable(ForStmt ast) {
+    if (!(ast.E1 instanceof AssignExpr && ast.E2 instanceof BinaryExpr
+          && ast.E3 instanceof AssignExpr))
+      return null;
+    AssignExpr init = (AssignExpr) ast.E1;
+    Decl i = variable(init.E1);
+    if (i == null || !i.T.isIntType() || i instanceof GlobalVarDecl
+        || constant(init.E2) == null)
+      return null;
+
+    BinaryExpr test = (BinaryExpr) ast.E2;
+    if (!(test.O.spelling.equals("i<") || test.O.spelling.equals("i<="))
+        || variable(test.E1) != i || constant(test.E2) == null)
+      return null;
+
+    AssignExpr next = (AssignExpr) ast.E3;
+    if (variable(next.E1) != i || !(next.E2 instanceof BinaryExpr))
+      return null;
+    BinaryExpr incr = (BinaryExpr) next.E2;
+    Long step = constant(incr.E2);
+    if (!incr.O.spelling.equals("i+") || variable(incr.E1) != i
+        || step == null || step <= 0)
+      return null;
+
+    return isAssignedIn(i, ast.S) ? null : i;
+  }
+
+  private static Decl variable(Expr e) {
+    if (e instanceof VarExpr)
+      return (Decl) ((SimpleVar) ((VarExpr) e).V).I.decl;
+    return null;
+  }
+
+  private static Long constant(Expr e) {
+    if (e instanceof IntExpr) {
+      try {
+        return Long.valueOf(((IntExpr) e).IL.spelling);
+      } catch (NumberFormatException ex) {
+        return null;
+      }
+    }
+    if (e instanceof UnaryExpr && ((UnaryExpr) e).O.spelling.equals("i-")) {
+      Long v = constant(((UnaryExpr) e).E);
+      return (v == null) ? null : -v;
+    }
+    return null;
+  }
+
+  // the interval of the values of an int expression, or null
+  private long[] interval(Expr e) {
+    Long c = constant(e);
+    if (c != null)
+      return new long[] { c, c };
+    Decl d = variable(e);
+    if (d != null)
+      return ranges.get(d);
+    if (e instanceof UnaryExpr) {
+      UnaryExpr u = (UnaryExpr) e;
+      long[] a = interval(u.E);
+      if (a == null)
+        return null;
+      if (u.O.spelling.equals("i+"))
+        return a;
+      if (u.O.spelling.equals("i-"))
+        return new long[] { -a[1], -a[0] };
+      return null;
+    }
+    if (e instanceof BinaryExpr) {
+      BinaryExpr b = (BinaryExpr) e;
+      long[] x = interval(b.E1);
+      long[] y = interval(b.E2);
+      if (x == null || y == null)
+        return null;
+      String op = b.O.spelling;
+      if (op.equals("i+"))
+        return new long[] { x[0] + y[0], x[1] + y[1] };
+      if (op.equals("i-"))
+        return new long[] { x[0] - y[1], x[1] - y[0] };
+      if (op.equals("i*")) {
+        long p1 = x[0] * y[0], p2 = x[0] * y[1], p3 = x[1] * y[0], p4 = x[1] * y[1];
+        return new long[] { Math.min(Math.min(p1, p2), Math.min(p3, p4)),
+                            Math.max(Math.max(p1, p2), Math.max(p3, p4)) };
+      }
+    }
+    return null;
+  }
+
+  // the declared size of an array, or -1 for an array parameter
+  private static long arraySize(Decl d) {
+    Expr size = ((ArrayType) d.T).E;
+    Long n = constant(size);
+    return (n == null) ? -1 : n;
+  }
+
+  private static boolean isAssignedIn(final Decl d, Stmt s) {
+    final boolean[] found = { false };
+    s.visit(new ASTWalker() {
+      public Object visitAssignExpr(AssignExpr ast, Object o) {
+        if (variable(ast.E1) == d)
+          found[0] = true;
+        return super.visitAssignExpr(ast, o);
+      }
+    }, null);
+    return found[0];
+  }
+
+  // whether some variable occurs in e more than once
+  private static boolean repeatsVariable(Expr e) {
+    final IdentityHashMap<Decl, Decl> seen = new IdentityHashMap<Decl, Decl>();
+    final boolean[] found = { false };
+    e.visit(new ASTWalker() {
+      public Object visitSimpleVar(SimpleVar ast, Object o) {
+        Decl d = (Decl) ast.I.decl;
+        if (seen.put(d, d) != null)
+          found[0] = true;
+        return null;
+      }
+    }, null);
+    return found[0];
+  }
+
+  private static boolean containsJump(Stmt s) {
+    final boolean[] found = { false };
+    s.visit(new ASTWalker() {
+      public Object visitBreakStmt(BreakStmt ast, Object o) {
+        found[0] = true;
+        return null;
+      }
+
+      public Object visitContinueStmt(ContinueStmt ast, Object o) {
+        found[0] = true;
+        return null;
+      }
+
+      public Object visitReturnStmt(ReturnStmt ast, Object o) {
+        found[0] = true;
+        return null;
+      }
+    }, null);
+    return found[0];
+  }
+
+}
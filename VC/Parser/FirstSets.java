@@ -0,0 +1,48 @@
+/*
+ * FirstSets.java
+ */
+
+// The FIRST sets of the VC grammar, and the operator classes of its
+// binary expressions, as bitsets indexed by Token.kind (all kinds
+// are below 64). Shared by Parser and Recogniser, so that deciding
+// between productions is one shift and mask instead of a chain of
+// comparisons, and a new production needs only a new set here.
+
+package VC.Parser;
+
+import VC.Scanner.Token;
+
+public final class FirstSets {
+
+  // type -> void | boolean | int | float
+  public static final long TYPE =
+    set(Token.VOID, Token.BOOLEAN, Token.INT, Token.FLOAT);
+
+  // the statements other than compound and expression statements
+  public static final long KEYWORD_STMT =
+    set(Token.IF, Token.FOR, Token.WHILE,
+        Token.BREAK, Token.CONTINUE, Token.RETURN);
+
+  // the operators of each level of binary expressions
+  public static final long EQUALITY_OP = set(Token.EQEQ, Token.NOTEQ);
+  public static final long RELATIONAL_OP =
+    set(Token.LT, Token.LTEQ, Token.GT, Token.GTEQ);
+  public static final long ADDITIVE_OP = set(Token.PLUS, Token.MINUS);
+  public static final long MULTIPLICATIVE_OP = set(Token.MULT, Token.DIV);
+
+  private FirstSets() {
+  }
+
+  // whether a token of the given kind is in the set
+  public static boolean in(long set, int kind) {
+    return ((set >>> kind) & 1L) != 0;
+  }
+
+  private static long set(int... kinds) {
+    long set = 0;
+    for (int kind : kinds)
+      set |= 1L << kind;
+    return set;
+  }
+
+}
@@ -56,8 +56,11 @@ public class Parser {
     private Scanner scanner;
     private ErrorReporter errorReporter;
     private Token currentToken;
+    private Token nextToken; // the token after currentToken, once peeked at
     private SourcePosition previousTokenPosition;
     private SourcePosition dummyPos = new SourcePosition();
+    // the position of the token of the last syntax error reported
+    private SourcePosition lastErrorPos = null;
 
     public Parser(Scanner lexer, ErrorReporter reporter) {
         scanner = lexer;
@@ -73,7 +76,7 @@ public class Parser {
     void match(int tokenExpected) throws SyntaxError {
         if (currentToken.kind == tokenExpected) {
             previousTokenPosition = currentToken.position;
-            currentToken = scanner.getToken();
+            currentToken = fetchToken();
         } else {
             syntacticError("\"%\" expected here", Token.spell(tokenExpected));
         }
@@ -81,16 +84,51 @@ public class Parser {
 
     void accept() {
         previousTokenPosition = currentToken.position;
-        currentToken = scanner.getToken();
+        currentToken = fetchToken();
+    }
+
+    // fetchToken returns the token after currentToken, which may have
+    // been read already by peekToken.
+
+    Token fetchToken() {
+        Token token = nextToken;
+        if (token == null)
+            return scanner.getToken();
+        nextToken = null;
+        return token;
+    }
+
+    Token peekToken() {
+        if (nextToken == null)
+            nextToken = scanner.getToken();
+        return nextToken;
+    }
+
+    // "parallel" is not a keyword: it starts a parallel for only when
+    // directly followed by "for", and is an identifier anywhere else.
+
+    boolean atParallelFor() {
+        return currentToken.kind == Token.ID
+            && currentToken.spelling.equals("parallel")
+            && peekToken().kind == Token.FOR;
     }
 
     void syntacticError(String messageTemplate, String tokenQuoted)
             throws SyntaxError {
-        SourcePosition pos = currentToken.position;
-        errorReporter.reportError(messageTemplate, tokenQuoted, pos);
+        reportSyntacticError(messageTemplate, tokenQuoted);
         throw (new SyntaxError());
     }
 
+    // A second error at the same token, found while recovering from
+    // the first, is not reported.
+
+    void reportSyntacticError(String messageTemplate, String tokenQuoted) {
+        SourcePosition pos = currentToken.position;
+        if (pos != lastErrorPos)
+            errorReporter.reportError(messageTemplate, tokenQuoted, pos);
+        lastErrorPos = pos;
+    }
+
     // start records the position of the start of a phrase.
     // This is defined to be the position of the first
     // character of the first token of the phrase.
@@ -128,11 +166,15 @@ public class Parser {
             }
             
             List dlAST = parseFuncOrVarDeclList( true, true );
+            while (currentToken.kind != Token.EOF) {
+              // go on with the declarations after the unknown tokens
+              Token first = currentToken;
+              reportSyntacticError("\"%\" unknown type", currentToken.spelling);
+              skipDecl(first, true);
+              dlAST = appendDecls(dlAST, parseFuncOrVarDeclList( true, true ));
+            }
             finish(programPos);
             programAST = new Program(dlAST, programPos); 
-            if (currentToken.kind != Token.EOF) {
-              syntacticError("\"%\" unknown type", currentToken.spelling);
-            }
         } catch (SyntaxError s) {
             return null;
         }
@@ -140,11 +182,35 @@ public class Parser {
 
     }
 
+    List appendDecls(List list, List rest) {
+        if (list instanceof EmptyDeclList)
+            return rest;
+        DeclList last = (DeclList) list;
+        while (last.DL instanceof DeclList)
+            last = (DeclList) last.DL;
+        last.DL = rest;
+        rest.parent = last;
+        return list;
+    }
+
     // ========================== DECLARATIONS ========================
     List parseFuncOrVarDeclList( boolean funcAllowFlag, boolean globalVarFlag ) throws SyntaxError {
         if( currentToken.kind == Token.EOF ){
             return new EmptyDeclList(dummyPos);
         }
+        Token first = currentToken;
+        try {
+            return parseFuncOrVarDecls( funcAllowFlag, globalVarFlag );
+        } catch (SyntaxError s) {
+            // the declarations before the error are lost with it
+            skipDecl(first, globalVarFlag);
+            if (isTypeStart(currentToken.kind))
+                return parseFuncOrVarDeclList( funcAllowFlag, globalVarFlag );
+            return new EmptyDeclList(dummyPos);
+        }
+    }
+
+    List parseFuncOrVarDecls( boolean funcAllowFlag, boolean globalVarFlag ) throws SyntaxError {
         List list = null;
         Decl decl = null;
         
@@ -305,8 +371,8 @@ public class Parser {
         // only one item if legal. This case, it should call upper parseFuncOrVarDeclList, since it should begin from Type Ident,...
         else {
             match(Token.SEMICOLON); // skip semicolon here within the whole recursion.
-            if (currentToken.kind == Token.VOID || currentToken.kind == Token.BOOLEAN || currentToken.kind == Token.INT || currentToken.kind == Token.FLOAT) {
-                list = (DeclList) parseFuncOrVarDeclList(funcAllowFlag, globalVarFlag);
+            if (isTypeStart(currentToken.kind)) {
+                list = parseFuncOrVarDeclList(funcAllowFlag, globalVarFlag);
             } else {                // should add an empty declList anyway
                 list = new EmptyDeclList(dummyPos);
             }
@@ -402,7 +468,7 @@ public class Parser {
         match(Token.LCURLY);
         
         List varDecList = null;
-        if (currentToken.kind == Token.VOID || currentToken.kind == Token.BOOLEAN || currentToken.kind == Token.INT || currentToken.kind == Token.FLOAT) {
+        if (isTypeStart(currentToken.kind)) {
             varDecList= parseVarDeclList();
         }
         else varDecList = new EmptyDeclList(dummyPos);
@@ -411,7 +477,11 @@ public class Parser {
         if( currentToken.kind == Token.RCURLY ) stmtList = new EmptyStmtList(dummyPos); 
         else stmtList = parseStmtList();  //emptyStmt is also possible
         
-        match(Token.RCURLY);
+        try {
+            match(Token.RCURLY);
+        } catch (SyntaxError s) {
+            // at the end of the file; keep the statements
+        }
         finish(stmtPos);
        
         if( varDecList instanceof EmptyDeclList && stmtList instanceof EmptyStmtList ){
@@ -423,9 +493,17 @@ public class Parser {
     
     List parseVarDeclList() throws SyntaxError {
         DeclList declList = null;
-        Type tAST = parseType( null );
-        Ident idAST = parseIdent();
-        declList = parseInitDeclaratorListBesidesFirstIdent(tAST, idAST, false, false);
+        Token first = currentToken;
+        try {
+            Type tAST = parseType( null );
+            Ident idAST = parseIdent();
+            declList = parseInitDeclaratorListBesidesFirstIdent(tAST, idAST, false, false);
+        } catch (SyntaxError s) {
+            skipDecl(first, false);
+            if (isTypeStart(currentToken.kind))
+                return parseVarDeclList();
+            return new EmptyDeclList(dummyPos);
+        }
         //match(Token.SEMICOLON); has already skip it within upper function
         return declList;
     }
@@ -435,10 +513,10 @@ public class Parser {
         SourcePosition stmtPos = new SourcePosition();
         start(stmtPos);
 
-        if (currentToken.kind != Token.RCURLY) {
+        if (currentToken.kind != Token.RCURLY && currentToken.kind != Token.EOF) {
             Stmt sAST = parseStmt();
             {
-                if (currentToken.kind != Token.RCURLY) {
+                if (currentToken.kind != Token.RCURLY && currentToken.kind != Token.EOF) {
                     slAST = parseStmtList();
                     finish(stmtPos);
                     slAST = new StmtList(sAST, slAST, stmtPos);
@@ -455,31 +533,42 @@ public class Parser {
     
     Stmt parseStmt() throws SyntaxError {
         Stmt sAST = null;
-        switch (currentToken.kind) {
-            case Token.LCURLY:
-                sAST = parseCompoundStmt();
-                break;
-            case Token.IF:
-                sAST = parseIfStmt();
-                break;
-            case Token.FOR:
-                sAST = parseForStmt();
-                break;
-            case Token.WHILE: 
-                sAST = parseWhileStmt(); 
-                break;
-            case Token.BREAK:
-                sAST = parseBreakStmt();
-                break;
-            case Token.CONTINUE:
-                sAST = parseContinueStmt();
-                break;
-            case Token.RETURN: 
-                sAST = parseReturnStmt(); 
-                break;
-            default:
-                sAST = parseExprStmt();
-                break;
+        Token first = currentToken;
+        SourcePosition position = new SourcePosition();
+        start(position);
+        try {
+            if (atParallelFor())
+                return parseForStmt();
+            switch (currentToken.kind) {
+                case Token.LCURLY:
+                    sAST = parseCompoundStmt();
+                    break;
+                case Token.IF:
+                    sAST = parseIfStmt();
+                    break;
+                case Token.FOR:
+                    sAST = parseForStmt();
+                    break;
+                case Token.WHILE: 
+                    sAST = parseWhileStmt(); 
+                    break;
+                case Token.BREAK:
+                    sAST = parseBreakStmt();
+                    break;
+                case Token.CONTINUE:
+                    sAST = parseContinueStmt();
+                    break;
+                case Token.RETURN: 
+                    sAST = parseReturnStmt(); 
+                    break;
+                default:
+                    sAST = parseExprStmt();
+                    break;
+            }
+        } catch (SyntaxError s) {
+            skipStmt(first);
+            finish(position);
+            sAST = new ErrorStmt(position);
         }
         
         return sAST;
@@ -492,7 +581,7 @@ public class Parser {
         
         match(Token.IF);
         match(Token.LPAREN);
-        Expr expr = parseExpr();
+        Expr expr = parseExprBefore(Token.RPAREN);
         match(Token.RPAREN);
         Stmt stmt = parseStmt();
         if (currentToken.kind == Token.ELSE) {
@@ -514,24 +603,29 @@ public class Parser {
         SourcePosition position = new SourcePosition();
         start(position);
         
+        boolean parallel = false;
+        if( atParallelFor() ){
+            accept();
+            parallel = true;
+        }
         match(Token.FOR);
         match(Token.LPAREN);
         
         Expr expr1 = null; Expr expr2 = null; Expr expr3 = null;
         if( currentToken.kind != Token.SEMICOLON ){
-            expr1 = parseExpr();
+            expr1 = parseExprBefore(Token.SEMICOLON);
         }else{
             expr1 = new EmptyExpr(dummyPos);
         }
         match(Token.SEMICOLON);
         if( currentToken.kind != Token.SEMICOLON ){
-            expr2 = parseExpr();
+            expr2 = parseExprBefore(Token.SEMICOLON);
         }else{
             expr2 = new EmptyExpr(dummyPos);
         }
         match(Token.SEMICOLON);
         if( currentToken.kind != Token.RPAREN ){
-            expr3 = parseExpr();
+            expr3 = parseExprBefore(Token.RPAREN);
         }else{
             expr3 = new EmptyExpr(dummyPos);
         }
@@ -540,6 +634,7 @@ public class Parser {
         
         finish(position);
         sAST = new ForStmt(expr1, expr2, expr3, stmt, position);
+        ((ForStmt) sAST).parallel = parallel;
         
         return sAST;
     }
@@ -554,7 +649,7 @@ public class Parser {
         
         Expr expr = null;
         if( currentToken.kind != Token.RPAREN ){
-            expr = parseExpr();
+            expr = parseExprBefore(Token.RPAREN);
         }else{
             expr = new EmptyExpr(dummyPos);
         }
@@ -605,7 +700,7 @@ public class Parser {
         
         Expr expr = null;
         if( currentToken.kind != Token.SEMICOLON ){
-            expr = parseExpr();
+            expr = parseExprBefore(Token.SEMICOLON);
         }else{
             expr = new EmptyExpr(dummyPos);
         }
@@ -625,7 +720,7 @@ public class Parser {
         
         Expr expr = null;
         if( currentToken.kind != Token.SEMICOLON ){
-            expr = parseExpr();
+            expr = parseExprBefore(Token.SEMICOLON);
         }
         else{
             expr = new EmptyExpr(dummyPos);
@@ -637,6 +732,95 @@ public class Parser {
         return sAST;
     }
     
+    // ===================== ERROR RECOVERY =====================
+    //
+    // After a syntax error, the parser skips the tokens up to a point
+    // from which it can go on: the end of the expression, statement or
+    // declaration that contains the error, keeping track of nested
+    // parentheses and braces. An ErrorExpr or ErrorStmt stands in for
+    // the tokens skipped, so that all the syntax errors in a program are
+    // reported in one run, and the program can still be checked.
+
+    boolean isTypeStart(int kind) {
+        return FirstSets.in(FirstSets.TYPE, kind);
+    }
+
+    // the statements that cannot be mistaken for the rest of a broken one
+    boolean atStmtStart() {
+        return FirstSets.in(FirstSets.KEYWORD_STMT, currentToken.kind)
+            || atParallelFor();
+    }
+
+    // Parses an expression followed by closer. After an error in it,
+    // skips up to closer, a ";" or a brace.
+    Expr parseExprBefore(int closer) throws SyntaxError {
+        SourcePosition position = new SourcePosition();
+        start(position);
+        try {
+            return parseExpr();
+        } catch (SyntaxError s) {
+            int depth = 0;
+            while (currentToken.kind != Token.EOF) {
+                int kind = currentToken.kind;
+                if (depth == 0 && (kind == closer || kind == Token.SEMICOLON
+                                   || kind == Token.LCURLY || kind == Token.RCURLY))
+                    break;
+                if (kind == Token.LPAREN)
+                    depth++;
+                else if (kind == Token.RPAREN && depth > 0)
+                    depth--;
+                accept();
+            }
+            finish(position);
+            return new ErrorExpr(position);
+        }
+    }
+
+    // Skips the rest of the statement starting with first: up to and
+    // including a ";" or the "}" of a block (and any else part), or up to
+    // the "}" of the enclosing block or the start of the next statement.
+    void skipStmt(Token first) {
+        int depth = 0;
+        while (currentToken.kind != Token.EOF) {
+            int kind = currentToken.kind;
+            if (currentToken != first && depth == 0
+                && (kind == Token.RCURLY || atStmtStart()))
+                return;
+            accept();
+            if (kind == Token.LCURLY)
+                depth++;
+            else if (kind == Token.RCURLY) {
+                depth--;
+                if (depth == 0 && currentToken.kind != Token.ELSE)
+                    return;
+            } else if (kind == Token.SEMICOLON && depth == 0)
+                return;
+        }
+    }
+
+    // Skips the rest of the declaration starting with first: up to and
+    // including a ";" or the "}" of a function body, or up to the start
+    // of the next declaration. A local declaration also ends before the
+    // "}" of its block or the start of a statement.
+    void skipDecl(Token first, boolean global) {
+        int depth = 0;
+        while (currentToken.kind != Token.EOF) {
+            int kind = currentToken.kind;
+            if (currentToken != first && depth == 0
+                && (isTypeStart(kind) || (!global && (kind == Token.RCURLY || atStmtStart()))))
+                return;
+            accept();
+            if (kind == Token.LCURLY)
+                depth++;
+            else if (kind == Token.RCURLY && depth > 0) {
+                depth--;
+                if (depth == 0)
+                    return;
+            } else if (kind == Token.SEMICOLON && depth == 0)
+                return;
+        }
+    }
+
     // ======================= PARAMETERS =======================
     List parseParaList() throws SyntaxError {
         List formalsAST = null;
@@ -758,140 +942,59 @@ public class Parser {
     }
     
     // ======================= EXPRESSIONS ======================
-    // expr -> assignment-expr
-    Expr parseExpr() throws SyntaxError {
-        Expr exprAST = null;
-        exprAST = parseAssignExpr();
-        return exprAST;
-    }
-    // assignment-expr -> ( cond-or-expr "=" )* cond-or-expr
-    Expr parseAssignExpr() throws SyntaxError {
-        Expr exprAST = null;
-        SourcePosition addStartPos = new SourcePosition();
-        start(addStartPos);
-        
-        exprAST = parseConOrExpr();
-        if (currentToken.kind == Token.EQ) {
-            Operator opAST = acceptOperator();
-            Expr expr2 = parseAssignExpr();
-            
-            SourcePosition addPos = new SourcePosition();
-            copyStart(addStartPos, addPos);
-            finish(addPos);
-         
-            exprAST = new AssignExpr(exprAST, expr2, addPos);
-        }
-        
-        return exprAST;
-    }
+    //
+    // The binary levels of the grammar, from assignment-expr down to
+    // multiplicative-expr, are parsed by precedence climbing rather
+    // than by one method per level: an operand is a unary-expr, and
+    // the operators are looked up in a table indexed by Token.kind.
+    // All are left-associative except "=", which is right-associative
+    // and builds an AssignExpr. The trees and their positions are the
+    // same as with the grammar's productions, but an identifier takes
+    // two calls to reach instead of eight.
 
-    Expr parseConOrExpr() throws SyntaxError {
-        Expr exprAST = null;
-        SourcePosition addStartPos = new SourcePosition();
-        start(addStartPos);
-        
-        exprAST = parseConAndExpr();
-        while (currentToken.kind == Token.OROR) {
-            Operator opAST = acceptOperator();
-            Expr expr2 = parseConAndExpr();
-            
-            SourcePosition addPos = new SourcePosition();
-            copyStart(addStartPos, addPos);
-            finish(addPos);
-            exprAST = new BinaryExpr(exprAST, opAST, expr2, addPos);
-        }
-        
-        return exprAST;
-    }
-   
-    Expr parseConAndExpr() throws SyntaxError {
-        Expr exprAST = null;
-        SourcePosition addStartPos = new SourcePosition();
-        start(addStartPos);
-        
-        exprAST = parseEqualExpr();
-        while (currentToken.kind == Token.ANDAND) {
-            Operator opAST = acceptOperator();
-            Expr expr2 = parseEqualExpr();
-            
-            SourcePosition addPos = new SourcePosition();
-            copyStart(addStartPos, addPos);
-            finish(addPos);
-            exprAST = new BinaryExpr(exprAST, opAST, expr2, addPos);
-        }
-        
-        return exprAST;
-    }
-   
-    Expr parseEqualExpr() throws SyntaxError {
-        Expr exprAST = null;
-        SourcePosition addStartPos = new SourcePosition();
-        start(addStartPos);
-        
-        exprAST = parseRealExpr();
-        while (currentToken.kind == Token.EQEQ || currentToken.kind == Token.NOTEQ) {
-            Operator opAST = acceptOperator();
-            Expr expr2 = parseRealExpr();
-            
-            SourcePosition addPos = new SourcePosition();
-            copyStart(addStartPos, addPos);
-            finish(addPos);
-            exprAST = new BinaryExpr(exprAST, opAST, expr2, addPos);
-        }
-        
-        return exprAST;
-    }
-   
-    Expr parseRealExpr() throws SyntaxError {
-        Expr exprAST = null;
-        SourcePosition addStartPos = new SourcePosition();
-        start(addStartPos);
-        
-        exprAST = parseAdditiveExpr();
-        while (currentToken.kind == Token.LT || currentToken.kind == Token.LTEQ || currentToken.kind == Token.GT || currentToken.kind == Token.GTEQ) {
-            Operator opAST = acceptOperator();
-            Expr expr2 = parseAdditiveExpr();
-            
-            SourcePosition addPos = new SourcePosition();
-            copyStart(addStartPos, addPos);
-            finish(addPos);
-            exprAST = new BinaryExpr(exprAST, opAST, expr2, addPos);
-        }
-        
-        return exprAST;
-    }
-  
-    Expr parseAdditiveExpr() throws SyntaxError {
-        Expr exprAST = null;
-        SourcePosition addStartPos = new SourcePosition();
-        start(addStartPos);
+    private static final int ASSIGN_PRECEDENCE = 1;
+    private static final int[] PRECEDENCE = new int[Token.EOF + 1];
 
-        exprAST = parseMultiplicativeExpr();
-        while (currentToken.kind == Token.PLUS || currentToken.kind == Token.MINUS) {
-            Operator opAST = acceptOperator();
-            Expr e2AST = parseMultiplicativeExpr();
+    static {
+        PRECEDENCE[Token.EQ] = ASSIGN_PRECEDENCE;
+        PRECEDENCE[Token.OROR] = 2;
+        PRECEDENCE[Token.ANDAND] = 3;
+        PRECEDENCE[Token.EQEQ] = PRECEDENCE[Token.NOTEQ] = 4;
+        PRECEDENCE[Token.LT] = PRECEDENCE[Token.LTEQ] = 
+            PRECEDENCE[Token.GT] = PRECEDENCE[Token.GTEQ] = 5;
+        PRECEDENCE[Token.PLUS] = PRECEDENCE[Token.MINUS] = 6;
+        PRECEDENCE[Token.MULT] = PRECEDENCE[Token.DIV] = 7;
+    }
 
-            SourcePosition addPos = new SourcePosition();
-            copyStart(addStartPos, addPos);
-            finish(addPos);
-            exprAST = new BinaryExpr(exprAST, opAST, e2AST, addPos);
-        }
-        return exprAST;
+    // expr -> assignment-expr
+    Expr parseExpr() throws SyntaxError {
+        return parseBinaryExpr(ASSIGN_PRECEDENCE);
     }
-   
-    Expr parseMultiplicativeExpr() throws SyntaxError {
+
+    // Parses an expression whose operators, outside parentheses, all
+    // bind at least as tightly as minPrecedence.
+    Expr parseBinaryExpr(int minPrecedence) throws SyntaxError {
         Expr exprAST = null;
-        SourcePosition multStartPos = new SourcePosition();
-        start(multStartPos);
+        SourcePosition startPos = new SourcePosition();
+        start(startPos);
 
         exprAST = parseUnaryExpr();
-        while (currentToken.kind == Token.MULT || currentToken.kind == Token.DIV) {
+        int precedence = PRECEDENCE[currentToken.kind];
+        while (precedence >= minPrecedence) {
             Operator opAST = acceptOperator();
-            Expr e2AST = parseUnaryExpr();
-            SourcePosition multPos = new SourcePosition();
-            copyStart(multStartPos, multPos);
-            finish(multPos);
-            exprAST = new BinaryExpr(exprAST, opAST, e2AST, multPos);
+            SourcePosition pos = new SourcePosition();
+            if (precedence == ASSIGN_PRECEDENCE) {
+                Expr e2AST = parseBinaryExpr(precedence);
+                copyStart(startPos, pos);
+                finish(pos);
+                exprAST = new AssignExpr(exprAST, e2AST, pos);
+            } else {
+                Expr e2AST = parseBinaryExpr(precedence + 1);
+                copyStart(startPos, pos);
+                finish(pos);
+                exprAST = new BinaryExpr(exprAST, opAST, e2AST, pos);
+            }
+            precedence = PRECEDENCE[currentToken.kind];
         }
         return exprAST;
     }
@@ -988,7 +1091,7 @@ public class Parser {
             previousTokenPosition = currentToken.position;
             String spelling = currentToken.spelling;
             I = new Ident(spelling, previousTokenPosition);
-            currentToken = scanner.getToken();
+            currentToken = fetchToken();
         } else
             syntacticError("identifier expected here", "");
         return I;
@@ -1001,7 +1104,7 @@ public class Parser {
         previousTokenPosition = currentToken.position;
         String spelling = currentToken.spelling;
         O = new Operator(spelling, previousTokenPosition);
-        currentToken = scanner.getToken();
+        currentToken = fetchToken();
         return O;
     }
 
@@ -9,6 +9,7 @@ package VC.Recogniser;
 import VC.Scanner.Scanner;
 import VC.Scanner.SourcePosition;
 import VC.Scanner.Token;
+import VC.Parser.FirstSets;
 import VC.ErrorReporter;
 
 public class Recogniser {
@@ -16,6 +17,7 @@ public class Recogniser {
     private Scanner scanner;
     private ErrorReporter errorReporter;
     private Token currentToken;
+    private Token nextToken; // the token after currentToken, once peeked at
 
     public Recogniser(Scanner lexer, ErrorReporter reporter) {
         scanner = lexer;
@@ -30,7 +32,7 @@ public class Recogniser {
 
     void match(int tokenExpected) throws SyntaxError {
         if (currentToken.kind == tokenExpected) {
-            currentToken = scanner.getToken();
+            currentToken = fetchToken();
         } else {
             syntacticError("\"%\" expected here", Token.spell(tokenExpected));
         }
@@ -38,7 +40,33 @@ public class Recogniser {
 
     // accepts the current token and fetches the next
     void accept() {
-        currentToken = scanner.getToken();
+        currentToken = fetchToken();
+    }
+
+    // fetchToken returns the token after currentToken, which may have
+    // been read already by peekToken.
+
+    Token fetchToken() {
+        Token token = nextToken;
+        if (token == null)
+            return scanner.getToken();
+        nextToken = null;
+        return token;
+    }
+
+    Token peekToken() {
+        if (nextToken == null)
+            nextToken = scanner.getToken();
+        return nextToken;
+    }
+
+    // "parallel" is not a keyword: it starts a parallel for only when
+    // directly followed by "for", and is an identifier anywhere else.
+
+    boolean atParallelFor() {
+        return currentToken.kind == Token.ID
+            && currentToken.spelling.equals("parallel")
+            && peekToken().kind == Token.FOR;
     }
 
     void syntacticError(String messageTemplate, String tokenQuoted)
@@ -52,9 +80,9 @@ public class Recogniser {
 
     public void parseProgram() {
         try {
-            while( true ){
+            // program -> ( func-decl | var-decl )*, possibly empty
+            while( currentToken.kind != Token.EOF ){
                 parseFuncOrVarDecl();
-                if( currentToken.kind == Token.EOF ) break;
             }
         } catch (SyntaxError s) { }
     }
@@ -189,10 +217,7 @@ public class Recogniser {
     }
 
     void parseVarDeclaratorList() throws SyntaxError {
-        while (currentToken.kind == Token.VOID
-                || currentToken.kind == Token.BOOLEAN
-                || currentToken.kind == Token.INT
-                || currentToken.kind == Token.FLOAT) {
+        while (FirstSets.in(FirstSets.TYPE, currentToken.kind)) {
             parseVarDeclarator();
         }
     }
@@ -219,6 +244,10 @@ public class Recogniser {
     // | return-stmt
     // | expr-stmt
     void parseStmt() throws SyntaxError {
+        if (atParallelFor()) {
+            parseForStmt();
+            return;
+        }
         switch (currentToken.kind) {
         case Token.LCURLY:
             parseCompoundStmt();
@@ -259,6 +288,8 @@ public class Recogniser {
     }
 
     void parseForStmt() throws SyntaxError {
+        if (atParallelFor())
+            accept();
         match(Token.FOR);
         match(Token.LPAREN);
         if( currentToken.kind != Token.SEMICOLON ) parseExpr();
@@ -311,7 +342,7 @@ public class Recogniser {
 
     void parseIdent() throws SyntaxError {
         if (currentToken.kind == Token.ID) {
-            currentToken = scanner.getToken();
+            currentToken = fetchToken();
         } else
             syntacticError("identifier expected here", "");
     }
@@ -322,7 +353,7 @@ public class Recogniser {
     // In Assignment 3, an Operator Node will be constructed in here.
 
     void acceptOperator() throws SyntaxError {
-        currentToken = scanner.getToken();
+        currentToken = fetchToken();
     }
 
     // ======================= EXPRESSIONS ======================
@@ -375,8 +406,7 @@ public class Recogniser {
     // | equality-expr "!=" rel-expr
     void parseEqualExpr() throws SyntaxError {
         parseRealExpr();
-        while (currentToken.kind == Token.EQEQ
-                || currentToken.kind == Token.NOTEQ) {
+        while (FirstSets.in(FirstSets.EQUALITY_OP, currentToken.kind)) {
             acceptOperator();
             parseRealExpr();
         }
@@ -392,9 +422,7 @@ public class Recogniser {
     // | rel-expr ">=" additive-expr
     void parseRealExpr() throws SyntaxError {
         parseAdditiveExpr();
-        while (currentToken.kind == Token.LT || currentToken.kind == Token.LTEQ
-                || currentToken.kind == Token.GT
-                || currentToken.kind == Token.GTEQ) {
+        while (FirstSets.in(FirstSets.RELATIONAL_OP, currentToken.kind)) {
             acceptOperator();
             parseAdditiveExpr();
         }
@@ -409,8 +437,7 @@ public class Recogniser {
     //
     void parseAdditiveExpr() throws SyntaxError {
         parseMultiplicativeExpr();
-        while (currentToken.kind == Token.PLUS
-                || currentToken.kind == Token.MINUS) {
+        while (FirstSets.in(FirstSets.ADDITIVE_OP, currentToken.kind)) {
             acceptOperator();
             parseMultiplicativeExpr();
         }
@@ -424,8 +451,7 @@ public class Recogniser {
     // | multiplicative-expr "/" unary-expr
     void parseMultiplicativeExpr() throws SyntaxError {
         parseUnaryExpr();
-        while (currentToken.kind == Token.MULT
-                || currentToken.kind == Token.DIV) {
+        while (FirstSets.in(FirstSets.MULTIPLICATIVE_OP, currentToken.kind)) {
             acceptOperator();
             parseUnaryExpr();
         }
@@ -521,28 +547,28 @@ public class Recogniser {
 
     void parseIntLiteral() throws SyntaxError {
         if (currentToken.kind == Token.INTLITERAL) {
-            currentToken = scanner.getToken();
+            currentToken = fetchToken();
         } else
             syntacticError("integer literal expected here", "");
     }
 
     void parseFloatLiteral() throws SyntaxError {
         if (currentToken.kind == Token.FLOATLITERAL) {
-            currentToken = scanner.getToken();
+            currentToken = fetchToken();
         } else
             syntacticError("float literal expected here", "");
     }
 
     void parseBooleanLiteral() throws SyntaxError {
         if (currentToken.kind == Token.BOOLEANLITERAL) {
-            currentToken = scanner.getToken();
+            currentToken = fetchToken();
         } else
             syntacticError("boolean literal expected here", "");
     }
 
     void parseStringLiteral() throws SyntaxError {
         if (currentToken.kind == Token.STRINGLITERAL) {
-            currentToken = scanner.getToken();
+            currentToken = fetchToken();
         } else
             syntacticError("boolean literal expected here", "");
     }
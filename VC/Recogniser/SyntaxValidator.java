@@ -0,0 +1,121 @@
+/*
+ * SyntaxValidator.java
+ */
+
+// Checks the syntax of many files at once with the Recogniser, which
+// builds no AST, on one thread per processor. The diagnostics of each
+// file are collected on its own and written out in the order of the
+// files, each failing file under a line with its name, so that the
+// output does not depend on the order in which the files finish.
+// A directory stands for all the .vc files under it.
+
+package VC.Recogniser;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import VC.ErrorReporter;
+import VC.Scanner.Scanner;
+import VC.Scanner.SourceFile;
+
+public class SyntaxValidator {
+
+  private ArrayList<String> filenames;
+  private int passed, failed;
+
+  public SyntaxValidator(String[] names) {
+    filenames = new ArrayList<String>();
+    for (String name : names) {
+      Path path = Paths.get(name);
+      if (Files.isDirectory(path)) {
+        try (Stream<Path> files = Files.walk(path)) {
+          ArrayList<String> found = new ArrayList<String>();
+          Iterator<Path> it = files.iterator();
+          while (it.hasNext()) {
+            Path file = it.next();
+            if (file.toString().endsWith(".vc") && Files.isRegularFile(file))
+              found.add(file.toString());
+          }
+          Collections.sort(found);
+          filenames.addAll(found);
+        } catch (IOException | UncheckedIOException e) {
+          System.out.println("[# vc #]: can't read: " + name);
+          failed++;
+        }
+      } else
+        filenames.add(name);
+    }
+  }
+
+  // Validates all the files, and returns the number that failed.
+  public int validate() {
+    PrintWriter out = new PrintWriter(System.out);
+    ExecutorService pool = Executors.newFixedThreadPool(
+      Runtime.getRuntime().availableProcessors());
+    ArrayList<Future<String>> results = new ArrayList<Future<String>>();
+    for (final String filename : filenames)
+      results.add(pool.submit(new Callable<String>() {
+        public String call() {
+          return recognise(filename);
+        }
+      }));
+    for (int i = 0; i < results.size(); i++) {
+      String errors;
+      try {
+        errors = results.get(i).get();
+      } catch (InterruptedException | ExecutionException e) {
+        errors = "Caught exception: " + e.getMessage() + "\n";
+      }
+      if (errors == null)
+        passed++;
+      else {
+        failed++;
+        out.println(filenames.get(i) + ":");
+        out.print(errors);
+      }
+    }
+    pool.shutdown();
+    out.println("[# vc #]: " + (passed + failed) + " file(s) checked: "
+      + passed + " passed, " + failed + " failed");
+    out.flush();
+    return failed;
+  }
+
+  public int getPassed() {
+    return passed;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  // The diagnostics for the file, or null if its syntax is correct.
+  private static String recognise(String filename) {
+    SourceFile source = new SourceFile(filename);
+    if (source.getError() != null)
+      return "[# vc #]: " + source.getError() + "\n";
+    StringWriter text = new StringWriter();
+    PrintWriter out = new PrintWriter(text);
+    ErrorReporter reporter = new ErrorReporter(out);
+    Scanner scanner = new Scanner(source, reporter);
+    Recogniser recogniser = new Recogniser(scanner, reporter);
+    recogniser.parseProgram();
+    reporter.close();
+    return reporter.numErrors == 0 ? null : text.toString();
+  }
+
+}
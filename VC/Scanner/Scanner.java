@@ -16,7 +16,8 @@ public final class Scanner {
     private boolean debug;
 
     private ErrorReporter errorReporter;
-    private StringBuffer currentSpelling;
+    private StringBuilder currentSpelling = new StringBuilder();
+    private String spelling; // taken from the source in one slice, if not null
     private char currentChar;
     private SourcePosition sourcePos;
     
@@ -167,27 +168,20 @@ public final class Scanner {
             // literals below:
             // int/float:
             case '.': case '0':case '1':case '2':case '3':case '4':case '5':case '6':case '7':case '8':case '9':
+                // fast path: digits not followed by a fraction or an exponent
+                if( currentChar != '.' ){
+                    int n = sourceFile.runLength(SourceFile.DIGIT);
+                    char after = inspectChar(n);
+                    if( after != '.' && after != 'e' && after != 'E' ){
+                        takeRun(n);
+                        return Token.INTLITERAL;
+                    }
+                }
                 int result = intFloatWrapChecker();
                 if( result == 1 ) return Token.INTLITERAL;
                 else if( result == -1 ) return Token.FLOATLITERAL;
                 else return Token.ERROR;
 
-            //boolean:
-            case 't':  //true
-                char[] chArray3 = longestMatch();
-                String str1 = String.valueOf(chArray3);
-                if( str1.equals("true") ){
-                    accept();accept();accept();accept();
-                    return Token.BOOLEANLITERAL;
-                }else break;
-            case 'f':  //false
-                char[] chArray4 = longestMatch();
-                String str2 = String.valueOf(chArray4);
-                if( str2.equals("false") ){
-                    accept();accept();accept();accept();accept();
-                    return Token.BOOLEANLITERAL;
-                }else break;
-                
             //string:
             case '"':
                 accept();
@@ -209,10 +203,12 @@ public final class Scanner {
                 break;
         }
         
-        // Identifier/Keyword: letter(a-zA-Z)
+        // Identifier/Keyword/boolean: letter(a-zA-Z_) followed by letters and digits,
+        // taken in one run. The keywords are told apart by Token.
         if( isLetter(currentChar) ){
-            accept();
-            iterateLettersAndDigits();
+            takeRun(sourceFile.runLength(SourceFile.LETTER | SourceFile.DIGIT));
+            if( spelling.equals("true") || spelling.equals("false") )
+                return Token.BOOLEANLITERAL;
             return Token.ID;
         }
 
@@ -237,6 +233,14 @@ public final class Scanner {
         return 0; // neither int nor float top indicator 
     }
 
+    // Takes the run of n characters from currentChar on, none of them
+    // a line terminator or '"', as the spelling.
+    private void takeRun(int n){
+        spelling = sourceFile.take(n);
+        charFinish += n;
+        currentChar = sourceFile.getNextChar();
+    }
+
     public void iteration( int count ){
         while( count != 0 ){
             accept(); count --;
@@ -336,15 +340,7 @@ public final class Scanner {
     }
     
     boolean isLetter(char ch){  //a-zA-Z_
-        if( (currentChar>=65 && currentChar<=90) || (currentChar>=97 && currentChar<=122) || currentChar == 95 ){
-            return true;
-        }else return false;
-    }
-    
-    void iterateLettersAndDigits(){
-        while( Character.isDigit(currentChar) || isLetter(currentChar) ){
-            accept();
-        }
+        return SourceFile.isIn(ch, SourceFile.LETTER);
     }
     
     public boolean stringChecker(){
@@ -376,11 +372,11 @@ public final class Scanner {
         }
         if( currentChar == '\n'  ){
             errorReporter.reportError( "%: unterminated string", currentSpelling.toString(), new SourcePosition( line, beginIndex, beginIndex ) );
-            System.out.println( new Token( Token.STRINGLITERAL, currentSpelling.toString(), new SourcePosition( line, beginIndex, charFinish-1 ) ) );
+            if (debug) System.out.println( new Token( Token.STRINGLITERAL, currentSpelling.toString(), new SourcePosition( line, beginIndex, charFinish-1 ) ) );
             return false;  // '\n', which means it is unterminated
         }else if( currentChar == '"' && invalidEscape == true){
             accept();
-            System.out.println( new Token( Token.STRINGLITERAL, currentSpelling.toString(), new SourcePosition( line, beginIndex, charFinish-1 ) ) );
+            if (debug) System.out.println( new Token( Token.STRINGLITERAL, currentSpelling.toString(), new SourcePosition( line, beginIndex, charFinish-1 ) ) );
             return false;  // '\n', which means it is unterminated
         }
         else{
@@ -402,8 +398,10 @@ public final class Scanner {
                 currentChar = sourceFile.getNextChar();
                 skipLineTerminator();
             } else if( currentChar == ' ' ){
+                int n = sourceFile.runLength(SourceFile.SPACE);
+                sourceFile.skip(n);
                 currentChar = sourceFile.getNextChar();
-                charStart ++; charFinish ++;
+                charStart += n; charFinish += n;
                 skipLineTerminator();
             }
             else{
@@ -432,8 +430,8 @@ public final class Scanner {
                                 else {charStart ++; charFinish ++;}
                                 offset--;
                             }
-                            System.out.println( new Token( Token.EOF, "$", new SourcePosition( line, charStart, charFinish ) ) );
-                            System.exit(0);
+                            currentChar = SourceFile.eof; // the rest of the file is the comment
+                            return;
                         }
                     }
                     // has terminated comment '*/' and already find it. Now just get the char after '*/'
@@ -469,7 +467,8 @@ public final class Scanner {
         skipSpaceAndCommentAndLineTerminator();
         
         // initialize current spell object
-        currentSpelling = new StringBuffer("");
+        currentSpelling.setLength(0);
+        spelling = null;
         
         // much work to do here:
         // 1. return the kind of current token
@@ -484,7 +483,8 @@ public final class Scanner {
         else sourcePos = new SourcePosition( line, charStart, charFinish-1 );
         
         // real create token object with its kind, spelling and position
-        tok = new Token(kind, currentSpelling.toString(), sourcePos);
+        if( spelling == null ) spelling = currentSpelling.toString();
+        tok = new Token(kind, spelling, sourcePos);
         
         // * do not remove these three lines
         if ( debug && (kind != -1)) System.out.println(tok);
@@ -1,61 +1,114 @@
 /*
- * SourceFile.java                   
+ * SourceFile.java
  */
 
 package VC.Scanner;
 
 import java.io.FileReader;
-import java.io.BufferedReader;
-import java.io.LineNumberReader;
+import java.io.Reader;
+import java.util.Arrays;
+
+// The whole file is read into a buffer at once, so that the Scanner can
+// look ahead without marking and resetting a reader, and can take the
+// spellings of identifiers and numbers from the buffer in one slice.
+// Line terminators ("\r\n", "\r" or "\n") become '\n', as they did when
+// the file was read through a LineNumberReader.
 
 public class SourceFile {
 
     static final char eof = '\u0000';
-    private LineNumberReader reader;
+
+    // the classes of characters that the Scanner takes in runs
+    static final int LETTER = 1, DIGIT = 2, SPACE = 4;
+    private static final byte[] classes = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++)
+            classes[c] = LETTER;
+        for (char c = 'A'; c <= 'Z'; c++)
+            classes[c] = LETTER;
+        classes['_'] = LETTER;
+        for (char c = '0'; c <= '9'; c++)
+            classes[c] = DIGIT;
+        classes[' '] = SPACE;
+    }
+
+    private char[] buffer;
+    private int length;
+    private int next; // the index of the character after the one last returned
+    private String error; // why the file could not be read, if it could not
 
     public SourceFile(String filename) { //only get the reader variable
         try {
-            reader = new LineNumberReader(new BufferedReader(new FileReader(filename)));
+            Reader reader = new FileReader(filename);
+            buffer = new char[8192];
+            int n;
+            while ((n = reader.read(buffer, length, buffer.length - length)) != -1) {
+                length += n;
+                if (length == buffer.length)
+                    buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+            }
+            reader.close();
         } catch (java.io.FileNotFoundException e) {
-            System.out.println("[# vc #]: can't read: " + filename);
-            System.exit(1);
+            error = "can't read: " + filename;
         } catch (Exception e) {
-            e.printStackTrace();
-            System.out.println("Caught IOException: " + e.getMessage());
-            System.exit(1);
+            error = "Caught IOException: " + e.getMessage();
         }
+
+        int j = 0;
+        for (int i = 0; i < length; i++) {
+            char c = buffer[i];
+            if (c == '\r') {
+                c = '\n';
+                if (i + 1 < length && buffer[i + 1] == '\n')
+                    i++;
+            }
+            buffer[j++] = c;
+        }
+        length = j;
+    }
+
+    // null if the file was read. Otherwise, the file is taken to be
+    // empty, and the caller decides whether to go on with the others.
+    public String getError() {
+        return error;
     }
 
     public char getNextChar() {
-        try {
-            int c = reader.read();
-            if (c == -1)
-                c = eof;
-            return (char) c;
-        } catch (java.io.IOException e) {
-            System.out.println("Caught IOException: " + e.getMessage());
-            return eof;
-        }
+        int i = next++;
+        return i < length ? buffer[i] : eof;
     }
 
     char inspectChar(int nthChar) {
         // nthChar must be >= 1.
-        int c;
+        int i = next + nthChar - 1;
+        return i < length ? buffer[i] : eof;
+    }
 
-        try {
-            reader.mark(nthChar);
-            do {
-                c = reader.read();
-                nthChar--;
-            } while (nthChar != 0);
-            reader.reset();           //anyway
-            if (c == -1)
-                c = eof;
-            return (char) c;
-        } catch (java.io.IOException e) {
-            System.out.println("Caught IOException: " + e.getMessage());
-            return eof;
-        }
+    static boolean isIn(char c, int classMask) {
+        return c < 128 && (classes[c] & classMask) != 0;
+    }
+
+    // The number of characters, from the one last returned on, that
+    // all belong to the classes in classMask.
+    int runLength(int classMask) {
+        int i = next - 1;
+        while (i < length && isIn(buffer[i], classMask))
+            i++;
+        return i - (next - 1);
+    }
+
+    // Returns the n characters from the one last returned on, and moves
+    // past them: the next getNextChar returns the character after them.
+    String take(int n) {
+        String s = new String(buffer, next - 1, n);
+        next += n - 1;
+        return s;
+    }
+
+    // Moves past the n characters from the one last returned on.
+    void skip(int n) {
+        next += n - 1;
     }
 
 }
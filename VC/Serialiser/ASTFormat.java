@@ -0,0 +1,67 @@
+/*
+ * ASTFormat.java
+ */
+
+// The binary format of an AST written by ASTWriter and read back by
+// ASTReader:
+//
+//   file        -> "VCAST" version strings node annotations
+//   strings     -> count (length utf-8-bytes)*     (all the spellings)
+//   node        -> kind position data node*        (in preorder)
+//   position    -> lineStart charStart (lineFinish - lineStart) charFinish
+//   annotations -> count (node field ref)*
+//
+// All numbers are varints: 7 bits a byte, least significant first, with
+// the top bit set in all bytes but the last. A difference of lines may
+// be negative and is zigzag encoded. The data of a terminal is the index
+// of its spelling in the strings, and that of a for statement is 1 if it
+// is a parallel for and 0 otherwise. The children of a node follow it in
+// the order of its fields.
+//
+// The nodes are numbered from 0 in preorder. An annotation sets the
+// decl of an Ident or the type of an Expr or a Var (field DECL or TYPE)
+// to the node numbered ref - NODE_REF, or to null (ref 0), one of the
+// types of StdEnvironment (ref 1 to 6) or the built-in function whose
+// name is given by the string index following (ref STD_FUNC).
+
+package VC.Serialiser;
+
+final class ASTFormat {
+
+  static final String MAGIC = "VCAST";
+  static final int VERSION = 1;
+
+  // Node kinds
+
+  static final int
+    PROGRAM = 0,
+    EMPTY_DECL_LIST = 1, EMPTY_STMT_LIST = 2, EMPTY_EXPR_LIST = 3,
+    EMPTY_PARA_LIST = 4, EMPTY_ARG_LIST = 5,
+    DECL_LIST = 6, FUNC_DECL = 7, GLOBAL_VAR_DECL = 8, LOCAL_VAR_DECL = 9,
+    STMT_LIST = 10, IF_STMT = 11, WHILE_STMT = 12, FOR_STMT = 13,
+    BREAK_STMT = 14, CONTINUE_STMT = 15, RETURN_STMT = 16,
+    COMPOUND_STMT = 17, EXPR_STMT = 18, EMPTY_COMP_STMT = 19,
+    EMPTY_STMT = 20, ERROR_STMT = 21,
+    INT_EXPR = 22, FLOAT_EXPR = 23, BOOLEAN_EXPR = 24, STRING_EXPR = 25,
+    UNARY_EXPR = 26, BINARY_EXPR = 27, INIT_EXPR = 28, EXPR_LIST = 29,
+    ARRAY_EXPR = 30, VAR_EXPR = 31, CALL_EXPR = 32, ASSIGN_EXPR = 33,
+    EMPTY_EXPR = 34, ERROR_EXPR = 35,
+    INT_LITERAL = 36, FLOAT_LITERAL = 37, BOOLEAN_LITERAL = 38,
+    STRING_LITERAL = 39, IDENT = 40, OPERATOR = 41,
+    PARA_LIST = 42, PARA_DECL = 43, ARG_LIST = 44, ARG = 45,
+    VOID_TYPE = 46, BOOLEAN_TYPE = 47, INT_TYPE = 48, FLOAT_TYPE = 49,
+    STRING_TYPE = 50, ARRAY_TYPE = 51, ERROR_TYPE = 52,
+    SIMPLE_VAR = 53;
+
+  // Annotations
+
+  static final int DECL = 0, TYPE = 1;
+
+  static final int
+    NULL_REF = 0,
+    BOOLEAN_REF = 1, INT_REF = 2, FLOAT_REF = 3, STRING_REF = 4,
+    VOID_REF = 5, ERROR_REF = 6,
+    STD_FUNC = 7,
+    NODE_REF = 8;
+
+}
@@ -0,0 +1,328 @@
+/*
+ * ASTReader.java
+ */
+
+// Reads back an AST written by ASTWriter (see ASTFormat.java). The
+// types and built-in functions of the annotations are those of
+// StdEnvironment, which must have been established by a Checker
+// before an annotated AST is read.
+
+package VC.Serialiser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import VC.ASTs.*;
+import VC.StdEnvironment;
+import VC.Scanner.SourcePosition;
+
+public class ASTReader {
+
+  private String filename;
+
+  private byte[] in;
+  private int at;
+  private String[] strings;
+  private ArrayList<AST> nodes;
+  private int numAnnotations;
+
+  public ASTReader(String filename) {
+    this.filename = filename;
+  }
+
+  public final AST read() {
+    try {
+      return readFile();
+    } catch (IOException e) {
+      System.out.println("Caught IOException: " + e.getMessage());
+      System.exit(1);
+      return null;
+    }
+  }
+
+  private AST readFile() throws IOException {
+    try {
+      in = Files.readAllBytes(Paths.get(filename));
+    } catch (IOException e) {
+      System.out.println("[# vc #]: can't read: " + filename);
+      System.exit(1);
+    }
+    at = 0;
+    try {
+      String magic = new String(in, 0, ASTFormat.MAGIC.length(), StandardCharsets.US_ASCII);
+      at = ASTFormat.MAGIC.length();
+      if (!magic.equals(ASTFormat.MAGIC) || varint() != ASTFormat.VERSION)
+        throw new IOException(filename + " is not an AST written by this compiler");
+      strings = new String[varint()];
+      for (int i = 0; i < strings.length; i++) {
+        int length = varint();
+        strings[i] = new String(in, at, length, StandardCharsets.UTF_8);
+        at += length;
+      }
+      nodes = new ArrayList<AST>();
+      AST ast = node();
+      readAnnotations();
+      return ast;
+    } catch (IndexOutOfBoundsException e) {
+      throw new IOException(filename + " is truncated");
+    } catch (ClassCastException e) {
+      throw new IOException(filename + " is corrupt");
+    }
+  }
+
+  // whether the AST read has been checked
+  public boolean isChecked() {
+    return numAnnotations > 0;
+  }
+
+  private void readAnnotations() throws IOException {
+    numAnnotations = varint();
+    for (int i = 0; i < numAnnotations; i++) {
+      AST ast = nodes.get(varint());
+      int field = varint();
+      AST target = ref();
+      if (field == ASTFormat.DECL)
+        ((Ident) ast).decl = target;
+      else if (ast instanceof Expr)
+        ((Expr) ast).type = (Type) target;
+      else
+        ((Var) ast).type = (Type) target;
+    }
+  }
+
+  private AST ref() throws IOException {
+    int ref = varint();
+    switch (ref) {
+      case ASTFormat.NULL_REF:
+        return null;
+      case ASTFormat.BOOLEAN_REF:
+        return StdEnvironment.booleanType;
+      case ASTFormat.INT_REF:
+        return StdEnvironment.intType;
+      case ASTFormat.FLOAT_REF:
+        return StdEnvironment.floatType;
+      case ASTFormat.STRING_REF:
+        return StdEnvironment.stringType;
+      case ASTFormat.VOID_REF:
+        return StdEnvironment.voidType;
+      case ASTFormat.ERROR_REF:
+        return StdEnvironment.errorType;
+      case ASTFormat.STD_FUNC:
+        String name = strings[varint()];
+        FuncDecl[] builtins = {
+          StdEnvironment.putBoolDecl, StdEnvironment.putBoolLnDecl,
+          StdEnvironment.getIntDecl, StdEnvironment.putIntDecl, StdEnvironment.putIntLnDecl,
+          StdEnvironment.getFloatDecl, StdEnvironment.putFloatDecl, StdEnvironment.putFloatLnDecl,
+          StdEnvironment.putStringDecl, StdEnvironment.putStringLnDecl,
+          StdEnvironment.putLnDecl, StdEnvironment.flushDecl
+        };
+        for (FuncDecl f : builtins)
+          if (f != null && f.I.spelling.equals(name))
+            return f;
+        throw new IOException(filename + " uses an unknown built-in function " + name);
+      default:
+        return nodes.get(ref - ASTFormat.NODE_REF);
+    }
+  }
+
+  private AST node() throws IOException {
+    int kind = varint();
+    SourcePosition pos = new SourcePosition();
+    pos.lineStart = varint();
+    pos.charStart = varint();
+    int lines = varint();
+    pos.lineFinish = pos.lineStart + ((lines >>> 1) ^ -(lines & 1));
+    pos.charFinish = varint();
+
+    int number = nodes.size();
+    nodes.add(null);
+    AST ast;
+    boolean parallel;
+    switch (kind) {
+      case ASTFormat.PROGRAM:
+        ast = new Program((List) node(), pos);
+        break;
+      case ASTFormat.EMPTY_DECL_LIST:
+        ast = new EmptyDeclList(pos);
+        break;
+      case ASTFormat.EMPTY_STMT_LIST:
+        ast = new EmptyStmtList(pos);
+        break;
+      case ASTFormat.EMPTY_EXPR_LIST:
+        ast = new EmptyExprList(pos);
+        break;
+      case ASTFormat.EMPTY_PARA_LIST:
+        ast = new EmptyParaList(pos);
+        break;
+      case ASTFormat.EMPTY_ARG_LIST:
+        ast = new EmptyArgList(pos);
+        break;
+      case ASTFormat.DECL_LIST:
+        ast = new DeclList((Decl) node(), (List) node(), pos);
+        break;
+      case ASTFormat.FUNC_DECL:
+        ast = new FuncDecl((Type) node(), (Ident) node(), (List) node(), (Stmt) node(), pos);
+        break;
+      case ASTFormat.GLOBAL_VAR_DECL:
+        ast = new GlobalVarDecl((Type) node(), (Ident) node(), (Expr) node(), pos);
+        break;
+      case ASTFormat.LOCAL_VAR_DECL:
+        ast = new LocalVarDecl((Type) node(), (Ident) node(), (Expr) node(), pos);
+        break;
+      case ASTFormat.STMT_LIST:
+        ast = new StmtList((Stmt) node(), (List) node(), pos);
+        break;
+      case ASTFormat.IF_STMT:
+        ast = new IfStmt((Expr) node(), (Stmt) node(), (Stmt) node(), pos);
+        break;
+      case ASTFormat.WHILE_STMT:
+        ast = new WhileStmt((Expr) node(), (Stmt) node(), pos);
+        break;
+      case ASTFormat.FOR_STMT:
+        parallel = varint() == 1;
+        ast = new ForStmt((Expr) node(), (Expr) node(), (Expr) node(), (Stmt) node(), pos);
+        ((ForStmt) ast).parallel = parallel;
+        break;
+      case ASTFormat.BREAK_STMT:
+        ast = new BreakStmt(pos);
+        break;
+      case ASTFormat.CONTINUE_STMT:
+        ast = new ContinueStmt(pos);
+        break;
+      case ASTFormat.RETURN_STMT:
+        ast = new ReturnStmt((Expr) node(), pos);
+        break;
+      case ASTFormat.COMPOUND_STMT:
+        ast = new CompoundStmt((List) node(), (List) node(), pos);
+        break;
+      case ASTFormat.EXPR_STMT:
+        ast = new ExprStmt((Expr) node(), pos);
+        break;
+      case ASTFormat.EMPTY_COMP_STMT:
+        ast = new EmptyCompStmt(pos);
+        break;
+      case ASTFormat.EMPTY_STMT:
+        ast = new EmptyStmt(pos);
+        break;
+      case ASTFormat.ERROR_STMT:
+        ast = new ErrorStmt(pos);
+        break;
+      case ASTFormat.INT_EXPR:
+        ast = new IntExpr((IntLiteral) node(), pos);
+        break;
+      case ASTFormat.FLOAT_EXPR:
+        ast = new FloatExpr((FloatLiteral) node(), pos);
+        break;
+      case ASTFormat.BOOLEAN_EXPR:
+        ast = new BooleanExpr((BooleanLiteral) node(), pos);
+        break;
+      case ASTFormat.STRING_EXPR:
+        ast = new StringExpr((StringLiteral) node(), pos);
+        break;
+      case ASTFormat.UNARY_EXPR:
+        ast = new UnaryExpr((Operator) node(), (Expr) node(), pos);
+        break;
+      case ASTFormat.BINARY_EXPR:
+        ast = new BinaryExpr((Expr) node(), (Operator) node(), (Expr) node(), pos);
+        break;
+      case ASTFormat.INIT_EXPR:
+        ast = new InitExpr((List) node(), pos);
+        break;
+      case ASTFormat.EXPR_LIST:
+        ast = new ExprList((Expr) node(), (List) node(), pos);
+        break;
+      case ASTFormat.ARRAY_EXPR:
+        ast = new ArrayExpr((Var) node(), (Expr) node(), pos);
+        break;
+      case ASTFormat.VAR_EXPR:
+        ast = new VarExpr((Var) node(), pos);
+        break;
+      case ASTFormat.CALL_EXPR:
+        ast = new CallExpr((Ident) node(), (List) node(), pos);
+        break;
+      case ASTFormat.ASSIGN_EXPR:
+        ast = new AssignExpr((Expr) node(), (Expr) node(), pos);
+        break;
+      case ASTFormat.EMPTY_EXPR:
+        ast = new EmptyExpr(pos);
+        break;
+      case ASTFormat.ERROR_EXPR:
+        ast = new ErrorExpr(pos);
+        break;
+      case ASTFormat.INT_LITERAL:
+        ast = new IntLiteral(strings[varint()], pos);
+        break;
+      case ASTFormat.FLOAT_LITERAL:
+        ast = new FloatLiteral(strings[varint()], pos);
+        break;
+      case ASTFormat.BOOLEAN_LITERAL:
+        ast = new BooleanLiteral(strings[varint()], pos);
+        break;
+      case ASTFormat.STRING_LITERAL:
+        ast = new StringLiteral(strings[varint()], pos);
+        break;
+      case ASTFormat.IDENT:
+        ast = new Ident(strings[varint()], pos);
+        break;
+      case ASTFormat.OPERATOR:
+        ast = new Operator(strings[varint()], pos);
+        break;
+      case ASTFormat.PARA_LIST:
+        ast = new ParaList((ParaDecl) node(), (List) node(), pos);
+        break;
+      case ASTFormat.PARA_DECL:
+        ast = new ParaDecl((Type) node(), (Ident) node(), pos);
+        break;
+      case ASTFormat.ARG_LIST:
+        ast = new ArgList((Arg) node(), (List) node(), pos);
+        break;
+      case ASTFormat.ARG:
+        ast = new Arg((Expr) node(), pos);
+        break;
+      case ASTFormat.VOID_TYPE:
+        ast = new VoidType(pos);
+        break;
+      case ASTFormat.BOOLEAN_TYPE:
+        ast = new BooleanType(pos);
+        break;
+      case ASTFormat.INT_TYPE:
+        ast = new IntType(pos);
+        break;
+      case ASTFormat.FLOAT_TYPE:
+        ast = new FloatType(pos);
+        break;
+      case ASTFormat.STRING_TYPE:
+        ast = new StringType(pos);
+        break;
+      case ASTFormat.ARRAY_TYPE:
+        ast = new ArrayType((Type) node(), (Expr) node(), pos);
+        break;
+      case ASTFormat.ERROR_TYPE:
+        ast = new ErrorType(pos);
+        break;
+      case ASTFormat.SIMPLE_VAR:
+        ast = new SimpleVar((Ident) node(), pos);
+        break;
+      default:
+        throw new IOException(filename + " contains an unknown node kind " + kind);
+    }
+    nodes.set(number, ast);
+    return ast;
+  }
+
+  private int varint() {
+    int n = 0;
+    int shift = 0;
+    int b;
+    do {
+      b = in[at++] & 0xFF;
+      n |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return n;
+  }
+
+}
@@ -0,0 +1,520 @@
+/*
+ * ASTWriter.java
+ */
+
+// Writes an AST, with the decl and type annotations of the checker if it
+// has been checked, in the binary format of ASTFormat.java, from which
+// ASTReader rebuilds it without scanning, parsing or checking again.
+
+package VC.Serialiser;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+import VC.ASTs.*;
+import VC.StdEnvironment;
+import VC.Scanner.SourcePosition;
+
+import static VC.Serialiser.ASTFormat.*;
+
+public class ASTWriter implements Visitor {
+
+  private String filename;
+
+  private ByteArrayOutputStream out;  // the nodes
+  private ArrayList<String> strings;
+  private HashMap<String, Integer> stringIndex;
+  // the nodes in preorder and the number of each
+  private ArrayList<AST> nodes;
+  private IdentityHashMap<AST, Integer> nodeIndex;
+
+  public ASTWriter(String filename) {
+    this.filename = filename;
+  }
+
+  public final void write(AST ast) {
+    out = new ByteArrayOutputStream();
+    strings = new ArrayList<String>();
+    stringIndex = new HashMap<String, Integer>();
+    nodes = new ArrayList<AST>();
+    nodeIndex = new IdentityHashMap<AST, Integer>();
+
+    ast.visit(this, null);
+    ByteArrayOutputStream tree = out;
+    out = new ByteArrayOutputStream();
+    writeAnnotations();
+    ByteArrayOutputStream annotations = out;
+
+    out = new ByteArrayOutputStream();
+    out.write(ASTFormat.MAGIC.getBytes(StandardCharsets.US_ASCII), 0, ASTFormat.MAGIC.length());
+    varint(ASTFormat.VERSION);
+    varint(strings.size());
+    for (String s : strings) {
+      byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      varint(bytes.length);
+      out.write(bytes, 0, bytes.length);
+    }
+    try {
+      OutputStream file = new BufferedOutputStream(new FileOutputStream(filename));
+      out.writeTo(file);
+      tree.writeTo(file);
+      annotations.writeTo(file);
+      file.close();
+    } catch (IOException e) {
+      System.out.println("Caught IOException: " + e.getMessage());
+      System.exit(1);
+    }
+  }
+
+  private void writeAnnotations() {
+    int count = 0;
+    for (AST ast : nodes)
+      if (annotation(ast) != null)
+        count++;
+    varint(count);
+    for (int i = 0; i < nodes.size(); i++) {
+      AST ast = nodes.get(i);
+      AST target = annotation(ast);
+      if (target == null)
+        continue;
+      varint(i);
+      varint(ast instanceof Ident ? ASTFormat.DECL : ASTFormat.TYPE);
+      ref(target);
+    }
+  }
+
+  private AST annotation(AST ast) {
+    if (ast instanceof Ident)
+      return ((Ident) ast).decl;
+    else if (ast instanceof Expr)
+      return ((Expr) ast).type;
+    else if (ast instanceof Var)
+      return ((Var) ast).type;
+    else
+      return null;
+  }
+
+  private void ref(AST target) {
+    if (target == StdEnvironment.booleanType)
+      varint(ASTFormat.BOOLEAN_REF);
+    else if (target == StdEnvironment.intType)
+      varint(ASTFormat.INT_REF);
+    else if (target == StdEnvironment.floatType)
+      varint(ASTFormat.FLOAT_REF);
+    else if (target == StdEnvironment.stringType)
+      varint(ASTFormat.STRING_REF);
+    else if (target == StdEnvironment.voidType)
+      varint(ASTFormat.VOID_REF);
+    else if (target == StdEnvironment.errorType)
+      varint(ASTFormat.ERROR_REF);
+    else if (nodeIndex.containsKey(target))
+      varint(ASTFormat.NODE_REF + nodeIndex.get(target));
+    else if (target instanceof FuncDecl) {
+      // a built-in function
+      varint(ASTFormat.STD_FUNC);
+      varint(string(((FuncDecl) target).I.spelling));
+    } else if (target instanceof Type && !((Type) target).isArrayType())
+      // a type created by the checker: the type of StdEnvironment
+      // equal to it does as well
+      ref(((Type) target).isIntType() ? StdEnvironment.intType
+          : ((Type) target).isFloatType() ? StdEnvironment.floatType
+          : ((Type) target).isBooleanType() ? StdEnvironment.booleanType
+          : ((Type) target).isVoidType() ? StdEnvironment.voidType
+          : ((Type) target).isStringType() ? StdEnvironment.stringType
+          : StdEnvironment.errorType);
+    else
+      varint(ASTFormat.NULL_REF);
+  }
+
+  private void node(int kind, AST ast) {
+    nodeIndex.put(ast, nodes.size());
+    nodes.add(ast);
+    varint(kind);
+    SourcePosition pos = ast.position;
+    varint(pos.lineStart);
+    varint(pos.charStart);
+    int lines = pos.lineFinish - pos.lineStart;
+    varint((lines << 1) ^ (lines >> 31));
+    varint(pos.charFinish);
+  }
+
+  private int string(String s) {
+    Integer i = stringIndex.get(s);
+    if (i == null) {
+      i = strings.size();
+      strings.add(s);
+      stringIndex.put(s, i);
+    }
+    return i;
+  }
+
+  private void varint(int n) {
+    while ((n & ~0x7F) != 0) {
+      out.write((n & 0x7F) | 0x80);
+      n >>>= 7;
+    }
+    out.write(n);
+  }
+
+  // Programs
+
+  public Object visitProgram(Program ast, Object o) {
+    node(PROGRAM, ast);
+    ast.FL.visit(this, o);
+    return null;
+  }
+
+  // Lists for denoting the null reference
+
+  public Object visitEmptyDeclList(EmptyDeclList ast, Object o) {
+    node(EMPTY_DECL_LIST, ast);
+    return null;
+  }
+
+  public Object visitEmptyStmtList(EmptyStmtList ast, Object o) {
+    node(EMPTY_STMT_LIST, ast);
+    return null;
+  }
+
+  public Object visitEmptyExprList(EmptyExprList ast, Object o) {
+    node(EMPTY_EXPR_LIST, ast);
+    return null;
+  }
+
+  public Object visitEmptyParaList(EmptyParaList ast, Object o) {
+    node(EMPTY_PARA_LIST, ast);
+    return null;
+  }
+
+  public Object visitEmptyArgList(EmptyArgList ast, Object o) {
+    node(EMPTY_ARG_LIST, ast);
+    return null;
+  }
+
+  // Declarations
+
+  public Object visitDeclList(DeclList ast, Object o) {
+    node(DECL_LIST, ast);
+    ast.D.visit(this, o);
+    ast.DL.visit(this, o);
+    return null;
+  }
+
+  public Object visitFuncDecl(FuncDecl ast, Object o) {
+    node(FUNC_DECL, ast);
+    ast.T.visit(this, o);
+    ast.I.visit(this, o);
+    ast.PL.visit(this, o);
+    ast.S.visit(this, o);
+    return null;
+  }
+
+  public Object visitGlobalVarDecl(GlobalVarDecl ast, Object o) {
+    node(GLOBAL_VAR_DECL, ast);
+    ast.T.visit(this, o);
+    ast.I.visit(this, o);
+    ast.E.visit(this, o);
+    return null;
+  }
+
+  public Object visitLocalVarDecl(LocalVarDecl ast, Object o) {
+    node(LOCAL_VAR_DECL, ast);
+    ast.T.visit(this, o);
+    ast.I.visit(this, o);
+    ast.E.visit(this, o);
+    return null;
+  }
+
+  // Statements
+
+  public Object visitStmtList(StmtList ast, Object o) {
+    node(STMT_LIST, ast);
+    ast.S.visit(this, o);
+    ast.SL.visit(this, o);
+    return null;
+  }
+
+  public Object visitIfStmt(IfStmt ast, Object o) {
+    node(IF_STMT, ast);
+    ast.E.visit(this, o);
+    ast.S1.visit(this, o);
+    ast.S2.visit(this, o);
+    return null;
+  }
+
+  public Object visitWhileStmt(WhileStmt ast, Object o) {
+    node(WHILE_STMT, ast);
+    ast.E.visit(this, o);
+    ast.S.visit(this, o);
+    return null;
+  }
+
+  public Object visitForStmt(ForStmt ast, Object o) {
+    node(FOR_STMT, ast);
+    varint(ast.parallel ? 1 : 0);
+    ast.E1.visit(this, o);
+    ast.E2.visit(this, o);
+    ast.E3.visit(this, o);
+    ast.S.visit(this, o);
+    return null;
+  }
+
+  public Object visitBreakStmt(BreakStmt ast, Object o) {
+    node(BREAK_STMT, ast);
+    return null;
+  }
+
+  public Object visitContinueStmt(ContinueStmt ast, Object o) {
+    node(CONTINUE_STMT, ast);
+    return null;
+  }
+
+  public Object visitReturnStmt(ReturnStmt ast, Object o) {
+    node(RETURN_STMT, ast);
+    ast.E.visit(this, o);
+    return null;
+  }
+
+  public Object visitCompoundStmt(CompoundStmt ast, Object o) {
+    node(COMPOUND_STMT, ast);
+    ast.DL.visit(this, o);
+    ast.SL.visit(this, o);
+    return null;
+  }
+
+  public Object visitExprStmt(ExprStmt ast, Object o) {
+    node(EXPR_STMT, ast);
+    ast.E.visit(this, o);
+    return null;
+  }
+
+  public Object visitEmptyCompStmt(EmptyCompStmt ast, Object o) {
+    node(EMPTY_COMP_STMT, ast);
+    return null;
+  }
+
+  public Object visitEmptyStmt(EmptyStmt ast, Object o) {
+    node(EMPTY_STMT, ast);
+    return null;
+  }
+
+  public Object visitErrorStmt(ErrorStmt ast, Object o) {
+    node(ERROR_STMT, ast);
+    return null;
+  }
+
+  // Expressions
+
+  public Object visitIntExpr(IntExpr ast, Object o) {
+    node(INT_EXPR, ast);
+    ast.IL.visit(this, o);
+    return null;
+  }
+
+  public Object visitFloatExpr(FloatExpr ast, Object o) {
+    node(FLOAT_EXPR, ast);
+    ast.FL.visit(this, o);
+    return null;
+  }
+
+  public Object visitBooleanExpr(BooleanExpr ast, Object o) {
+    node(BOOLEAN_EXPR, ast);
+    ast.BL.visit(this, o);
+    return null;
+  }
+
+  public Object visitStringExpr(StringExpr ast, Object o) {
+    node(STRING_EXPR, ast);
+    ast.SL.visit(this, o);
+    return null;
+  }
+
+  public Object visitUnaryExpr(UnaryExpr ast, Object o) {
+    node(UNARY_EXPR, ast);
+    ast.O.visit(this, o);
+    ast.E.visit(this, o);
+    return null;
+  }
+
+  public Object visitBinaryExpr(BinaryExpr ast, Object o) {
+    node(BINARY_EXPR, ast);
+    ast.E1.visit(this, o);
+    ast.O.visit(this, o);
+    ast.E2.visit(this, o);
+    return null;
+  }
+
+  public Object visitInitExpr(InitExpr ast, Object o) {
+    node(INIT_EXPR, ast);
+    ast.IL.visit(this, o);
+    return null;
+  }
+
+  public Object visitExprList(ExprList ast, Object o) {
+    node(EXPR_LIST, ast);
+    ast.E.visit(this, o);
+    ast.EL.visit(this, o);
+    return null;
+  }
+
+  public Object visitArrayExpr(ArrayExpr ast, Object o) {
+    node(ARRAY_EXPR, ast);
+    ast.V.visit(this, o);
+    ast.E.visit(this, o);
+    return null;
+  }
+
+  public Object visitVarExpr(VarExpr ast, Object o) {
+    node(VAR_EXPR, ast);
+    ast.V.visit(this, o);
+    return null;
+  }
+
+  public Object visitCallExpr(CallExpr ast, Object o) {
+    node(CALL_EXPR, ast);
+    ast.I.visit(this, o);
+    ast.AL.visit(this, o);
+    return null;
+  }
+
+  public Object visitAssignExpr(AssignExpr ast, Object o) {
+    node(ASSIGN_EXPR, ast);
+    ast.E1.visit(this, o);
+    ast.E2.visit(this, o);
+    return null;
+  }
+
+  public Object visitEmptyExpr(EmptyExpr ast, Object o) {
+    node(EMPTY_EXPR, ast);
+    return null;
+  }
+
+  public Object visitErrorExpr(ErrorExpr ast, Object o) {
+    node(ERROR_EXPR, ast);
+    return null;
+  }
+
+  // Literals, Identifiers and Operators
+
+  public Object visitIntLiteral(IntLiteral ast, Object o) {
+    node(INT_LITERAL, ast);
+    varint(string(ast.spelling));
+    return null;
+  }
+
+  public Object visitFloatLiteral(FloatLiteral ast, Object o) {
+    node(FLOAT_LITERAL, ast);
+    varint(string(ast.spelling));
+    return null;
+  }
+
+  public Object visitBooleanLiteral(BooleanLiteral ast, Object o) {
+    node(BOOLEAN_LITERAL, ast);
+    varint(string(ast.spelling));
+    return null;
+  }
+
+  public Object visitStringLiteral(StringLiteral ast, Object o) {
+    node(STRING_LITERAL, ast);
+    varint(string(ast.spelling));
+    return null;
+  }
+
+  public Object visitIdent(Ident ast, Object o) {
+    node(IDENT, ast);
+    varint(string(ast.spelling));
+    return null;
+  }
+
+  public Object visitOperator(Operator ast, Object o) {
+    node(OPERATOR, ast);
+    varint(string(ast.spelling));
+    return null;
+  }
+
+  // Parameters
+
+  public Object visitParaList(ParaList ast, Object o) {
+    node(PARA_LIST, ast);
+    ast.P.visit(this, o);
+    ast.PL.visit(this, o);
+    return null;
+  }
+
+  public Object visitParaDecl(ParaDecl ast, Object o) {
+    node(PARA_DECL, ast);
+    ast.T.visit(this, o);
+    ast.I.visit(this, o);
+    return null;
+  }
+
+  // Arguments
+
+  public Object visitArgList(ArgList ast, Object o) {
+    node(ARG_LIST, ast);
+    ast.A.visit(this, o);
+    ast.AL.visit(this, o);
+    return null;
+  }
+
+  public Object visitArg(Arg ast, Object o) {
+    node(ARG, ast);
+    ast.E.visit(this, o);
+    return null;
+  }
+
+  // Types
+
+  public Object visitVoidType(VoidType ast, Object o) {
+    node(VOID_TYPE, ast);
+    return null;
+  }
+
+  public Object visitBooleanType(BooleanType ast, Object o) {
+    node(BOOLEAN_TYPE, ast);
+    return null;
+  }
+
+  public Object visitIntType(IntType ast, Object o) {
+    node(INT_TYPE, ast);
+    return null;
+  }
+
+  public Object visitFloatType(FloatType ast, Object o) {
+    node(FLOAT_TYPE, ast);
+    return null;
+  }
+
+  public Object visitStringType(StringType ast, Object o) {
+    node(STRING_TYPE, ast);
+    return null;
+  }
+
+  public Object visitArrayType(ArrayType ast, Object o) {
+    node(ARRAY_TYPE, ast);
+    ast.T.visit(this, o);
+    ast.E.visit(this, o);
+    return null;
+  }
+
+  public Object visitErrorType(ErrorType ast, Object o) {
+    node(ERROR_TYPE, ast);
+    return null;
+  }
+
+  // Variables
+
+  public Object visitSimpleVar(SimpleVar ast, Object o) {
+    node(SIMPLE_VAR, ast);
+    ast.I.visit(this, o);
+    return null;
+  }
+
+}
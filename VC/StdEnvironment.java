@@ -39,6 +39,6 @@ public final class StdEnvironment {
     putBoolDecl, putBoolLnDecl, 
     getIntDecl, putIntDecl, putIntLnDecl, 
     getFloatDecl, putFloatDecl, putFloatLnDecl, 
-    putStringDecl, putStringLnDecl, putLnDecl;
+    putStringDecl, putStringLnDecl, putLnDecl, flushDecl;
 
 }
@@ -8,6 +8,7 @@ import java.awt.*;
 import java.awt.event.*;
 
 import javax.swing.*;
+import java.util.ArrayDeque;
 
 import VC.ASTs.AST;
 
@@ -18,6 +19,7 @@ public class Drawer {
 
   private AST theAST;
   private DrawingTree theDrawing;
+  private DrawingIndex theIndex;
 
   private boolean debug;
 
@@ -33,6 +35,10 @@ public class Drawer {
 
   @SuppressWarnings("deprecation")
 public void draw(AST ast) {
+    if (GraphicsEnvironment.isHeadless()) {
+      System.out.println("[# vc #]: no display to draw the AST on (use -svg or -dot instead)");
+      return;
+    }
     theAST = ast;
     panel = new DrawerPanel(this);
     panel.setBackground(Color.white);
@@ -48,7 +54,14 @@ public void draw(AST ast) {
     if (debug)
       layout.enableDebugging();
     theDrawing = (DrawingTree) theAST.visit(layout, null);
-    theDrawing.position(new Point(500, 10));
+    theDrawing.position(new Point(0, 10));
+    // move the tree right so that none of it falls off the left edge
+    Rectangle bounds = new DrawingIndex(theDrawing).getBounds();
+    theDrawing.position(new Point(10 - bounds.x, 10));
+    theIndex = new DrawingIndex(theDrawing);
+    bounds = theIndex.getBounds();
+    panel.setPreferredSize(new Dimension(bounds.x + bounds.width + 10,
+                                         bounds.y + bounds.height + 10));
 
     frame.show();
 
@@ -60,8 +73,38 @@ public void draw(AST ast) {
     Dimension d = panel.getSize();
     g.fillRect(0, 0, d.width, d.height);
 
-    if (theDrawing != null) {
-      theDrawing.paint(g);
+    if (theIndex != null) {
+      Rectangle clip = g.getClipBounds();
+      if (clip == null)
+        clip = new Rectangle(0, 0, d.width, d.height);
+      theIndex.paint(g, clip);
+    }
+  }
+
+  // Collapses the subtree at p, or expands it if it is collapsed, and
+  // repaints only the area that the subtree covers.
+  public void toggleAt (Point p) {
+    if (theIndex == null)
+      return;
+    DrawingTree node = theIndex.nodeAt(p);
+    if (node == null || node.children == null)
+      return;
+    node.collapsed = !node.collapsed;
+
+    Rectangle area = new Rectangle(node.pos.x, node.pos.y, node.width, node.height);
+    ArrayDeque<DrawingTree> stack = new ArrayDeque<DrawingTree>();
+    for (DrawingTree child : node.children)
+      stack.push(child);
+    while (!stack.isEmpty()) {
+      DrawingTree dt = stack.pop();
+      dt.hidden = dt.parent.hidden || dt.parent.collapsed;
+      area.add(new Rectangle(dt.pos.x, dt.pos.y, dt.width, dt.height));
+      area.add(new Point(dt.parent.pos.x + dt.parent.width / 2,
+                         dt.parent.pos.y + dt.parent.height));
+      if (dt.children != null)
+        for (DrawingTree child : dt.children)
+          stack.push(child);
     }
+    panel.repaint(area.x, area.y, area.width + 1, area.height + 1);
   }
 }
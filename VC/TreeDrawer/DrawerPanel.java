@@ -14,6 +14,14 @@ class DrawerPanel extends JPanel {
   public DrawerPanel (Drawer drawer) {
     setPreferredSize(new Dimension(4096, 4096));
     this.drawer = drawer;
+    // a click on a node collapses or expands its subtree
+    addMouseListener(
+      new MouseAdapter() {
+        public void mouseClicked (MouseEvent e) {
+          DrawerPanel.this.drawer.toggleAt(e.getPoint());
+        }
+      }
+    );
   }
 
   public void paintComponent (Graphics g) {
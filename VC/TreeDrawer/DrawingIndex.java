@@ -0,0 +1,130 @@
+/*
+ * DrawingIndex.java
+ */
+
+// A spatial index of a positioned DrawingTree, so that a repaint only
+// touches the nodes inside the clip rectangle rather than the whole
+// tree. The nodes at one depth share a row (they all have the same y)
+// and are sorted by x. Since the subtrees of a laid-out tree do not
+// overlap, the horizontal extent of a node together with the line up
+// to its parent grows monotonically along a row, and both the row and
+// the first node in it can be found by binary search.
+
+package VC.TreeDrawer;
+
+import java.awt.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeMap;
+
+class DrawingIndex {
+
+  private DrawingTree[][] rows;
+  private int[] rowTop, rowBottom;  // including the lines up to the parents
+  private int[][] left, right;      // the extents of nodes and their lines
+
+  private Rectangle bounds;
+
+  DrawingIndex(DrawingTree root) {
+    TreeMap<Integer, ArrayList<DrawingTree>> byY = new TreeMap<Integer, ArrayList<DrawingTree>>();
+    bounds = new Rectangle(root.pos.x, root.pos.y, root.width, root.height);
+    ArrayDeque<DrawingTree> stack = new ArrayDeque<DrawingTree>();
+    stack.push(root);
+    while (!stack.isEmpty()) {
+      DrawingTree dt = stack.pop();
+      ArrayList<DrawingTree> row = byY.get(dt.pos.y);
+      if (row == null) {
+        row = new ArrayList<DrawingTree>();
+        byY.put(dt.pos.y, row);
+      }
+      row.add(dt);
+      bounds.add(new Rectangle(dt.pos.x, dt.pos.y, dt.width, dt.height));
+      if (dt.children != null)
+        for (DrawingTree child : dt.children)
+          stack.push(child);
+    }
+
+    int n = byY.size();
+    rows = new DrawingTree[n][];
+    rowTop = new int[n];
+    rowBottom = new int[n];
+    left = new int[n][];
+    right = new int[n][];
+    int r = 0;
+    for (ArrayList<DrawingTree> list : byY.values()) {
+      DrawingTree[] row = list.toArray(new DrawingTree[list.size()]);
+      Arrays.sort(row, new Comparator<DrawingTree>() {
+        public int compare(DrawingTree a, DrawingTree b) {
+          return Integer.compare(a.pos.x, b.pos.x);
+        }
+      });
+      rows[r] = row;
+      left[r] = new int[row.length];
+      right[r] = new int[row.length];
+      rowTop[r] = row[0].pos.y;
+      rowBottom[r] = row[0].pos.y;
+      for (int i = 0; i < row.length; i++) {
+        DrawingTree dt = row[i];
+        left[r][i] = dt.pos.x;
+        right[r][i] = dt.pos.x + dt.width;
+        rowBottom[r] = Math.max(rowBottom[r], dt.pos.y + dt.height);
+        if (dt.parent != null) {
+          int x = dt.parent.pos.x + dt.parent.width / 2;
+          left[r][i] = Math.min(left[r][i], x);
+          right[r][i] = Math.max(right[r][i], x);
+          rowTop[r] = Math.min(rowTop[r], dt.parent.pos.y + dt.parent.height);
+        }
+      }
+      r++;
+    }
+  }
+
+  Rectangle getBounds() {
+    return bounds;
+  }
+
+  void paint(Graphics g, Rectangle clip) {
+    int clipRight = clip.x + clip.width;
+    int clipBottom = clip.y + clip.height;
+    for (int r = firstAtOrAfter(rowBottom, clip.y);
+         r < rows.length && rowTop[r] <= clipBottom; r++) {
+      DrawingTree[] row = rows[r];
+      for (int i = firstAtOrAfter(right[r], clip.x);
+           i < row.length && left[r][i] <= clipRight; i++)
+        if (!row[i].hidden)
+          row[i].paintNode(g);
+    }
+  }
+
+  // The visible node at p, if any.
+  DrawingTree nodeAt(Point p) {
+    int r = firstAtOrAfter(rowBottom, p.y);
+    if (r == rows.length || rows[r][0].pos.y > p.y)
+      return null;
+    DrawingTree[] row = rows[r];
+    for (int i = firstAtOrAfter(right[r], p.x);
+         i < row.length && left[r][i] <= p.x; i++) {
+      DrawingTree dt = row[i];
+      if (!dt.hidden && dt.pos.x <= p.x && p.x < dt.pos.x + dt.width
+          && p.y < dt.pos.y + dt.height)
+        return dt;
+    }
+    return null;
+  }
+
+  // The first index whose value is at least v in a non-decreasing array.
+  private static int firstAtOrAfter(int[] a, int v) {
+    int lo = 0, hi = a.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (a[mid] < v)
+        lo = mid + 1;
+      else
+        hi = mid;
+    }
+    return lo;
+  }
+
+}
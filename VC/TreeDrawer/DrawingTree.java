@@ -43,21 +43,20 @@ public class DrawingTree {
   private final int FIXED_FONT_ASCENT = 3;
   private final Color nodeColor = new Color(255, 255, 255);
 
-  public void paint (Graphics graphics) {
+  // nodes under a collapsed node are hidden and not painted
+  boolean collapsed, hidden;
+  private final Color collapsedColor = new Color(200, 200, 200);
+
+  // Paints this node and the line to its parent, but not its children.
+  void paintNode (Graphics graphics) {
     graphics.setFont(font);
-    graphics.setColor(nodeColor);
+    graphics.setColor(collapsed ? collapsedColor : nodeColor);
     graphics.fillRect(pos.x, pos.y, width, height);
     graphics.setColor(Color.black);
     graphics.drawRect(pos.x, pos.y, width - 1, height - 1);
     graphics.drawString(caption, pos.x + 2,
                         pos.y + (height + FIXED_FONT_HEIGHT) / 2);
 
-    if (children != null) {
-      for (int i = 0; i < children.length; i++) {
-        children[i].paint(graphics);
-      }
-    }
-
     if (parent != null) {
       graphics.drawLine(pos.x + width / 2, pos.y,
                         parent.pos.x + parent.width / 2,
@@ -0,0 +1,113 @@
+/*
+ * Exporter.java
+ */
+
+// Writes the AST as an SVG picture, laid out by TreeLayout, or as a
+// Graphviz DOT graph, straight to a file. Unlike Drawer, it needs no
+// display, so it also works on servers without one.
+
+package VC.TreeDrawer;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import VC.ASTs.AST;
+
+public class Exporter {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private String filename;
+  private boolean dot;
+
+  public Exporter(String filename) {
+    this.filename = filename;
+    dot = false; // SVG
+  }
+
+  public void enableDOT() {
+    dot = true;
+  }
+
+  public final void export(AST ast) {
+    TreeLayout layout = new TreeLayout();
+    layout.layout(ast);
+    try {
+      Writer out = new BufferedWriter(new FileWriter(filename), BUFFER_SIZE);
+      if (dot)
+        writeDOT(layout, out);
+      else
+        writeSVG(layout, out);
+      out.close();
+    } catch (IOException e) {
+      System.out.println("Caught IOException: " + e.getMessage());
+      System.exit(1);
+    }
+  }
+
+  private void writeSVG(TreeLayout t, Writer out) throws IOException {
+    out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + t.totalWidth
+      + "\" height=\"" + t.totalHeight + "\" font-family=\"Times\" font-weight=\"bold\" font-size=\"12\">\n");
+    out.write("<rect width=\"100%\" height=\"100%\" fill=\"white\"/>\n");
+    for (int i = 1; i < t.size; i++) {
+      int p = t.parent[i];
+      out.write("<line x1=\"" + (t.x[i] + t.width[i] / 2) + "\" y1=\"" + t.y[i]
+        + "\" x2=\"" + (t.x[p] + t.width[p] / 2) + "\" y2=\"" + (t.y[p] + TreeLayout.NODE_HEIGHT)
+        + "\" stroke=\"black\"/>\n");
+    }
+    for (int i = 0; i < t.size; i++) {
+      out.write("<rect x=\"" + t.x[i] + "\" y=\"" + t.y[i] + "\" width=\"" + t.width[i]
+        + "\" height=\"" + TreeLayout.NODE_HEIGHT + "\" fill=\"white\" stroke=\"black\"/>");
+      out.write("<text x=\"" + (t.x[i] + 2) + "\" y=\"" + (t.y[i] + TreeLayout.NODE_HEIGHT - 5)
+        + "\">" + escapeXML(t.caption[i]) + "</text>\n");
+    }
+    out.write("</svg>\n");
+  }
+
+  private void writeDOT(TreeLayout t, Writer out) throws IOException {
+    out.write("digraph AST {\n");
+    out.write("  node [shape=box, fontname=\"Times-Bold\", fontsize=12];\n");
+    for (int i = 0; i < t.size; i++) {
+      out.write("  n" + i + " [label=\"" + escapeDOT(t.caption[i]) + "\"];\n");
+      if (t.parent[i] >= 0)
+        out.write("  n" + t.parent[i] + " -> n" + i + ";\n");
+    }
+    out.write("}\n");
+  }
+
+  private static String escapeXML(String s) {
+    StringBuilder t = new StringBuilder(s.length());
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      switch (c) {
+        case '&': t.append("&amp;"); break;
+        case '<': t.append("&lt;"); break;
+        case '>': t.append("&gt;"); break;
+        case '"': t.append("&quot;"); break;
+        default:
+          if (c < ' ') // not allowed in XML even as a reference
+            t.append(String.format("\\u%04x", (int) c));
+          else
+            t.append(c);
+      }
+    }
+    return t.toString();
+  }
+
+  private static String escapeDOT(String s) {
+    StringBuilder t = new StringBuilder(s.length());
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c == '"' || c == '\\')
+        t.append('\\').append(c);
+      else if (c == '\n')
+        t.append("\\n");
+      else
+        t.append(c);
+    }
+    return t.toString();
+  }
+
+}
@@ -54,6 +54,10 @@ public class LayoutVisitor implements Visitor {
     return layoutNullary("EmptyStmt");
   }
 
+  public Object visitErrorStmt(ErrorStmt ast, Object obj) {
+    return layoutNullary("ErrorStmt");
+  }
+
   public Object visitEmptyParaList(EmptyParaList ast, Object obj) {
     return layoutNullary("EmptyParaList");
   }
@@ -98,7 +102,7 @@ public class LayoutVisitor implements Visitor {
   }
 
   public Object visitForStmt(ForStmt ast, Object obj) {
-    return layoutQuaternary("ForStmt", ast.E1, ast.E2, ast.E3, ast.S);
+    return layoutQuaternary(ast.parallel ? "ParForStmt" : "ForStmt", ast.E1, ast.E2, ast.E3, ast.S);
   }
 
   public Object visitBreakStmt(BreakStmt ast, Object obj) {
@@ -180,6 +184,10 @@ public class LayoutVisitor implements Visitor {
     return layoutNullary("EmptyExp");
   }
 
+  public Object visitErrorExpr(ErrorExpr ast, Object obj) {
+    return layoutNullary("ErrorExp");
+  }
+
   // Formal Parameters
 
   public Object visitParaList (ParaList ast, Object obj) {
@@ -0,0 +1,361 @@
+/*
+ * TreeLayout.java
+ */
+
+// A headless layout of the AST, drawn with the same captions as
+// LayoutVisitor but with fixed-width metrics, so that no display or
+// AWT font is needed. The nodes are numbered in preorder and kept in
+// flat arrays. One backward pass gives every subtree its width, since
+// a node's children come after it, and one forward pass places each
+// node, centring a parent over its children (or the children under a
+// wider parent). Both passes are linear in the number of nodes.
+
+package VC.TreeDrawer;
+
+import java.util.Arrays;
+
+import VC.ASTs.*;
+
+class TreeLayout implements Visitor {
+
+  static final int CHAR_WIDTH = 7;
+  static final int NODE_HEIGHT = 18;
+  static final int BORDER = 5;
+  static final int PARENT_SEP = 30;
+
+  int size;
+  String[] caption;
+  int[] parent;
+  int[] x, y, width;
+  int totalWidth, totalHeight;
+
+  private int current;
+
+  TreeLayout() {
+    caption = new String[256];
+    parent = new int[256];
+  }
+
+  void layout(AST ast) {
+    size = 0;
+    current = -1;
+    ast.visit(this, null);
+
+    width = new int[size];
+    x = new int[size];
+    y = new int[size];
+    int[] span = new int[size];
+    int[] childSpan = new int[size];
+    int[] left = new int[size];
+    int[] next = new int[size];
+    int[] depth = new int[size];
+
+    for (int i = size - 1; i >= 0; i--) {
+      width[i] = caption[i].length() * CHAR_WIDTH + 4;
+      span[i] = Math.max(width[i], childSpan[i]) + 2 * BORDER;
+      if (parent[i] >= 0)
+        childSpan[parent[i]] += span[i];
+    }
+
+    int maxDepth = 0;
+    for (int i = 0; i < size; i++) {
+      int p = parent[i];
+      if (p >= 0) {
+        left[i] = next[p];
+        next[p] += span[i];
+        depth[i] = depth[p] + 1;
+        maxDepth = Math.max(maxDepth, depth[i]);
+      }
+      int inner = span[i] - 2 * BORDER;
+      x[i] = left[i] + BORDER + (inner - width[i]) / 2;
+      y[i] = BORDER + depth[i] * (NODE_HEIGHT + PARENT_SEP);
+      next[i] = left[i] + (span[i] - childSpan[i]) / 2;
+    }
+    totalWidth = size == 0 ? 0 : span[0];
+    totalHeight = (maxDepth + 1) * (NODE_HEIGHT + PARENT_SEP) - PARENT_SEP + 2 * BORDER;
+  }
+
+  // Programs
+  public Object visitProgram(Program ast, Object obj) {
+    return layoutUnary("Program", ast.FL);
+  }
+
+ // Lists
+
+  public Object visitEmptyDeclList(EmptyDeclList ast, Object obj) {
+    return layoutNullary("EmptyDecList");
+  }
+
+  public Object visitEmptyStmtList(EmptyStmtList ast, Object obj) {
+    return layoutNullary("EmptyStmtList");
+  }
+
+  public Object visitEmptyExprList(EmptyExprList ast, Object obj) {
+    return layoutNullary("EmptyExprList");
+  }
+
+  public Object visitEmptyStmt(EmptyStmt ast, Object obj) {
+    return layoutNullary("EmptyStmt");
+  }
+
+  public Object visitErrorStmt(ErrorStmt ast, Object obj) {
+    return layoutNullary("ErrorStmt");
+  }
+
+  public Object visitEmptyParaList(EmptyParaList ast, Object obj) {
+    return layoutNullary("EmptyParaList");
+  }
+
+  public Object visitEmptyArgList(EmptyArgList ast, Object obj) {
+    return layoutNullary("EmptyArgList");
+  }
+
+
+  // Declarations
+  public Object visitDeclList(DeclList ast, Object obj) {
+    return layoutBinary("DecList", ast.D, ast.DL);
+  }
+
+  public Object visitFuncDecl(FuncDecl ast, Object obj) {
+    return layoutQuaternary("FunDec", ast.T, ast.I, ast.PL, ast.S);
+  }
+
+  public Object visitGlobalVarDecl(GlobalVarDecl ast, Object obj) {
+    return layoutTernary("G.VarDec", ast.T, ast.I, ast.E);
+  }
+
+  public Object visitLocalVarDecl(LocalVarDecl ast, Object obj) {
+    return layoutTernary("L.VarDec", ast.T, ast.I, ast.E);
+  }
+
+  // Stmts
+
+  public Object visitStmtList(StmtList ast, Object obj) {
+    return layoutBinary("StmtList", ast.S, ast.SL);
+  }
+
+  public Object visitIfStmt(IfStmt ast, Object obj) {
+    if (ast.S2 instanceof EmptyStmt)
+      return layoutBinary("IfStmt", ast.E, ast.S1);
+    else
+      return layoutTernary("IfStmt", ast.E, ast.S1, ast.S2);
+  }
+
+  public Object visitWhileStmt(WhileStmt ast, Object obj) {
+    return layoutBinary("WhileStmt", ast.E, ast.S);
+  }
+
+  public Object visitForStmt(ForStmt ast, Object obj) {
+    return layoutQuaternary(ast.parallel ? "ParForStmt" : "ForStmt", ast.E1, ast.E2, ast.E3, ast.S);
+  }
+
+  public Object visitBreakStmt(BreakStmt ast, Object obj) {
+    return layoutNullary("BrkStmt");
+  }
+
+  public Object visitContinueStmt(ContinueStmt ast, Object obj) {
+    return layoutNullary("ConStmt");
+  }
+
+  public Object visitReturnStmt(ReturnStmt ast, Object obj) {
+    return layoutUnary("RetStmt", ast.E);
+  }
+
+  public Object visitCompoundStmt(CompoundStmt ast, Object obj) {
+    return layoutBinary("CompStmt", ast.DL, ast.SL);
+  }
+
+  public Object visitExprStmt(ExprStmt ast, Object obj) {
+    return layoutUnary("ExpStmt", ast.E);
+  }
+
+  public Object visitEmptyCompStmt(EmptyCompStmt ast, Object obj) {
+    return layoutNullary("EmptyCompStmt");
+  }
+
+
+  // Expressions
+
+  public Object visitAssignExpr(AssignExpr ast, Object obj) {
+    return layoutBinary("AssignExp", ast.E1, ast.E2);
+  }
+
+  public Object visitBinaryExpr(BinaryExpr ast, Object obj) {
+    return layoutTernary("BinExp", ast.E1, ast.O, ast.E2);
+  }
+
+  public Object visitUnaryExpr(UnaryExpr ast, Object obj) {
+    return layoutBinary("UnaExp", ast.O, ast.E);
+  }
+
+  public Object visitIntExpr(IntExpr ast, Object obj) {
+    return layoutUnary("IntExp", ast.IL);
+  }
+
+  public Object visitStringExpr(StringExpr ast, Object obj) {
+    return layoutUnary("StrExp", ast.SL);
+  }
+
+  public Object visitFloatExpr(FloatExpr ast, Object obj) {
+    return layoutUnary("FloatExp", ast.FL);
+  }
+
+  public Object visitBooleanExpr(BooleanExpr ast, Object obj) {
+    return layoutUnary("BoolExp", ast.BL);
+  }
+
+  public Object visitCallExpr(CallExpr ast, Object obj) {
+    return layoutBinary("CallExp", ast.I, ast.AL);
+  }
+
+  public Object visitVarExpr(VarExpr ast, Object obj) {
+    return layoutUnary("VarExp", ast.V);
+  }
+
+  public Object visitArrayExpr(ArrayExpr ast, Object obj) {
+    return layoutBinary("ArrExp", ast.V, ast.E);
+  }
+
+  public Object visitInitExpr(InitExpr ast, Object obj) {
+    return layoutUnary("InitExp", ast.IL);
+  }
+
+  public Object visitExprList(ExprList ast, Object obj) {
+    return layoutBinary("ExprList", ast.E, ast.EL);
+  }
+
+  public Object visitEmptyExpr(EmptyExpr ast, Object obj) {
+    return layoutNullary("EmptyExp");
+  }
+
+  public Object visitErrorExpr(ErrorExpr ast, Object obj) {
+    return layoutNullary("ErrorExp");
+  }
+
+  // Formal Parameters
+
+  public Object visitParaList (ParaList ast, Object obj) {
+    return layoutBinary("ParaLst", ast.P, ast.PL);
+  }
+
+  public Object visitParaDecl(ParaDecl ast, Object obj) {
+    return layoutBinary("ParaDec", ast.T, ast.I);
+  }
+
+  // Arguments
+
+  public Object visitArgList(ArgList ast, Object obj) {
+    return layoutBinary("ArgList", ast.A, ast.AL);
+  }
+
+  public Object visitArg(Arg ast, Object obj) {
+    return layoutUnary("Arg", ast.E);
+  }
+
+
+  // Types
+
+  public Object visitBooleanType(BooleanType ast, Object obj) {
+    return layoutNullary("bool");
+  }
+
+  public Object visitIntType(IntType ast, Object obj) {
+    return layoutNullary("int");
+  }
+
+  public Object visitFloatType(FloatType ast, Object obj) {
+    return layoutNullary("float");
+  }
+
+  public Object visitVoidType(VoidType ast, Object obj) {
+    return layoutNullary("void");
+  }
+
+  // not called
+  public Object visitStringType(StringType ast, Object obj) {
+    return layoutNullary("string");
+  }
+
+  public Object visitArrayType(ArrayType ast, Object obj) {
+    return layoutBinary("ArrType", ast.T, ast.E);
+  }
+
+  public Object visitErrorType(ErrorType ast, Object obj) {
+    return layoutNullary("err");
+  }
+
+  // Literals, Identifiers and Operators
+
+  public Object visitIntLiteral(IntLiteral ast, Object obj) {
+    return layoutNullary(ast.spelling);
+  }
+
+  public Object visitFloatLiteral(FloatLiteral ast, Object obj) {
+    return layoutNullary(ast.spelling);
+  }
+
+  public Object visitBooleanLiteral(BooleanLiteral ast, Object obj) {
+    return layoutNullary(ast.spelling);
+  }
+
+  public Object visitStringLiteral(StringLiteral ast, Object obj) {
+    return layoutNullary(ast.spelling);
+  }
+
+  public Object visitIdent(Ident ast, Object obj) {
+    return layoutNullary(ast.spelling);
+  }
+
+  public Object visitOperator(Operator ast, Object obj) {
+    return layoutNullary(ast.spelling);
+  }
+
+  // Variable names
+
+  public Object visitSimpleVar(SimpleVar ast, Object obj) {
+    return layoutUnary("SimVar", ast.I);
+  }
+
+  private int add(String name) {
+    if (size == caption.length) {
+      caption = Arrays.copyOf(caption, 2 * size);
+      parent = Arrays.copyOf(parent, 2 * size);
+    }
+    caption[size] = name;
+    parent[size] = current;
+    return size++;
+  }
+
+  private Object layoutNullary(String name) {
+    add(name);
+    return null;
+  }
+
+  private Object layoutUnary(String name, AST child1) {
+    return layoutChildren(name, child1);
+  }
+
+  private Object layoutBinary(String name, AST child1, AST child2) {
+    return layoutChildren(name, child1, child2);
+  }
+
+  private Object layoutTernary(String name, AST child1, AST child2,
+                               AST child3) {
+    return layoutChildren(name, child1, child2, child3);
+  }
+
+  private Object layoutQuaternary(String name, AST child1, AST child2,
+                                  AST child3, AST child4) {
+    return layoutChildren(name, child1, child2, child3, child4);
+  }
+
+  private Object layoutChildren(String name, AST... children) {
+    int saved = current;
+    current = add(name);
+    for (AST child : children)
+      child.visit(this, null);
+    current = saved;
+    return null;
+  }
+
+}
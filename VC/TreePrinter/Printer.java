@@ -11,8 +11,10 @@ package VC.TreePrinter;
 
 
 import VC.ASTs.*;
+import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.PrintWriter;
+import java.util.Arrays;
 
 public class Printer implements Visitor {
 
@@ -20,26 +22,33 @@ public class Printer implements Visitor {
   private boolean firstFunction; 
   private PrintWriter textOut;
 
+  // The ASTs of large programs run to many thousands of lines, so 
+  // they are written through a large buffer and every indentation 
+  // is a slice of one array of spaces.
+  private static final int BUFFER_SIZE = 1 << 16;
+  private char[] spaces;
+
   public Printer(String filename) {
     indent = 0;
+    spaces = new char[64];
+    Arrays.fill(spaces, ' ');
 
     try {
-      textOut = new PrintWriter(new FileWriter(filename));
+      textOut = new PrintWriter(new BufferedWriter(new FileWriter(filename), BUFFER_SIZE));
     } catch (java.io.IOException e) {
       System.out.println("Caught IOException: " + e.getMessage());
       System.exit(1);
     }
   }
 
-  private String indentString() {
-    StringBuffer sb = new StringBuffer();
-    for (int i = 0; i < indent; ++i) {
-      sb.append("  ");
-    }
-    return sb.toString();
-  }
-
+  // prints s on a line of its own at the current indentation
   void print(String s) {
+    int n = 2 * indent;
+    if (n > spaces.length) {
+      spaces = new char[2 * n];
+      Arrays.fill(spaces, ' ');
+    }
+    textOut.write(spaces, 0, n);
     textOut.println(s);
   }
 
@@ -56,7 +65,7 @@ public class Printer implements Visitor {
 
   // Programs
   public Object visitProgram(Program ast, Object o) {
-    print(indentString() + "Program");
+    print("Program");
     ++indent;
     ast.FL.visit(this, o);
     --indent;
@@ -66,34 +75,34 @@ public class Printer implements Visitor {
  // Lists
 
   public Object visitEmptyDeclList(EmptyDeclList ast, Object o) {
-    print(indentString() + "EmptyDeclList");
+    print("EmptyDeclList");
     return null;
   }
 
   public Object visitEmptyStmtList(EmptyStmtList ast, Object o) {
-    print(indentString() + "EmptyStmtList");
+    print("EmptyStmtList");
     return null;
   }
 
   public Object visitEmptyExprList(EmptyExprList ast, Object o) {
-    print(indentString() + "EmptyExprList");
+    print("EmptyExprList");
     return null;
   }
 
   public Object visitEmptyParaList(EmptyParaList ast, Object o) {
-    print(indentString() + "EmptyParaList");
+    print("EmptyParaList");
     return null;
   }
 
   public Object visitEmptyArgList(EmptyArgList ast, Object o) {
-    print(indentString() + "EmptyArgList");
+    print("EmptyArgList");
     return null;
   }
 
 
   // Declarations
   public Object visitDeclList(DeclList ast, Object o) {
-    print(indentString() + "DeclList");
+    print("DeclList");
     ++indent;
     ast.D.visit(this, o);
     ast.DL.visit(this, o);
@@ -102,7 +111,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitFuncDecl(FuncDecl ast, Object o) {
-    print(indentString() + "FuncDecl");
+    print("FuncDecl");
     ++indent;
     ast.T.visit(this, o);
     ast.I.visit(this, o);
@@ -113,12 +122,12 @@ public class Printer implements Visitor {
   }
 
   public Object visitGlobalVarDecl(GlobalVarDecl ast, Object o) {
-    print(indentString() + "GloablVarDecl");
+    print("GloablVarDecl");
     ++indent;
     ast.T.visit(this, o);
     ast.I.visit(this, o);
     if (! (ast.E instanceof EmptyExpr)) {
-      print(indentString() + "=");
+      print("=");
       ast.E.visit(this, o);
     }
     --indent;
@@ -126,12 +135,12 @@ public class Printer implements Visitor {
   }
 
   public Object visitLocalVarDecl(LocalVarDecl ast, Object o) {
-    print(indentString() + "LocalVarDecl");
+    print("LocalVarDecl");
     ++indent;
     ast.T.visit(this, o);
     ast.I.visit(this, o);
     if (! (ast.E instanceof EmptyExpr)) {
-      print(indentString() + "=");
+      print("=");
       ast.E.visit(this, o);
     }
     --indent;
@@ -141,7 +150,7 @@ public class Printer implements Visitor {
   // Stmts
 
   public Object visitStmtList(StmtList ast, Object o) {
-    print(indentString() + "StmtList");
+    print("StmtList");
     ++indent;
     ast.S.visit(this, o);
     ast.SL.visit(this, o);
@@ -151,7 +160,7 @@ public class Printer implements Visitor {
 
   public Object visitIfStmt(IfStmt ast, Object o) {
 
-    print(indentString() + "IfStmt");
+    print("IfStmt");
     ++indent;
     ast.E.visit(this, o);
     ast.S1.visit(this, null);
@@ -161,7 +170,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitWhileStmt(WhileStmt ast, Object o) {
-    print(indentString() + "WhileStmt");
+    print("WhileStmt");
     ++indent;
     ast.E.visit(this, o); 
     ast.S.visit(this, o); 
@@ -170,7 +179,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitForStmt(ForStmt ast, Object o) {
-    print(indentString() + "ForStmt");
+    print((ast.parallel ? "ParallelForStmt" : "ForStmt"));
     ++indent;
     ast.E1.visit(this, o); 
     ast.E2.visit(this, o); 
@@ -181,17 +190,17 @@ public class Printer implements Visitor {
   }
 
   public Object visitBreakStmt(BreakStmt ast, Object o) {
-    print(indentString() + "BreakStmt");
+    print("BreakStmt");
     return null;
   }
 
   public Object visitContinueStmt(ContinueStmt ast, Object o) {
-    print(indentString() + "ContinuekStmt");
+    print("ContinuekStmt");
     return null;
   }
 
   public Object visitReturnStmt(ReturnStmt ast, Object o) {
-    print(indentString() + "ReturnStmt");
+    print("ReturnStmt");
     ++indent;
     ast.E.visit(this, o);
     --indent;
@@ -199,7 +208,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitCompoundStmt(CompoundStmt ast, Object o) {
-    print(indentString() + "CompoundStmt");
+    print("CompoundStmt");
     ++indent;
     ast.DL.visit(this, o);
     ast.SL.visit(this, o);
@@ -208,7 +217,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitExprStmt(ExprStmt ast, Object o) {
-    print(indentString() + "ExprStmt");
+    print("ExprStmt");
     ++indent;
     ast.E.visit(this, o);
     --indent;
@@ -216,12 +225,17 @@ public class Printer implements Visitor {
   }
 
   public Object visitEmptyCompStmt(EmptyCompStmt ast, Object o) {
-    print(indentString() + "EmptyCompStmt");
+    print("EmptyCompStmt");
     return null;
   }
 
   public Object visitEmptyStmt(EmptyStmt ast, Object o) {
-    print(indentString() + "EmptyStmt");
+    print("EmptyStmt");
+    return null;
+  }
+
+  public Object visitErrorStmt(ErrorStmt ast, Object o) {
+    print("ErrorStmt");
     return null;
   }
 
@@ -229,7 +243,7 @@ public class Printer implements Visitor {
   // Expressions
 
   public Object visitAssignExpr(AssignExpr ast, Object o) {
-    print(indentString() + "AssignExpr");
+    print("AssignExpr");
     ++indent;
     ast.E1.visit(this, o);
     ast.E2.visit(this, o);
@@ -238,7 +252,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitBinaryExpr(BinaryExpr ast, Object o) {
-    print(indentString() + "BinaryExpr");
+    print("BinaryExpr");
     ++indent;
     ast.E1.visit(this, o);
     ast.O.visit(this, o);
@@ -248,7 +262,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitUnaryExpr(UnaryExpr ast, Object o) {
-    print(indentString() + "UnaryExpr");
+    print("UnaryExpr");
     ++indent;
     ast.O.visit(this, o);
     ast.E.visit(this, o);
@@ -257,7 +271,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitIntExpr(IntExpr ast, Object o) {
-    print(indentString() + "IntExpr");
+    print("IntExpr");
     ++indent;
     ast.IL.visit(this, o);
     --indent;
@@ -265,7 +279,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitFloatExpr(FloatExpr ast, Object o) {
-    print(indentString() + "FloatExpr");
+    print("FloatExpr");
     ++indent;
     ast.FL.visit(this, o);
     --indent;
@@ -273,7 +287,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitBooleanExpr(BooleanExpr ast, Object o) {
-    print(indentString() + "BooleanExpr");
+    print("BooleanExpr");
     ++indent;
     ast.BL.visit(this, o);
     --indent;
@@ -281,7 +295,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitStringExpr(StringExpr ast, Object o) {
-    print(indentString() + "StringExpr");
+    print("StringExpr");
     ++indent;
     ast.SL.visit(this, o);
     --indent;
@@ -289,7 +303,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitCallExpr(CallExpr ast, Object o) {
-    print(indentString() + "CallExpr");
+    print("CallExpr");
     ++indent;
     ast.I.visit(this, o);
     ast.AL.visit(this, o);
@@ -298,7 +312,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitVarExpr(VarExpr ast, Object o) {
-    print(indentString() + "VarExpr");
+    print("VarExpr");
     ++indent;
     ast.V.visit(this, o);
     --indent;
@@ -306,7 +320,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitArrayExpr(ArrayExpr ast, Object o) {
-    print(indentString() + "ArrayExpr");
+    print("ArrayExpr");
     ++indent;
     ast.V.visit(this, o);
     ast.E.visit(this, o);
@@ -315,7 +329,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitInitExpr(InitExpr ast, Object o) {
-    print(indentString() + "InitExpr");
+    print("InitExpr");
     ++indent;
     ast.IL.visit(this, o);
     --indent;
@@ -323,7 +337,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitExprList(ExprList ast, Object o) {
-    print(indentString() + "ExprList");
+    print("ExprList");
     ++indent;
     ast.E.visit(this, o);
     ast.EL.visit(this, o);
@@ -332,7 +346,12 @@ public class Printer implements Visitor {
   }
 
   public Object visitEmptyExpr(EmptyExpr ast, Object o) {
-    print(indentString() + "EmptyExpr");
+    print("EmptyExpr");
+    return null;
+  }
+
+  public Object visitErrorExpr(ErrorExpr ast, Object o) {
+    print("ErrorExpr");
     return null;
   }
 
@@ -340,7 +359,7 @@ public class Printer implements Visitor {
   // Parameters
 
   public Object visitParaList (ParaList ast, Object o) {
-    print(indentString() + "ParaList");
+    print("ParaList");
     ++indent;
     ast.P.visit(this, o);
     ast.PL.visit(this, o);
@@ -349,7 +368,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitParaDecl(ParaDecl ast, Object o) {
-    print(indentString() + "ParaDecl");
+    print("ParaDecl");
     ++indent;
     ast.T.visit(this, o);
     ast.I.visit(this, o);
@@ -361,7 +380,7 @@ public class Printer implements Visitor {
   // Arguments
 
   public Object visitArgList(ArgList ast, Object o) {
-    print(indentString() + "ArgList");
+    print("ArgList");
     ++indent;
     ast.A.visit(this, o);
     ast.AL.visit(this, o);
@@ -370,7 +389,7 @@ public class Printer implements Visitor {
   }
 
   public Object visitArg(Arg ast, Object o) {
-    print(indentString() + "Arg");
+    print("Arg");
     ++indent;
     ast.E.visit(this, o);
     --indent;
@@ -379,92 +398,92 @@ public class Printer implements Visitor {
 
   // Types
   public Object visitBooleanType(BooleanType ast, Object o) {
-    print(indentString() + "boolean");
+    print("boolean");
     return null;
   }
 
   public Object visitIntType(IntType ast, Object o) {
-    print(indentString() + "int");
+    print("int");
     return null;
   }
 
   public Object visitFloatType(FloatType ast, Object o) {
-    print(indentString() + "float");
+    print("float");
     return null;
   }
 
   // not called
   public Object visitStringType(StringType ast, Object o) {
-    print(indentString() + "string");
+    print("string");
     return null;
   }
 
   public Object visitVoidType(VoidType ast, Object o) {
-    print(indentString() + "void");
+    print("void");
     return null;
   }
 
   public Object visitArrayType(ArrayType ast, Object o) {
-    print(indentString() + "ArrayType");
+    print("ArrayType");
     ++indent;
     ast.T.visit(this, o);
     ast.E.visit(this, o);
     --indent;
  /*
     if (ast.T instanceof IntType)
-      print(indentString() + "int");
+      print("int");
     else if (ast.T instanceof FloatType)
-      print(indentString() + "float");
+      print("float");
     else if (ast.T instanceof BooleanType)
-      print(indentString() + "bool");
+      print("bool");
     else // if (ast.T instanceof VoidType)
-      print(indentString() + "void");
+      print("void");
 */
     return null;
   }
 
 
   public Object visitErrorType(ErrorType ast, Object o) {
-    print(indentString() + "error");
+    print("error");
     return null;
   }
 
   // Literals, Identifiers and Operators
 
   public Object visitIntLiteral(IntLiteral ast, Object o) {
-    print(indentString() + ast.spelling);
+    print(ast.spelling);
     return null;
   }
 
   public Object visitFloatLiteral(FloatLiteral ast, Object o) {
-    print(indentString() + ast.spelling);
+    print(ast.spelling);
     return null;
   }
 
   public Object visitBooleanLiteral(BooleanLiteral ast, Object o) {
-    print(indentString() + ast.spelling);
+    print(ast.spelling);
     return null;
   }
 
   public Object visitStringLiteral(StringLiteral ast, Object o) {
-    print(indentString() + ast.spelling);
+    print(ast.spelling);
     return null;
   }
 
   public Object visitIdent(Ident ast, Object o) {
-    print(indentString() + ast.spelling);
+    print(ast.spelling);
     return null;
   }
 
   public Object visitOperator(Operator ast, Object o) {
-    print(indentString() + ast.spelling);
+    print(ast.spelling);
     return null;
   }
 
   // Variable names
 
   public Object visitSimpleVar(SimpleVar ast, Object o) {
-    print(indentString() + "SimpleVar");
+    print("SimpleVar");
     ++indent;
     ast.I.visit(this, o);
     --indent;
@@ -18,26 +18,30 @@ package VC.UnParser;
 
 
 import VC.ASTs.*;
+import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.PrintWriter;
+import java.util.Arrays;
 
 public class UnParser implements Visitor {
 
   private int level;
   private boolean firstFunction; 
   private PrintWriter textOut;
-  
-  private char[] escapeChars = { '\b', '\f', '\n', '\r', '\t', '\'', '\"', '\\' };      
-  private String[] escapeStrings = { "\\b", "\\f", "\\n", "\\r", "\\t", "\\\'",
-"\\\"", "\\\\" };      
+
+  // Written through a large buffer, with the indentation taken from
+  // one array of spaces (see also TreePrinter/Printer.java).
+  private static final int BUFFER_SIZE = 1 << 16;
+  private char[] spaces = new char[64];
 
   public UnParser(String filename) {
     // By definition, all function declarations are in scope level 1
     level = 1;
     firstFunction = true; 
+    Arrays.fill(spaces, ' ');
 
     try {
-      textOut = new PrintWriter(new FileWriter(filename));
+      textOut = new PrintWriter(new BufferedWriter(new FileWriter(filename), BUFFER_SIZE));
     } catch (java.io.IOException e) {
       System.out.println("Caught IOException: " + e.getMessage());
       System.exit(1);
@@ -49,18 +53,36 @@ public class UnParser implements Visitor {
     textOut.close();
   }
 
+  // The escape of c, or null if c stands for itself.
+  private static String escape(char c) {
+    switch (c) {
+      case '\b': return "\\b";
+      case '\f': return "\\f";
+      case '\n': return "\\n";
+      case '\r': return "\\r";
+      case '\t': return "\\t";
+      case '\'': return "\\\'";
+      case '\"': return "\\\"";
+      case '\\': return "\\\\";
+      default: return null;
+    }
+  }
+
   String  addEscape(String s) {
-    StringBuffer t = new StringBuffer();
-    for (int i=0; i < s.length(); i++) {
-      boolean flag = false;
-      for (int j=0; j < escapeChars.length; j++) {
-        if (s.charAt(i) == escapeChars[j]) {
- 	  flag = true;	   
-          t.append(escapeStrings[j]);
-        }
-      }
-      if (!flag) 
- 	t.append(s.charAt(i));
+    int i = 0;
+    while (i < s.length() && escape(s.charAt(i)) == null)
+      i++;
+    if (i == s.length())
+      return s; // most strings have nothing to escape
+    StringBuilder t = new StringBuilder(s.length() + 8);
+    t.append(s, 0, i);
+    for (; i < s.length(); i++) {
+      char c = s.charAt(i);
+      String e = escape(c);
+      if (e == null)
+        t.append(c);
+      else
+        t.append(e);
     }
     return t.toString();
   }
@@ -70,8 +92,13 @@ public class UnParser implements Visitor {
       firstFunction = false; // no newline for the first line
     else
       textOut.println();
-    for (int i=1; i <= 2 * (level-1) ; i++)
-      textOut.print(" ");
+    int n = 2 * (level-1);
+    if (n > spaces.length) {
+      spaces = new char[2 * n];
+      Arrays.fill(spaces, ' ');
+    }
+    if (n > 0)
+      textOut.write(spaces, 0, n);
   }
 
   void  print(String s) {
@@ -240,6 +267,8 @@ public class UnParser implements Visitor {
 
   public Object visitForStmt(ForStmt ast, Object o) {
     printIndentation();
+    if (ast.parallel)
+      print("parallel ");
     print("for (");
     ast.E1.visit(this, o); 
     print(";");
@@ -306,6 +335,10 @@ public class UnParser implements Visitor {
     return null;
   }
 
+  public Object visitErrorStmt(ErrorStmt ast, Object o) {
+    return null;
+  }
+
 
   // Expressions
 
@@ -388,6 +421,10 @@ public class UnParser implements Visitor {
     return null;
   }
 
+  public Object visitErrorExpr(ErrorExpr ast, Object o) {
+    return null;
+  }
+
 
   // Parameters
 
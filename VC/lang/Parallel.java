@@ -0,0 +1,108 @@
+/*
+ * Parallel.java
+ */
+
+// The run-time support for the parallel for loops of VC.
+//
+// The Emitter compiles the body of a parallel for into an instance
+// method of the VC program's class
+//
+//   void f$loop$k(int lo, int hi, <the variables the body reads>)
+//
+// that runs the iterations lo, lo + 1, ..., hi - 1, and the loop itself
+// into a call to forRange, which splits the range lo .. hi - 1 across
+// the common fork-join pool and calls the method on the subranges.
+
+package VC.lang;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class Parallel {
+
+  // the number of subranges per worker thread, for load balancing
+  private final static int SPLITS_PER_THREAD = 8;
+
+  private final static ConcurrentHashMap<String, Method> bodies = new ConcurrentHashMap<String, Method>();
+
+  public final static void forRange(Object target, String name, Object[] captured, int lo, int hi) {
+    if (lo >= hi)
+      return;
+    Method body = body(target.getClass(), name);
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+    long grain = Math.max(1, ((long) hi - lo) / ((long) pool.getParallelism() * SPLITS_PER_THREAD));
+    if (hi - lo <= grain)
+      run(body, target, captured, lo, hi);
+    else
+      pool.invoke(new Range(body, target, captured, lo, hi, (int) grain));
+  }
+
+  private static Method body(Class<?> c, String name) {
+    String key = c.getName() + "." + name;
+    Method body = bodies.get(key);
+    if (body == null) {
+      for (Method m : c.getDeclaredMethods())
+        if (m.getName().equals(name))
+          body = m;
+      if (body == null)
+        throw new IllegalStateException("no method " + key);
+      body.setAccessible(true);
+      bodies.put(key, body);
+    }
+    return body;
+  }
+
+  private static void run(Method body, Object target, Object[] captured, int lo, int hi) {
+    Object[] args = new Object[captured.length + 2];
+    args[0] = lo;
+    args[1] = hi;
+    java.lang.System.arraycopy(captured, 0, args, 2, captured.length);
+    try {
+      body.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      // e.g., an ArrayIndexOutOfBoundsException in the VC program
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+      if (cause instanceof Error)
+        throw (Error) cause;
+      throw new RuntimeException(cause);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class Range extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Method body;
+    private final Object target;
+    private final Object[] captured;
+    private final int lo, hi, grain;
+
+    Range(Method body, Object target, Object[] captured, int lo, int hi, int grain) {
+      this.body = body;
+      this.target = target;
+      this.captured = captured;
+      this.lo = lo;
+      this.hi = hi;
+      this.grain = grain;
+    }
+
+    protected void compute() {
+      if (hi - lo <= grain) {
+        run(body, target, captured, lo, hi);
+        return;
+      }
+      int mid = lo + (hi - lo) / 2;
+      invokeAll(new Range(body, target, captured, lo, mid, grain),
+                new Range(body, target, captured, mid, hi, grain));
+    }
+
+  }
+
+}
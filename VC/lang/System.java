@@ -3,6 +3,18 @@
  */
 
 // All built-in functions for VC are assumed to be static Java methods
+//
+// The output of a VC program run with -Dvc.output=buffered is kept in
+// a large unsynchronised buffer rather than written through the
+// autoflushing java.lang.System.out on every call. The buffer is
+// flushed when it fills up, before getInt and getFloat read their
+// input, on a call to flushOutput() and when the program exits. Ints,
+// floats and booleans are appended to the buffer in place without
+// creating intermediate Strings.
+//
+// A VC program run with -Dvc.input=fast reads its input for getInt and
+// getFloat without prompts. The numbers may be separated by any white
+// space and are parsed directly from a byte buffer over System.in.
 
 package VC.lang;
 
@@ -13,15 +25,46 @@ public class System {
 
   private static BufferedReader reader = new BufferedReader(new InputStreamReader(java.lang.System.in));
 
+  private final static boolean buffered = "buffered".equals(java.lang.System.getProperty("vc.output"));
+  private final static int BUFFER_SIZE = 1 << 16;
+  private final static String lineSeparator = java.lang.System.lineSeparator();
+  private static StringBuilder buffer;
+  private static char[] chars;
+  private static Writer writer;
+
+  private final static boolean fast = "fast".equals(java.lang.System.getProperty("vc.input"));
+  private static InputStream in = java.lang.System.in;
+  private static byte[] bytes = new byte[BUFFER_SIZE];
+  private static int next = 0;  // the next byte in bytes
+  private static int end = 0;   // the end of the bytes read
+  private static char[] token = new char[64];
+
+  static {
+    if (buffered) {
+      buffer = new StringBuilder(BUFFER_SIZE);
+      chars = new char[BUFFER_SIZE];
+      writer = new OutputStreamWriter(new FileOutputStream(FileDescriptor.out));
+      Runtime.getRuntime().addShutdownHook(new Thread() {
+        public void run() {
+          flushOutput();
+        }
+      });
+    }
+  }
+
   public final static int getInt() {
     try {
-      java.lang.System.out.print("Enter an integer: ");
+      if (fast)
+        return readInt();
+      putString("Enter an integer: ");
+      flushOutput();
       String s = reader.readLine();
       StringTokenizer st = new StringTokenizer(s); 
       int i = Integer.parseInt(st.nextToken());
-      java.lang.System.out.println("You have entered " + i + ".");
+      putStringLn("You have entered " + i + ".");
       return i;
     } catch (java.io.IOException e) {
+      flushOutput();
       java.lang.System.out.println("Caught IOException: " + e.getMessage());
       java.lang.System.exit(1);
       return -1;
@@ -29,22 +72,34 @@ public class System {
   }
 
   public final static void putInt(int i) {
-    java.lang.System.out.print(i);
+    if (buffered) {
+      buffer.append(i);
+      spill();
+    } else
+      java.lang.System.out.print(i);
   }
 
   public final static void putIntLn(int i) {
-    java.lang.System.out.println(i);
+    if (buffered) {
+      buffer.append(i).append(lineSeparator);
+      spill();
+    } else
+      java.lang.System.out.println(i);
   }
 
   public final static float getFloat() {
     try {
-      java.lang.System.out.print("Enter a float: ");
+      if (fast)
+        return readFloat();
+      putString("Enter a float: ");
+      flushOutput();
       String s = reader.readLine();
       StringTokenizer st = new StringTokenizer(s); 
       float f = Float.parseFloat(st.nextToken());
-      java.lang.System.out.println("You have entered " + f + ".");
+      putStringLn("You have entered " + f + ".");
       return f;
    } catch (java.io.IOException e) {
+      flushOutput();
       java.lang.System.out.println("Caught IOException: " + e.getMessage());
       java.lang.System.exit(1);
       return -1.0F;
@@ -52,31 +107,222 @@ public class System {
   }
 
   public final static void putFloat(float f) {
-    java.lang.System.out.print(f);
+    if (buffered) {
+      buffer.append(f);
+      spill();
+    } else
+      java.lang.System.out.print(f);
   }
 
   public final static void putFloatLn(float f) {
-    java.lang.System.out.println(f);
+    if (buffered) {
+      buffer.append(f).append(lineSeparator);
+      spill();
+    } else
+      java.lang.System.out.println(f);
   }
 
   public final static void putBool(boolean b) {
-    java.lang.System.out.print(b);
+    if (buffered) {
+      buffer.append(b);
+      spill();
+    } else
+      java.lang.System.out.print(b);
   }
 
   public final static void putBoolLn(boolean b) {
-    java.lang.System.out.println(b);
+    if (buffered) {
+      buffer.append(b).append(lineSeparator);
+      spill();
+    } else
+      java.lang.System.out.println(b);
   }
 
   public final static void putString(String s) {
-    java.lang.System.out.print(s);
+    if (buffered) {
+      buffer.append(s);
+      spill();
+    } else
+      java.lang.System.out.print(s);
   }
 
   public final static void putStringLn(String s) {
-    java.lang.System.out.println(s);
+    if (buffered) {
+      buffer.append(s).append(lineSeparator);
+      spill();
+    } else
+      java.lang.System.out.println(s);
   }
 
   public final static void putLn() {
-    java.lang.System.out.println();
+    if (buffered) {
+      buffer.append(lineSeparator);
+      spill();
+    } else
+      java.lang.System.out.println();
+  }
+
+  public final static void flushOutput() {
+    if (!buffered) {
+      java.lang.System.out.flush();
+      return;
+    }
+    int n = buffer.length();
+    if (n > chars.length)
+      chars = new char[n];
+    buffer.getChars(0, n, chars, 0);
+    buffer.setLength(0);
+    try {
+      writer.write(chars, 0, n);
+      writer.flush();
+    } catch (java.io.IOException e) {
+      java.lang.System.err.println("Caught IOException: " + e.getMessage());
+      java.lang.System.exit(1);
+    }
+  }
+
+  // Fast input
+
+  // returns the next byte of the input, or -1 at its end
+  private static int read() throws java.io.IOException {
+    if (next == end) {
+      end = in.read(bytes, 0, bytes.length);
+      next = 0;
+      if (end <= 0) {
+        end = 0;
+        return -1;
+      }
+    }
+    return bytes[next++] & 0xff;
+  }
+
+  // returns the first byte of the next number
+  private static int skipWhiteSpace() throws java.io.IOException {
+    int c = read();
+    while (c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f')
+      c = read();
+    if (c < 0)
+      throw new java.io.IOException("end of input");
+    return c;
+  }
+
+  private static int readInt() throws java.io.IOException {
+    int c = skipWhiteSpace();
+    boolean negative = (c == '-');
+    if (c == '-' || c == '+')
+      c = read();
+    if (c < '0' || c > '9')
+      throw new NumberFormatException("no integer in the input");
+    long n = 0;
+    while (c >= '0' && c <= '9') {
+      n = n * 10 + (c - '0');
+      if (n > (long) Integer.MAX_VALUE + 1)
+        throw new NumberFormatException("integer too large");
+      c = read();
+    }
+    if (negative)
+      n = -n;
+    if (n > Integer.MAX_VALUE)
+      throw new NumberFormatException("integer too large");
+    return (int) n;
+  }
+
+  // 10^0, ..., 10^10 are exact floats
+  private final static float[] powersOfTen = {
+    1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+  };
+
+  // A number whose digits fit in 24 bits and whose decimal exponent is
+  // at most 10 is the product or quotient of two exact floats and so
+  // correctly rounded by a single float operation. The others are 
+  // left to Float.parseFloat.
+  private static float readFloat() throws java.io.IOException {
+    int c = skipWhiteSpace();
+    int length = 0;
+    boolean negative = false;
+    long digits = 0;
+    int exponent = 0;
+    boolean exact = true;
+    boolean seenDigit = false;
+
+    if (c == '-' || c == '+') {
+      negative = (c == '-');
+      length = append(length, c);
+      c = read();
+    }
+    for (boolean fraction = false; ; c = read()) {
+      if (c >= '0' && c <= '9') {
+        seenDigit = true;
+        digits = digits * 10 + (c - '0');
+        if (digits >= 1 << 24)
+          exact = false;
+        if (fraction)
+          exponent--;
+      } else if (c == '.' && !fraction)
+        fraction = true;
+      else
+        break;
+      length = append(length, c);
+    }
+    if (c == 'e' || c == 'E') {
+      exact = false;
+      length = append(length, c);
+      c = read();
+      while (c == '-' || c == '+' || (c >= '0' && c <= '9')) {
+        length = append(length, c);
+        c = read();
+      }
+    }
+    if (!seenDigit)
+      throw new NumberFormatException("no float in the input");
+
+    if (exact && exponent >= -10) {
+      float f = (exponent == 0) ? digits : digits / powersOfTen[-exponent];
+      return negative ? -f : f;
+    }
+    return Float.parseFloat(new String(token, 0, length));
+  }
+
+  private static int append(int length, int c) {
+    if (length == token.length) {
+      char[] longer = new char[2 * length];
+      java.lang.System.arraycopy(token, 0, longer, 0, length);
+      token = longer;
+    }
+    token[length] = (char) c;
+    return length + 1;
+  }
+
+  private static void spill() {
+    if (buffer.length() >= BUFFER_SIZE)
+      flushOutput();
+  }
+
+  // Decoders for the array initialisers packed into strings by the
+  // Emitter. An int or a float takes two chars (the high half first)
+  // and a boolean one char. The elements go to a[offset], a[offset+1], ...
+
+  public final static void unpackInts(int[] a, int offset, String s) {
+    for (int i = 0; i < s.length(); i += 2)
+      a[offset++] = (s.charAt(i) << 16) | s.charAt(i + 1);
+  }
+
+  public final static void unpackFloats(float[] a, int offset, String s) {
+    for (int i = 0; i < s.length(); i += 2)
+      a[offset++] = Float.intBitsToFloat((s.charAt(i) << 16) | s.charAt(i + 1));
+  }
+
+  public final static void unpackBools(boolean[] a, int offset, String s) {
+    for (int i = 0; i < s.length(); i++)
+      a[offset++] = s.charAt(i) != 0;
+  }
+
+  // the same for a boolean array packed into longs (-packbool), where
+  // element i is bit i % 64 of a[i / 64]
+  public final static void unpackBits(long[] a, int offset, String s) {
+    for (int i = 0; i < s.length(); i++, offset++)
+      if (s.charAt(i) != 0)
+        a[offset >> 6] |= 1L << offset;
   }
 
 }
@@ -0,0 +1,113 @@
+.class public arrayinit
+.super java/lang/Object
+	
+.field static primes [I
+.field static halves [F
+.field static odd [Z
+.field static small [I
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	bipush 20
+	newarray int
+	dup
+	iconst_0
+	ldc "\u0000\u0002\u0000\u0003\u0000\u0005\u0000\u0007\u0000\u000b\u0000\u000d\u0000\u0011\u0000\u0013\u0000\u0017\u0000\u001d\u0000\u001f\u0000%\u0000)\u0000+\u0000/\u00005\u0000;\u0000=\u0000C\uffff\uffb9"
+	invokestatic VC/lang/System/unpackInts([IILjava/lang/String;)V
+	putstatic arrayinit/primes [I
+	bipush 16
+	newarray float
+	dup
+	iconst_0
+	ldc "\u3f00\u0000\u3f80\u0000\u3fc0\u0000\u4000\u0000\u4020\u0000\u4040\u0000\u4060\u0000\u4080\u0000\u4090\u0000\u40a0\u0000\u40b0\u0000\u40c0\u0000\u40d0\u0000\u40e0\u0000\u40f0\u0000\u4100\u0000"
+	invokestatic VC/lang/System/unpackFloats([FILjava/lang/String;)V
+	putstatic arrayinit/halves [F
+	bipush 16
+	newarray boolean
+	dup
+	iconst_0
+	ldc "\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001"
+	invokestatic VC/lang/System/unpackBools([ZILjava/lang/String;)V
+	putstatic arrayinit/odd [Z
+	iconst_3
+	newarray int
+	dup
+	iconst_0
+	iconst_1
+	iastore
+	dup
+	iconst_1
+	iconst_2
+	iastore
+	dup
+	iconst_2
+	iconst_3
+	iastore
+	putstatic arrayinit/small [I
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 4
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Larrayinit; from L0 to L1
+	new arrayinit
+	dup
+	invokenonvirtual arrayinit/<init>()V
+	astore_1
+.var 2 is n I from L0 to L1
+	bipush 17
+	istore_2
+.var 3 is mixed [I from L0 to L1
+	bipush 17
+	newarray int
+	dup
+	iconst_0
+	ldc "\u0000\u0001\u0000\u0002\u0000\u0003\u0000\u0004\u0000\u0005\u0000\u0006\u0000\u0007\u0000\u0008\u0000\u0009\u0000\u000a\u0000\u000b\u0000\u000c\u0000\u000d\u0000\u000e\u0000\u000f\u0000\u0010\u0000\u0000"
+	invokestatic VC/lang/System/unpackInts([IILjava/lang/String;)V
+	dup
+	bipush 16
+	iload_2
+	iastore
+	astore_3
+	getstatic arrayinit/primes [I
+	bipush 19
+	iaload
+	aload_3
+	bipush 16
+	iaload
+	iadd
+	getstatic arrayinit/small [I
+	iconst_2
+	iaload
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic arrayinit/halves [F
+	bipush 15
+	faload
+	invokestatic VC/lang/System/putFloatLn(F)V
+	getstatic arrayinit/odd [Z
+	iconst_3
+	baload
+	invokestatic VC/lang/System/putBoolLn(Z)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 4
+.limit stack 4
+.end method
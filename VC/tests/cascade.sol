@@ -0,0 +1,9 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+ERROR: 3(3)..3(3): *5: identifier undeclared: y
+ERROR: 4(14)..4(17): *5: identifier undeclared: g
+ERROR: 7(3)..7(3): *5: identifier undeclared: y
+Compilation was unsuccessful.
+exit 0
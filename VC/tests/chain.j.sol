@@ -0,0 +1,111 @@
+.class public chain
+.super java/lang/Object
+	
+.field static calls I
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	iconst_0
+	putstatic chain/calls I
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 1
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method next()I
+L0:
+.var 0 is this Lchain; from L0 to L1
+	getstatic chain/calls I
+	iconst_1
+	iadd
+	putstatic chain/calls I
+	getstatic chain/calls I
+	ireturn
+L1:
+	nop
+	
+	; set limits used by this method
+.limit locals 1
+.limit stack 2
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lchain; from L0 to L1
+	new chain
+	dup
+	invokenonvirtual chain/<init>()V
+	astore_1
+.var 2 is a [I from L0 to L1
+	iconst_3
+	newarray int
+	astore_2
+.var 3 is b [F from L0 to L1
+	iconst_3
+	newarray float
+	astore_3
+.var 4 is i I from L0 to L1
+	aload_2
+	iconst_0
+	aload_2
+	iconst_1
+	aload_2
+	iconst_2
+	aload_1
+	invokevirtual chain/next()I
+	dup_x2
+	iastore
+	dup_x2
+	iastore
+	iastore
+	aload_3
+	iconst_0
+	aload_3
+	iconst_1
+	aload_1
+	invokevirtual chain/next()I
+	iconst_2
+	imul
+	dup
+	istore 4
+	i2f
+	dup_x2
+	fastore
+	fastore
+	aload_2
+	iconst_0
+	iaload
+	aload_2
+	iconst_1
+	iaload
+	iadd
+	aload_2
+	iconst_2
+	iaload
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	aload_3
+	iconst_1
+	faload
+	invokestatic VC/lang/System/putFloatLn(F)V
+	getstatic chain/calls I
+	invokestatic VC/lang/System/putIntLn(I)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 5
+.limit stack 8
+.end method
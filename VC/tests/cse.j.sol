@@ -0,0 +1,120 @@
+.class public cse
+.super java/lang/Object
+	
+.field static g I
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	iconst_1
+	putstatic cse/g I
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 1
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method bump()I
+L0:
+.var 0 is this Lcse; from L0 to L1
+	getstatic cse/g I
+	iconst_1
+	iadd
+	putstatic cse/g I
+	getstatic cse/g I
+	ireturn
+L1:
+	nop
+	
+	; set limits used by this method
+.limit locals 1
+.limit stack 2
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lcse; from L0 to L1
+	new cse
+	dup
+	invokenonvirtual cse/<init>()V
+	astore_1
+.var 2 is a I from L0 to L1
+.var 3 is b I from L0 to L1
+.var 4 is c I from L0 to L1
+.var 5 is d [I from L0 to L1
+	iconst_4
+	newarray int
+	astore 5
+	invokestatic VC/lang/System.getInt()I
+	istore_2
+	invokestatic VC/lang/System.getInt()I
+	istore_3
+	iload_2
+	iload_3
+	iadd
+	dup
+	istore 6
+	iload 6
+	imul
+	iload_2
+	iload_3
+	imul
+	dup
+	istore 7
+	iconst_1
+	iadd
+	dup
+	istore 8
+	iload 8
+	imul
+	isub
+	istore 4
+	aload 5
+	iconst_1
+	iload 7
+	iastore
+	aload 5
+	iconst_2
+	aload 5
+	iconst_1
+	iaload
+	iload 6
+	iadd
+	iastore
+	iconst_3
+	istore_2
+	iload 4
+	iload_2
+	iload_3
+	iadd
+	iadd
+	aload_1
+	invokevirtual cse/bump()I
+	iadd
+	aload_1
+	invokevirtual cse/bump()I
+	iadd
+	istore 4
+	iload 4
+	aload 5
+	iconst_2
+	iaload
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 9
+.limit stack 4
+.end method
@@ -0,0 +1,78 @@
+.class public dce
+.super java/lang/Object
+	
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 0
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method f(I)I
+L0:
+.var 0 is this Ldce; from L0 to L1
+.var 1 is x I from L0 to L1
+	iinc 1 1
+	goto L5
+L2:
+	iinc 1 1
+L3:
+L5:
+	iload_1
+	iconst_0
+	if_icmplt L2
+L4:
+	iload_1
+	ireturn
+L1:
+	nop
+	
+	; set limits used by this method
+.limit locals 2
+.limit stack 2
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Ldce; from L0 to L1
+	new dce
+	dup
+	invokenonvirtual dce/<init>()V
+	astore_1
+.var 2 is y I from L0 to L1
+.var 3 is called I from L0 to L1
+.var 4 is chained I from L0 to L1
+	aload_1
+	iconst_2
+	invokevirtual dce/f(I)I
+	istore_2
+	aload_1
+	iload_2
+	invokevirtual dce/f(I)I
+	istore_3
+	iconst_3
+	dup
+	istore 4
+	istore_2
+	iload_2
+	invokestatic VC/lang/System/putIntLn(I)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 5
+.limit stack 2
+.end method
@@ -0,0 +1,11 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+Pass 2a: Optimisation
+[# vc #]: Dead code elimination removed 4 statement(s), 3 constant branch(es) and 3 variable(s)
+[# vc #]: Range analysis proved 0 of 0 array access(es) in loops in bounds and 0 out of bounds
+Pass 3: Code Generation
+
+Compilation was successful.
+exit 0
@@ -0,0 +1,6 @@
+{"errors": 4, "warnings": 0, "dropped": 0, "diagnostics": [
+  {"severity": "error", "code": "*5", "message": "*5: identifier undeclared: y", "line": 4, "column": 10, "endLine": 4, "endColumn": 10},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 8, "column": 3, "endLine": 8, "endColumn": 7},
+  {"severity": "error", "code": "*27", "message": "*27: wrong type for actual parameter: x", "line": 9, "column": 12, "endLine": 9, "endColumn": 15},
+  {"severity": "error", "code": "", "message": ": unterminated comment", "line": 11, "column": 1, "endLine": 11, "endColumn": 1}
+]}
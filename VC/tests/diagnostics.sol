@@ -0,0 +1,17 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+Compilation was unsuccessful.
+[# vc #]: The errors and warnings written to diagnostics.json
+exit 0
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+ERROR: 11(1)..11(1): : unterminated comment
+Pass 2: Semantic Analysis
+ERROR: 4(10)..4(10): *5: identifier undeclared: y
+ERROR: 8(3)..8(7): *6: incompatible type for =
+ERROR: 9(12)..9(15): *27: wrong type for actual parameter: x
+Compilation was unsuccessful.
+exit 0
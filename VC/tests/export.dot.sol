@@ -0,0 +1,92 @@
+digraph AST {
+  node [shape=box, fontname="Times-Bold", fontsize=12];
+  n0 [label="Program"];
+  n1 [label="DecList"];
+  n0 -> n1;
+  n2 [label="FunDec"];
+  n1 -> n2;
+  n3 [label="int"];
+  n2 -> n3;
+  n4 [label="main"];
+  n2 -> n4;
+  n5 [label="EmptyParaList"];
+  n2 -> n5;
+  n6 [label="CompStmt"];
+  n2 -> n6;
+  n7 [label="DecList"];
+  n6 -> n7;
+  n8 [label="L.VarDec"];
+  n7 -> n8;
+  n9 [label="int"];
+  n8 -> n9;
+  n10 [label="x"];
+  n8 -> n10;
+  n11 [label="EmptyExp"];
+  n8 -> n11;
+  n12 [label="EmptyDecList"];
+  n7 -> n12;
+  n13 [label="StmtList"];
+  n6 -> n13;
+  n14 [label="ExpStmt"];
+  n13 -> n14;
+  n15 [label="AssignExp"];
+  n14 -> n15;
+  n16 [label="VarExp"];
+  n15 -> n16;
+  n17 [label="SimVar"];
+  n16 -> n17;
+  n18 [label="x"];
+  n17 -> n18;
+  n19 [label="BinExp"];
+  n15 -> n19;
+  n20 [label="IntExp"];
+  n19 -> n20;
+  n21 [label="1"];
+  n20 -> n21;
+  n22 [label="+"];
+  n19 -> n22;
+  n23 [label="BinExp"];
+  n19 -> n23;
+  n24 [label="IntExp"];
+  n23 -> n24;
+  n25 [label="2"];
+  n24 -> n25;
+  n26 [label="*"];
+  n23 -> n26;
+  n27 [label="IntExp"];
+  n23 -> n27;
+  n28 [label="3"];
+  n27 -> n28;
+  n29 [label="StmtList"];
+  n13 -> n29;
+  n30 [label="ExpStmt"];
+  n29 -> n30;
+  n31 [label="CallExp"];
+  n30 -> n31;
+  n32 [label="putString"];
+  n31 -> n32;
+  n33 [label="ArgList"];
+  n31 -> n33;
+  n34 [label="Arg"];
+  n33 -> n34;
+  n35 [label="StrExp"];
+  n34 -> n35;
+  n36 [label="a \"b\" <c> & d\n"];
+  n35 -> n36;
+  n37 [label="EmptyArgList"];
+  n33 -> n37;
+  n38 [label="StmtList"];
+  n29 -> n38;
+  n39 [label="RetStmt"];
+  n38 -> n39;
+  n40 [label="VarExp"];
+  n39 -> n40;
+  n41 [label="SimVar"];
+  n40 -> n41;
+  n42 [label="x"];
+  n41 -> n42;
+  n43 [label="EmptyStmtList"];
+  n38 -> n43;
+  n44 [label="EmptyDecList"];
+  n1 -> n44;
+}
@@ -0,0 +1,18 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+[# vc #]: The AST drawn into export.dot
+Pass 2: Semantic Analysis
+Pass 3: Code Generation
+
+Compilation was successful.
+exit 0
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+[# vc #]: The AST drawn into export.svg
+Pass 2: Semantic Analysis
+Pass 3: Code Generation
+
+Compilation was successful.
+exit 0
@@ -0,0 +1,92 @@
+<svg xmlns="http://www.w3.org/2000/svg" width="1428" height="556" font-family="Times" font-weight="bold" font-size="12">
+<rect width="100%" height="100%" fill="white"/>
+<line x1="713" y1="53" x2="713" y2="23" stroke="black"/>
+<line x1="665" y1="101" x2="713" y2="71" stroke="black"/>
+<line x1="32" y1="149" x2="665" y2="119" stroke="black"/>
+<line x1="71" y1="149" x2="665" y2="119" stroke="black"/>
+<line x1="144" y1="149" x2="665" y2="119" stroke="black"/>
+<line x1="756" y1="149" x2="665" y2="119" stroke="black"/>
+<line x1="323" y1="197" x2="756" y2="167" stroke="black"/>
+<line x1="275" y1="245" x2="323" y2="215" stroke="black"/>
+<line x1="229" y1="293" x2="275" y2="263" stroke="black"/>
+<line x1="257" y1="293" x2="275" y2="263" stroke="black"/>
+<line x1="303" y1="293" x2="275" y2="263" stroke="black"/>
+<line x1="392" y1="245" x2="323" y2="215" stroke="black"/>
+<line x1="878" y1="197" x2="756" y2="167" stroke="black"/>
+<line x1="608" y1="245" x2="878" y2="215" stroke="black"/>
+<line x1="608" y1="293" x2="608" y2="263" stroke="black"/>
+<line x1="494" y1="341" x2="608" y2="311" stroke="black"/>
+<line x1="494" y1="389" x2="494" y2="359" stroke="black"/>
+<line x1="493" y1="437" x2="494" y2="407" stroke="black"/>
+<line x1="642" y1="341" x2="608" y2="311" stroke="black"/>
+<line x1="560" y1="389" x2="642" y2="359" stroke="black"/>
+<line x1="559" y1="437" x2="560" y2="407" stroke="black"/>
+<line x1="598" y1="389" x2="642" y2="359" stroke="black"/>
+<line x1="680" y1="389" x2="642" y2="359" stroke="black"/>
+<line x1="642" y1="437" x2="680" y2="407" stroke="black"/>
+<line x1="641" y1="485" x2="642" y2="455" stroke="black"/>
+<line x1="680" y1="437" x2="680" y2="407" stroke="black"/>
+<line x1="719" y1="437" x2="680" y2="407" stroke="black"/>
+<line x1="718" y1="485" x2="719" y2="455" stroke="black"/>
+<line x1="1036" y1="245" x2="878" y2="215" stroke="black"/>
+<line x1="940" y1="293" x2="1036" y2="263" stroke="black"/>
+<line x1="940" y1="341" x2="940" y2="311" stroke="black"/>
+<line x1="820" y1="389" x2="940" y2="359" stroke="black"/>
+<line x1="978" y1="389" x2="940" y2="359" stroke="black"/>
+<line x1="929" y1="437" x2="978" y2="407" stroke="black"/>
+<line x1="930" y1="485" x2="929" y2="455" stroke="black"/>
+<line x1="930" y1="533" x2="930" y2="503" stroke="black"/>
+<line x1="1045" y1="437" x2="978" y2="407" stroke="black"/>
+<line x1="1204" y1="293" x2="1036" y2="263" stroke="black"/>
+<line x1="1151" y1="341" x2="1204" y2="311" stroke="black"/>
+<line x1="1152" y1="389" x2="1151" y2="359" stroke="black"/>
+<line x1="1152" y1="437" x2="1152" y2="407" stroke="black"/>
+<line x1="1151" y1="485" x2="1152" y2="455" stroke="black"/>
+<line x1="1242" y1="341" x2="1204" y2="311" stroke="black"/>
+<line x1="1369" y1="101" x2="713" y2="71" stroke="black"/>
+<rect x="687" y="5" width="53" height="18" fill="white" stroke="black"/><text x="689" y="18">Program</text>
+<rect x="687" y="53" width="53" height="18" fill="white" stroke="black"/><text x="689" y="66">DecList</text>
+<rect x="642" y="101" width="46" height="18" fill="white" stroke="black"/><text x="644" y="114">FunDec</text>
+<rect x="20" y="149" width="25" height="18" fill="white" stroke="black"/><text x="22" y="162">int</text>
+<rect x="55" y="149" width="32" height="18" fill="white" stroke="black"/><text x="57" y="162">main</text>
+<rect x="97" y="149" width="95" height="18" fill="white" stroke="black"/><text x="99" y="162">EmptyParaList</text>
+<rect x="726" y="149" width="60" height="18" fill="white" stroke="black"/><text x="728" y="162">CompStmt</text>
+<rect x="297" y="197" width="53" height="18" fill="white" stroke="black"/><text x="299" y="210">DecList</text>
+<rect x="245" y="245" width="60" height="18" fill="white" stroke="black"/><text x="247" y="258">L.VarDec</text>
+<rect x="217" y="293" width="25" height="18" fill="white" stroke="black"/><text x="219" y="306">int</text>
+<rect x="252" y="293" width="11" height="18" fill="white" stroke="black"/><text x="254" y="306">x</text>
+<rect x="273" y="293" width="60" height="18" fill="white" stroke="black"/><text x="275" y="306">EmptyExp</text>
+<rect x="348" y="245" width="88" height="18" fill="white" stroke="black"/><text x="350" y="258">EmptyDecList</text>
+<rect x="848" y="197" width="60" height="18" fill="white" stroke="black"/><text x="850" y="210">StmtList</text>
+<rect x="582" y="245" width="53" height="18" fill="white" stroke="black"/><text x="584" y="258">ExpStmt</text>
+<rect x="575" y="293" width="67" height="18" fill="white" stroke="black"/><text x="577" y="306">AssignExp</text>
+<rect x="471" y="341" width="46" height="18" fill="white" stroke="black"/><text x="473" y="354">VarExp</text>
+<rect x="471" y="389" width="46" height="18" fill="white" stroke="black"/><text x="473" y="402">SimVar</text>
+<rect x="488" y="437" width="11" height="18" fill="white" stroke="black"/><text x="490" y="450">x</text>
+<rect x="619" y="341" width="46" height="18" fill="white" stroke="black"/><text x="621" y="354">BinExp</text>
+<rect x="537" y="389" width="46" height="18" fill="white" stroke="black"/><text x="539" y="402">IntExp</text>
+<rect x="554" y="437" width="11" height="18" fill="white" stroke="black"/><text x="556" y="450">1</text>
+<rect x="593" y="389" width="11" height="18" fill="white" stroke="black"/><text x="595" y="402">+</text>
+<rect x="657" y="389" width="46" height="18" fill="white" stroke="black"/><text x="659" y="402">BinExp</text>
+<rect x="619" y="437" width="46" height="18" fill="white" stroke="black"/><text x="621" y="450">IntExp</text>
+<rect x="636" y="485" width="11" height="18" fill="white" stroke="black"/><text x="638" y="498">2</text>
+<rect x="675" y="437" width="11" height="18" fill="white" stroke="black"/><text x="677" y="450">*</text>
+<rect x="696" y="437" width="46" height="18" fill="white" stroke="black"/><text x="698" y="450">IntExp</text>
+<rect x="713" y="485" width="11" height="18" fill="white" stroke="black"/><text x="715" y="498">3</text>
+<rect x="1006" y="245" width="60" height="18" fill="white" stroke="black"/><text x="1008" y="258">StmtList</text>
+<rect x="914" y="293" width="53" height="18" fill="white" stroke="black"/><text x="916" y="306">ExpStmt</text>
+<rect x="914" y="341" width="53" height="18" fill="white" stroke="black"/><text x="916" y="354">CallExp</text>
+<rect x="787" y="389" width="67" height="18" fill="white" stroke="black"/><text x="789" y="402">putString</text>
+<rect x="952" y="389" width="53" height="18" fill="white" stroke="black"/><text x="954" y="402">ArgList</text>
+<rect x="917" y="437" width="25" height="18" fill="white" stroke="black"/><text x="919" y="450">Arg</text>
+<rect x="907" y="485" width="46" height="18" fill="white" stroke="black"/><text x="909" y="498">StrExp</text>
+<rect x="879" y="533" width="102" height="18" fill="white" stroke="black"/><text x="881" y="546">a &quot;b&quot; &lt;c&gt; &amp; d\u000a</text>
+<rect x="1001" y="437" width="88" height="18" fill="white" stroke="black"/><text x="1003" y="450">EmptyArgList</text>
+<rect x="1174" y="293" width="60" height="18" fill="white" stroke="black"/><text x="1176" y="306">StmtList</text>
+<rect x="1125" y="341" width="53" height="18" fill="white" stroke="black"/><text x="1127" y="354">RetStmt</text>
+<rect x="1129" y="389" width="46" height="18" fill="white" stroke="black"/><text x="1131" y="402">VarExp</text>
+<rect x="1129" y="437" width="46" height="18" fill="white" stroke="black"/><text x="1131" y="450">SimVar</text>
+<rect x="1146" y="485" width="11" height="18" fill="white" stroke="black"/><text x="1148" y="498">x</text>
+<rect x="1195" y="341" width="95" height="18" fill="white" stroke="black"/><text x="1197" y="354">EmptyStmtList</text>
+<rect x="1325" y="101" width="88" height="18" fill="white" stroke="black"/><text x="1327" y="114">EmptyDecList</text>
+</svg>
@@ -0,0 +1,59 @@
+.class public flush
+.super java/lang/Object
+	
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 0
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method flush(I)I
+L0:
+.var 0 is this Lflush; from L0 to L1
+.var 1 is x I from L0 to L1
+	iload_1
+	iconst_1
+	iadd
+	ireturn
+L1:
+	nop
+	
+	; set limits used by this method
+.limit locals 2
+.limit stack 2
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lflush; from L0 to L1
+	new flush
+	dup
+	invokenonvirtual flush/<init>()V
+	astore_1
+	aload_1
+	bipush 41
+	invokevirtual flush/flush(I)I
+	invokestatic VC/lang/System.putInt(I)V
+	invokestatic VC/lang/System/flushOutput()V
+	invokestatic VC/lang/System/putLn()V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 2
+.limit stack 2
+.end method
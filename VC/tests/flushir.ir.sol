@@ -0,0 +1,15 @@
+function flush (SSA)
+B0:
+	x.1 = param x
+	t1.1 = copy x.1
+	t2.1 = iadd t1.1, 1
+	return t2.1
+
+function main (SSA)
+B0:
+	t0.1 = call flush 41
+	call putInt t0.1
+	call flushOutput
+	call putLn
+	return
+
@@ -0,0 +1,57 @@
+.class public flushir
+.super java/lang/Object
+	
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 0
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method flush(I)I
+B0:
+	iload_1
+	istore_2
+	iload_2
+	istore_3
+	iload_3
+	iconst_1
+	iadd
+	istore 4
+	iload 4
+	ireturn
+.limit locals 5
+.limit stack 2
+.end method
+	
+.method public static main([Ljava/lang/String;)V
+	new flushir
+	dup
+	invokenonvirtual flushir/<init>()V
+	astore_1
+B0:
+	aload_1
+	bipush 41
+	invokevirtual flushir/flush(I)I
+	istore_2
+	iload_2
+	invokestatic VC/lang/System/putInt(I)V
+	invokestatic VC/lang/System/flushOutput()V
+	invokestatic VC/lang/System/putLn()V
+	return
+.limit locals 3
+.limit stack 2
+.end method
+	
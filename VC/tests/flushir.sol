@@ -0,0 +1,9 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+Pass 3: Code Generation
+
+[# vc #]: The SSA form printed to flushir.ir
+Compilation was successful.
+exit 0
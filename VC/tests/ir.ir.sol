@@ -0,0 +1,72 @@
+function gcd (SSA)
+B0:
+	a.1 = param a
+	b.1 = param b
+	goto -> B1
+B1:    ; preds B0 B2
+	a.2 = phi a.1, a.3
+	b.2 = phi b.1, b.3
+	t2.1 = copy b.2
+	t3.1 = i!= t2.1, 0
+	if t3.1 -> B2, B3
+B2:    ; preds B1
+	t.1 = copy 0
+	t5.1 = copy a.2
+	t6.1 = copy a.2
+	t7.1 = copy b.2
+	t8.1 = idiv t6.1, t7.1
+	t9.1 = copy b.2
+	t10.1 = imul t8.1, t9.1
+	t11.1 = isub t5.1, t10.1
+	t.2 = copy t11.1
+	t12.1 = copy b.2
+	a.3 = copy t12.1
+	t13.1 = copy t.2
+	b.3 = copy t13.1
+	goto -> B1
+B3:    ; preds B1
+	t14.1 = copy a.2
+	return t14.1
+
+function main (SSA)
+B0:
+	i.1 = copy 0
+	s.1 = copy 0
+	s.2 = copy 0
+	i.2 = copy 1
+	goto -> B1
+B1:    ; preds B0 B3
+	s.3 = phi s.2, s.6
+	i.3 = phi i.2, i.4
+	t2.1 = copy i.3
+	t3.1 = i<= t2.1, 10
+	if t3.1 -> B2, B4
+B2:    ; preds B1
+	t4.1 = copy i.3
+	t5.1 = i> t4.1, 5
+	if t5.1 -> B5, B6
+B3:    ; preds B7
+	t12.1 = copy i.3
+	t13.1 = iadd t12.1, 1
+	i.4 = copy t13.1
+	goto -> B1
+B4:    ; preds B1
+	t14.1 = copy s.3
+	call putIntLn t14.1
+	return
+B5:    ; preds B2
+	t6.1 = copy s.3
+	t7.1 = copy i.3
+	t8.1 = call gcd t7.1, 30
+	t9.1 = iadd t6.1, t8.1
+	s.5 = copy t9.1
+	goto -> B7
+B6:    ; preds B2
+	t10.1 = copy s.3
+	t11.1 = isub t10.1, 1
+	s.4 = copy t11.1
+	goto -> B7
+B7:    ; preds B5 B6
+	s.6 = phi s.5, s.4
+	goto -> B3
+
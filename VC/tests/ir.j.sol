@@ -0,0 +1,216 @@
+.class public ir
+.super java/lang/Object
+	
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 0
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method gcd(II)I
+B0:
+	iload_1
+	istore_3
+	iload_2
+	istore 4
+	iload 4
+	istore 23
+	iload_3
+	istore 24
+	iload 23
+	istore 5
+	iload 24
+	istore 6
+B1:
+	iload 5
+	istore 7
+	iload 7
+	iconst_0
+	if_icmpne L0
+	iconst_0
+	goto L1
+L0:
+	iconst_1
+L1:
+	istore 8
+	iload 8
+	ifeq B3
+B2:
+	iconst_0
+	istore 10
+	iload 6
+	istore 11
+	iload 6
+	istore 12
+	iload 5
+	istore 13
+	iload 12
+	iload 13
+	idiv
+	istore 14
+	iload 5
+	istore 15
+	iload 14
+	iload 15
+	imul
+	istore 16
+	iload 11
+	iload 16
+	isub
+	istore 17
+	iload 17
+	istore 18
+	iload 5
+	istore 19
+	iload 19
+	istore 20
+	iload 18
+	istore 21
+	iload 21
+	istore 22
+	iload 22
+	istore 25
+	iload 20
+	istore 26
+	iload 25
+	istore 5
+	iload 26
+	istore 6
+	goto B1
+B3:
+	iload 6
+	istore 9
+	iload 9
+	ireturn
+.limit locals 27
+.limit stack 2
+.end method
+	
+.method public static main([Ljava/lang/String;)V
+	new ir
+	dup
+	invokenonvirtual ir/<init>()V
+	astore_1
+B0:
+	iconst_0
+	istore_2
+	iconst_0
+	istore_3
+	iconst_0
+	istore 4
+	iconst_1
+	istore 5
+	iload 5
+	istore 25
+	iload 4
+	istore 26
+	iload 25
+	istore 6
+	iload 26
+	istore 7
+B1:
+	iload 6
+	istore 8
+	iload 8
+	bipush 10
+	if_icmple L0
+	iconst_0
+	goto L1
+L0:
+	iconst_1
+L1:
+	istore 9
+	iload 9
+	ifeq B4
+B2:
+	iload 6
+	istore 11
+	iload 11
+	iconst_5
+	if_icmpgt L2
+	iconst_0
+	goto L3
+L2:
+	iconst_1
+L3:
+	istore 12
+	iload 12
+	ifne B5
+	goto B6
+B3:
+	iload 6
+	istore 22
+	iload 22
+	iconst_1
+	iadd
+	istore 23
+	iload 23
+	istore 24
+	iload 24
+	istore 27
+	iload 21
+	istore 28
+	iload 27
+	istore 6
+	iload 28
+	istore 7
+	goto B1
+B4:
+	iload 7
+	istore 10
+	iload 10
+	invokestatic VC/lang/System/putIntLn(I)V
+	return
+B5:
+	iload 7
+	istore 16
+	iload 6
+	istore 17
+	aload_1
+	iload 17
+	bipush 30
+	invokevirtual ir/gcd(II)I
+	istore 18
+	iload 16
+	iload 18
+	iadd
+	istore 19
+	iload 19
+	istore 20
+	iload 20
+	istore 29
+	iload 29
+	istore 21
+	goto B7
+B6:
+	iload 7
+	istore 13
+	iload 13
+	iconst_1
+	isub
+	istore 14
+	iload 14
+	istore 15
+	iload 15
+	istore 30
+	iload 30
+	istore 21
+B7:
+	goto B3
+.limit locals 31
+.limit stack 3
+.end method
+	
@@ -0,0 +1,144 @@
+Program
+  DeclList
+    FuncDecl
+      int
+      main
+      EmptyParaList
+      CompoundStmt
+        DeclList
+          LocalVarDecl
+            boolean
+            b
+            =
+            BooleanExpr
+              true
+          DeclList
+            LocalVarDecl
+              boolean
+              c
+              =
+              BooleanExpr
+                false
+            DeclList
+              LocalVarDecl
+                int
+                x
+                =
+                IntExpr
+                  12
+              DeclList
+                LocalVarDecl
+                  int
+                  y
+                  =
+                  BinaryExpr
+                    IntExpr
+                      3
+                    +
+                    IntExpr
+                      4
+                DeclList
+                  LocalVarDecl
+                    float
+                    f
+                    =
+                    BinaryExpr
+                      BinaryExpr
+                        BinaryExpr
+                          BinaryExpr
+                            BinaryExpr
+                              FloatExpr
+                                1.5e3
+                              +
+                              FloatExpr
+                                .5
+                            +
+                            FloatExpr
+                              2.
+                          +
+                          FloatExpr
+                            1e5
+                        +
+                        FloatExpr
+                          3E+2
+                      +
+                      IntExpr
+                        12
+                  DeclList
+                    LocalVarDecl
+                      ArrayType
+                        boolean
+                        IntExpr
+                          2
+                      t
+                      =
+                      InitExpr
+                        ExprList
+                          BooleanExpr
+                            true
+                          ExprList
+                            BooleanExpr
+                              false
+                            EmptyExprList
+                    DeclList
+                      LocalVarDecl
+                        int
+                        trueish
+                      DeclList
+                        LocalVarDecl
+                          int
+                          false1
+                        EmptyDeclList
+        StmtList
+          ExprStmt
+            AssignExpr
+              VarExpr
+                SimpleVar
+                  x
+              IntExpr
+                1
+          StmtList
+            ExprStmt
+              AssignExpr
+                VarExpr
+                  SimpleVar
+                    trueish
+                IntExpr
+                  1
+            StmtList
+              ExprStmt
+                AssignExpr
+                  VarExpr
+                    SimpleVar
+                      false1
+                  BinaryExpr
+                    VarExpr
+                      SimpleVar
+                        trueish
+                    +
+                    VarExpr
+                      SimpleVar
+                        x
+              StmtList
+                ExprStmt
+                  AssignExpr
+                    VarExpr
+                      SimpleVar
+                        f
+                    BinaryExpr
+                      BinaryExpr
+                        IntExpr
+                          007
+                        +
+                        FloatExpr
+                          1.e2
+                      +
+                      FloatExpr
+                        12E-1
+                StmtList
+                  ReturnStmt
+                    VarExpr
+                      SimpleVar
+                        y
+                  EmptyStmtList
+    EmptyDeclList
@@ -0,0 +1,106 @@
+.class public loops
+.super java/lang/Object
+	
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 0
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method dot([F[FI)F
+L0:
+.var 0 is this Lloops; from L0 to L1
+.var 1 is x [F from L0 to L1
+.var 2 is y [F from L0 to L1
+.var 3 is n I from L0 to L1
+.var 4 is i I from L0 to L1
+.var 5 is s F from L0 to L1
+	fconst_0
+	fstore 5
+	iconst_0
+	istore 4
+	goto L5
+L2:
+	fload 5
+	aload_1
+	iload 4
+	faload
+	aload_2
+	iload 4
+	faload
+	fmul
+	fadd
+	fstore 5
+L3:
+	iinc 4 1
+L5:
+	iload 4
+	iload_3
+	if_icmplt L2
+L4:
+	fload 5
+	freturn
+L1:
+	nop
+	
+	; set limits used by this method
+.limit locals 6
+.limit stack 4
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lloops; from L0 to L1
+	new loops
+	dup
+	invokenonvirtual loops/<init>()V
+	astore_1
+.var 2 is x [F from L0 to L1
+	bipush 8
+	newarray float
+	astore_2
+.var 3 is i I from L0 to L1
+	iconst_0
+	istore_3
+	goto L2
+L4:
+L5:
+	aload_2
+	iload_3
+	iload_3
+	i2f
+	fastore
+	iinc 3 1
+L6:
+L2:
+	iload_3
+	bipush 8
+	if_icmplt L4
+L3:
+	aload_1
+	aload_2
+	aload_2
+	bipush 8
+	invokevirtual loops/dot([F[FI)F
+	invokestatic VC/lang/System/putFloatLn(F)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 4
+.limit stack 4
+.end method
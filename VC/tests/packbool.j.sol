@@ -0,0 +1,201 @@
+.class public packbool
+.super java/lang/Object
+	
+.field static seen [J
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	iconst_2
+	newarray long
+	putstatic packbool/seen [J
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 1
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lpackbool; from L0 to L1
+	new packbool
+	dup
+	invokenonvirtual packbool/<init>()V
+	astore_1
+.var 2 is sieve [J from L0 to L1
+	iconst_4
+	newarray long
+	astore_2
+.var 3 is i I from L0 to L1
+.var 4 is j I from L0 to L1
+.var 5 is n I from L0 to L1
+	iconst_0
+	istore 5
+	iconst_2
+	istore_3
+L2:
+	iload_3
+	sipush 200
+	if_icmpge L4
+	aload_2
+	iload_3
+	iconst_1
+	istore 7
+	istore 6
+	iload 6
+	bipush 6
+	ishr
+	dup2
+	laload
+	dup2
+	iload 7
+	i2l
+	iload 6
+	lshl
+	lxor
+	lconst_1
+	iload 6
+	lshl
+	land
+	lxor
+	lastore
+L3:
+	iinc 3 1
+	goto L2
+L4:
+	iconst_2
+	istore_3
+L6:
+	iload_3
+	sipush 200
+	if_icmpge L8
+	aload_2
+	iload_3
+	dup_x1
+	bipush 6
+	ishr
+	laload
+	dup2_x1
+	pop2
+	lushr
+	l2i
+	iconst_1
+	iand
+	ifeq L10
+L12:
+	iinc 5 1
+	iload_3
+	iload_3
+	iadd
+	istore 4
+L14:
+	iload 4
+	sipush 200
+	if_icmpge L16
+	aload_2
+	iload 4
+	iconst_0
+	istore 7
+	istore 6
+	iload 6
+	bipush 6
+	ishr
+	dup2
+	laload
+	dup2
+	iload 7
+	i2l
+	iload 6
+	lshl
+	lxor
+	lconst_1
+	iload 6
+	lshl
+	land
+	lxor
+	lastore
+L15:
+	iload 4
+	iload_3
+	iadd
+	istore 4
+	goto L14
+L16:
+L13:
+L10:
+L7:
+	iinc 3 1
+	goto L6
+L8:
+	getstatic packbool/seen [J
+	iload 5
+	getstatic packbool/seen [J
+	iload 5
+	dup_x1
+	bipush 6
+	ishr
+	laload
+	dup2_x1
+	pop2
+	lushr
+	l2i
+	iconst_1
+	iand
+	ifeq L18
+	iconst_0
+	goto L19
+L18:
+	iconst_1
+L19:
+	istore 7
+	istore 6
+	iload 6
+	bipush 6
+	ishr
+	dup2
+	laload
+	dup2
+	iload 7
+	i2l
+	iload 6
+	lshl
+	lxor
+	lconst_1
+	iload 6
+	lshl
+	land
+	lxor
+	lastore
+	iload 5
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic packbool/seen [J
+	iload 5
+	dup_x1
+	bipush 6
+	ishr
+	laload
+	dup2_x1
+	pop2
+	lushr
+	l2i
+	iconst_1
+	iand
+	invokestatic VC/lang/System/putBoolLn(Z)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 8
+.limit stack 9
+.end method
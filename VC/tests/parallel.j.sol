@@ -0,0 +1,208 @@
+.class public parallel
+.super java/lang/Object
+	
+.field static g I
+.field static parallel I
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	iconst_3
+	putstatic parallel/g I
+	iconst_0
+	putstatic parallel/parallel I
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 1
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method scale([II)V
+L0:
+.var 0 is this Lparallel; from L0 to L1
+.var 1 is a [I from L0 to L1
+.var 2 is n I from L0 to L1
+.var 3 is i I from L0 to L1
+	iconst_0
+	istore 4
+	iload_2
+	istore 5
+	aload_0
+	ldc "scale$loop$0"
+	iconst_1
+	anewarray java/lang/Object
+	dup
+	iconst_0
+	aload_1
+	aastore
+	iload 4
+	iload 5
+	invokestatic VC/lang/Parallel/forRange(Ljava/lang/Object;Ljava/lang/String;[Ljava/lang/Object;II)V
+	iload 4
+	iload 5
+	invokestatic java/lang/Math/max(II)I
+	istore_3
+	iload_3
+	invokestatic VC/lang/System/putIntLn(I)V
+L1:
+	
+	; return may not be present in a VC function returning void
+	; The following return inserted by the VC compiler
+	return
+	
+	; set limits used by this method
+.limit locals 6
+.limit stack 6
+.end method
+	
+	; the body of a parallel for loop in scale
+.method scale$loop$0(II[I)V
+L0:
+.var 0 is this Lparallel; from L0 to L1
+L2:
+	iload_1
+	iload_2
+	if_icmpge L1
+L4:
+.var 4 is t I from L4 to L5
+	iload_1
+	getstatic parallel/g I
+	imul
+	istore 4
+	iload 4
+	bipush 10
+	if_icmpgt L8
+	iconst_0
+	goto L9
+L8:
+	iconst_1
+L9:
+	ifeq L6
+	goto L3
+L6:
+	aload_3
+	iload_1
+	iload 4
+	iastore
+L5:
+L3:
+	iinc 1 1
+	goto L2
+L1:
+	return
+.limit locals 5
+.limit stack 3
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lparallel; from L0 to L1
+	new parallel
+	dup
+	invokenonvirtual parallel/<init>()V
+	astore_1
+.var 2 is a [I from L0 to L1
+	bipush 100
+	newarray int
+	astore_2
+.var 3 is i I from L0 to L1
+.var 4 is f [F from L0 to L1
+	bipush 10
+	newarray float
+	astore 4
+.var 5 is s F from L0 to L1
+	ldc 2.5
+	fstore 5
+	iconst_0
+	putstatic parallel/parallel I
+	aload_1
+	aload_2
+	bipush 100
+	invokevirtual parallel/scale([II)V
+	iconst_0
+	istore 6
+	bipush 10
+	istore 7
+	aload_1
+	ldc "main$loop$0"
+	iconst_2
+	anewarray java/lang/Object
+	dup
+	iconst_0
+	aload 4
+	aastore
+	dup
+	iconst_1
+	fload 5
+	invokestatic java/lang/Float/valueOf(F)Ljava/lang/Float;
+	aastore
+	iload 6
+	iload 7
+	invokestatic VC/lang/Parallel/forRange(Ljava/lang/Object;Ljava/lang/String;[Ljava/lang/Object;II)V
+	iload 6
+	iload 7
+	invokestatic java/lang/Math/max(II)I
+	istore_3
+	iconst_0
+	istore_3
+L2:
+	iload_3
+	bipush 10
+	if_icmpge L4
+	getstatic parallel/parallel I
+	aload_2
+	iload_3
+	iaload
+	iadd
+	putstatic parallel/parallel I
+L3:
+	iinc 3 1
+	goto L2
+L4:
+	aload 4
+	bipush 9
+	faload
+	invokestatic VC/lang/System/putFloatLn(F)V
+	getstatic parallel/parallel I
+	invokestatic VC/lang/System/putIntLn(I)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 8
+.limit stack 6
+.end method
+	
+	; the body of a parallel for loop in main
+.method main$loop$0(II[FF)V
+L0:
+.var 0 is this Lparallel; from L0 to L1
+L2:
+	iload_1
+	iload_2
+	if_icmpge L1
+	aload_3
+	iload_1
+	fload 4
+	iload_1
+	i2f
+	fmul
+	fastore
+L3:
+	iinc 1 1
+	goto L2
+L1:
+	return
+.limit locals 5
+.limit stack 4
+.end method
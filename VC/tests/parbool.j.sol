@@ -0,0 +1,125 @@
+.class public parbool
+.super java/lang/Object
+	
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 0
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method mark([Z)V
+L0:
+.var 0 is this Lparbool; from L0 to L1
+.var 1 is m [Z from L0 to L1
+.var 2 is i I from L0 to L1
+.var 3 is local [Z from L0 to L1
+	iconst_4
+	newarray boolean
+	astore_3
+	iconst_0
+	istore 4
+	iconst_4
+	istore 5
+	aload_0
+	ldc "mark$loop$0"
+	iconst_2
+	anewarray java/lang/Object
+	dup
+	iconst_0
+	aload_3
+	aastore
+	dup
+	iconst_1
+	aload_1
+	aastore
+	iload 4
+	iload 5
+	invokestatic VC/lang/Parallel/forRange(Ljava/lang/Object;Ljava/lang/String;[Ljava/lang/Object;II)V
+	iload 4
+	iload 5
+	invokestatic java/lang/Math/max(II)I
+	istore_2
+L1:
+	
+	; return may not be present in a VC function returning void
+	; The following return inserted by the VC compiler
+	return
+	
+	; set limits used by this method
+.limit locals 6
+.limit stack 6
+.end method
+	
+	; the body of a parallel for loop in mark
+.method mark$loop$0(II[Z[Z)V
+L0:
+.var 0 is this Lparbool; from L0 to L1
+L2:
+	iload_1
+	iload_2
+	if_icmpge L1
+L4:
+	aload_3
+	iload_1
+	iload_1
+	iconst_1
+	if_icmpgt L6
+	iconst_0
+	goto L7
+L6:
+	iconst_1
+L7:
+	bastore
+	aload 4
+	iload_1
+	iconst_1
+	bastore
+L5:
+L3:
+	iinc 1 1
+	goto L2
+L1:
+	return
+.limit locals 5
+.limit stack 4
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lparbool; from L0 to L1
+	new parbool
+	dup
+	invokenonvirtual parbool/<init>()V
+	astore_1
+.var 2 is m [Z from L0 to L1
+	iconst_4
+	newarray boolean
+	astore_2
+	aload_1
+	aload_2
+	invokevirtual parbool/mark([Z)V
+	aload_2
+	iconst_3
+	baload
+	invokestatic VC/lang/System/putBoolLn(Z)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 3
+.limit stack 2
+.end method
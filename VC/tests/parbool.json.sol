@@ -0,0 +1,4 @@
+{"errors": 2, "warnings": 0, "dropped": 0, "diagnostics": [
+  {"severity": "error", "code": "*37", "message": "*37: parallel for writes a boolean array packed by -packbool: local", "line": 7, "column": 3, "endLine": 10, "endColumn": 3},
+  {"severity": "error", "code": "*37", "message": "*37: parallel for writes a boolean array packed by -packbool: m", "line": 7, "column": 3, "endLine": 10, "endColumn": 3}
+]}
@@ -0,0 +1,23 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+Compilation was unsuccessful.
+[# vc #]: The errors and warnings written to parbool.json
+exit 0
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+[# vc #]: The checked AST saved to parbool.s
+Pass 3: Code Generation
+
+Compilation was successful.
+exit 0
+======= The VC compiler =======
+
+[# vc #]: The AST read from parbool.s
+ERROR: 7(3)..10(3): *37: parallel for writes a boolean array packed by -packbool: local
+ERROR: 7(3)..10(3): *37: parallel for writes a boolean array packed by -packbool: m
+Compilation was unsuccessful.
+exit 0
@@ -0,0 +1,8 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+ERROR: 6(12)..6(15): *36: parallel for writes an array that may be the same as another array it accesses: a and b
+ERROR: 12(5)..12(24): *33: parallel for assigns a variable declared outside its body: total
+Compilation was unsuccessful.
+exit 0
@@ -0,0 +1,189 @@
+Program
+  DeclList
+    FuncDecl
+      int
+      main
+      EmptyParaList
+      CompoundStmt
+        DeclList
+          LocalVarDecl
+            int
+            a
+          DeclList
+            LocalVarDecl
+              int
+              b
+            DeclList
+              LocalVarDecl
+                int
+                c
+              DeclList
+                LocalVarDecl
+                  boolean
+                  p
+                DeclList
+                  LocalVarDecl
+                    boolean
+                    q
+                  EmptyDeclList
+        StmtList
+          ExprStmt
+            AssignExpr
+              VarExpr
+                SimpleVar
+                  a
+              AssignExpr
+                VarExpr
+                  SimpleVar
+                    b
+                AssignExpr
+                  VarExpr
+                    SimpleVar
+                      c
+                  BinaryExpr
+                    BinaryExpr
+                      BinaryExpr
+                        IntExpr
+                          1
+                        +
+                        BinaryExpr
+                          IntExpr
+                            2
+                          *
+                          IntExpr
+                            3
+                      -
+                      BinaryExpr
+                        IntExpr
+                          4
+                        /
+                        IntExpr
+                          2
+                    -
+                    IntExpr
+                      1
+          StmtList
+            ExprStmt
+              AssignExpr
+                VarExpr
+                  SimpleVar
+                    p
+                BinaryExpr
+                  BinaryExpr
+                    BinaryExpr
+                      VarExpr
+                        SimpleVar
+                          a
+                      <
+                      VarExpr
+                        SimpleVar
+                          b
+                    ==
+                    BinaryExpr
+                      VarExpr
+                        SimpleVar
+                          b
+                      >=
+                      VarExpr
+                        SimpleVar
+                          c
+                  ||
+                  BinaryExpr
+                    UnaryExpr
+                      !
+                      VarExpr
+                        SimpleVar
+                          q
+                    &&
+                    BinaryExpr
+                      VarExpr
+                        SimpleVar
+                          a
+                      !=
+                      BinaryExpr
+                        UnaryExpr
+                          -
+                          VarExpr
+                            SimpleVar
+                              b
+                        +
+                        UnaryExpr
+                          +
+                          VarExpr
+                            SimpleVar
+                              c
+            StmtList
+              ExprStmt
+                AssignExpr
+                  VarExpr
+                    SimpleVar
+                      a
+                  BinaryExpr
+                    BinaryExpr
+                      BinaryExpr
+                        VarExpr
+                          SimpleVar
+                            a
+                        +
+                        VarExpr
+                          SimpleVar
+                            b
+                      *
+                      BinaryExpr
+                        VarExpr
+                          SimpleVar
+                            c
+                        -
+                        UnaryExpr
+                          -
+                          VarExpr
+                            SimpleVar
+                              a
+                    /
+                    IntExpr
+                      2
+              StmtList
+                ExprStmt
+                  AssignExpr
+                    VarExpr
+                      SimpleVar
+                        p
+                    AssignExpr
+                      VarExpr
+                        SimpleVar
+                          q
+                      BinaryExpr
+                        BinaryExpr
+                          VarExpr
+                            SimpleVar
+                              a
+                          +
+                          BinaryExpr
+                            VarExpr
+                              SimpleVar
+                                b
+                            *
+                            VarExpr
+                              SimpleVar
+                                c
+                        <=
+                        BinaryExpr
+                          BinaryExpr
+                            VarExpr
+                              SimpleVar
+                                a
+                            *
+                            VarExpr
+                              SimpleVar
+                                b
+                          +
+                          VarExpr
+                            SimpleVar
+                              c
+                StmtList
+                  ReturnStmt
+                    VarExpr
+                      SimpleVar
+                        a
+                  EmptyStmtList
+    EmptyDeclList
@@ -0,0 +1,9 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+[# vc #]: The linearised AST printed to precedence.ast
+Pass 2: Semantic Analysis
+Pass 3: Code Generation
+
+Compilation was successful.
+exit 0
@@ -0,0 +1,187 @@
+Program
+  DeclList
+    GloablVarDecl
+      ArrayType
+        int
+        IntExpr
+          3
+      a
+      =
+      InitExpr
+        ExprList
+          IntExpr
+            1
+          ExprList
+            UnaryExpr
+              -
+              IntExpr
+                2
+            ExprList
+              IntExpr
+                3
+              EmptyExprList
+    DeclList
+      GloablVarDecl
+        boolean
+        flag
+        =
+        BooleanExpr
+          true
+      DeclList
+        FuncDecl
+          void
+          say
+          ParaList
+            ParaDecl
+              float
+              f
+            ParaList
+              ParaDecl
+                boolean
+                b
+              EmptyParaList
+          CompoundStmt
+            EmptyDeclList
+            StmtList
+              ExprStmt
+                CallExpr
+                  putString
+                  ArgList
+                    Arg
+                      StringExpr
+                        tab	here "quoted" back\slash
+
+                    EmptyArgList
+              StmtList
+                IfStmt
+                  BinaryExpr
+                    BinaryExpr
+                      VarExpr
+                        SimpleVar
+                          b
+                      &&
+                      BinaryExpr
+                        VarExpr
+                          SimpleVar
+                            f
+                        >=
+                        FloatExpr
+                          1.5e2
+                    ||
+                    UnaryExpr
+                      !
+                      VarExpr
+                        SimpleVar
+                          b
+                  ExprStmt
+                    CallExpr
+                      putFloatLn
+                      ArgList
+                        Arg
+                          VarExpr
+                            SimpleVar
+                              f
+                        EmptyArgList
+                  CompoundStmt
+                    EmptyDeclList
+                    StmtList
+                      WhileStmt
+                        BinaryExpr
+                          VarExpr
+                            SimpleVar
+                              f
+                          <
+                          FloatExpr
+                            10.0
+                        ExprStmt
+                          AssignExpr
+                            VarExpr
+                              SimpleVar
+                                f
+                            BinaryExpr
+                              VarExpr
+                                SimpleVar
+                                  f
+                              *
+                              FloatExpr
+                                2.
+                      EmptyStmtList
+                EmptyStmtList
+        DeclList
+          FuncDecl
+            int
+            main
+            EmptyParaList
+            CompoundStmt
+              DeclList
+                LocalVarDecl
+                  int
+                  i
+                EmptyDeclList
+              StmtList
+                ForStmt
+                  EmptyExpr
+                  EmptyExpr
+                  EmptyExpr
+                  CompoundStmt
+                    EmptyDeclList
+                    StmtList
+                      ExprStmt
+                        AssignExpr
+                          VarExpr
+                            SimpleVar
+                              i
+                          AssignExpr
+                            ArrayExpr
+                              SimpleVar
+                                a
+                              IntExpr
+                                0
+                            BinaryExpr
+                              UnaryExpr
+                                +
+                                ArrayExpr
+                                  SimpleVar
+                                    a
+                                  IntExpr
+                                    1
+                              -
+                              BinaryExpr
+                                UnaryExpr
+                                  -
+                                  ArrayExpr
+                                    SimpleVar
+                                      a
+                                    IntExpr
+                                      2
+                                /
+                                IntExpr
+                                  2
+                      StmtList
+                        BreakStmt
+                        EmptyStmtList
+                StmtList
+                  ExprStmt
+                    CallExpr
+                      say
+                      ArgList
+                        Arg
+                          FloatExpr
+                            .5
+                        ArgList
+                          Arg
+                            BinaryExpr
+                              VarExpr
+                                SimpleVar
+                                  flag
+                              !=
+                              BooleanExpr
+                                false
+                          EmptyArgList
+                  StmtList
+                    ReturnStmt
+                      VarExpr
+                        SimpleVar
+                          i
+                    EmptyStmtList
+          EmptyDeclList
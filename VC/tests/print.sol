@@ -0,0 +1,10 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+[# vc #]: The unparsed VC program printed to print.u
+[# vc #]: The linearised AST printed to print.ast
+Pass 2: Semantic Analysis
+Pass 3: Code Generation
+
+Compilation was successful.
+exit 0
@@ -0,0 +1,24 @@
+int a[3] = {1,-2,3};
+boolean flag = true;
+void say(float f, boolean b)
+{
+  putString("tab\there \"quoted\" back\\slash\n");
+  if (((b&&(f>=1.5e2))||!b))
+    putFloatLn(f);
+  else
+  {
+    while ((f<10.0))
+      (f=(f*2.));
+  }
+}
+int main()
+{
+  int i;
+  for (;;)
+  {
+    (i=(a[0]=(+a[1]-(-a[2]/2))));
+    break;
+  }
+  say(.5, (flag!=false));
+  return i;
+}
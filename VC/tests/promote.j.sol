@@ -0,0 +1,117 @@
+.class public promote
+.super java/lang/Object
+	
+.field static total I
+.field static scale F
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	iconst_0
+	putstatic promote/total I
+	fconst_2
+	putstatic promote/scale F
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 1
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method count(I)I
+L0:
+.var 0 is this Lpromote; from L0 to L1
+.var 1 is n I from L0 to L1
+	getstatic promote/total I
+	istore_2
+.var 3 is i I from L0 to L1
+	iconst_0
+	istore_3
+	goto L5
+L2:
+	iload_2
+	iload_3
+	iadd
+	istore_2
+L3:
+	iinc 3 1
+L5:
+	iload_3
+	iload_1
+	if_icmplt L2
+L4:
+	iload_2
+	iload_2
+	putstatic promote/total I
+	ireturn
+L1:
+	nop
+	
+	; set limits used by this method
+.limit locals 4
+.limit stack 2
+.end method
+.method report()V
+L0:
+.var 0 is this Lpromote; from L0 to L1
+	getstatic promote/total I
+	invokestatic VC/lang/System/putIntLn(I)V
+L1:
+	
+	; return may not be present in a VC function returning void
+	; The following return inserted by the VC compiler
+	return
+	
+	; set limits used by this method
+.limit locals 1
+.limit stack 1
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lpromote; from L0 to L1
+	new promote
+	dup
+	invokenonvirtual promote/<init>()V
+	astore_1
+.var 2 is i I from L0 to L1
+	iconst_0
+	istore_2
+	goto L5
+L2:
+L6:
+	aload_1
+	iconst_4
+	invokevirtual promote/count(I)I
+	pop
+	aload_1
+	invokevirtual promote/report()V
+L7:
+L3:
+	iinc 2 1
+L5:
+	iload_2
+	iconst_3
+	if_icmplt L2
+L4:
+	getstatic promote/scale F
+	getstatic promote/total I
+	i2f
+	fmul
+	invokestatic VC/lang/System/putFloatLn(F)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 3
+.limit stack 2
+.end method
@@ -0,0 +1,167 @@
+.class public range
+.super java/lang/Object
+	
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 0
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method sum([II)I
+L0:
+.var 0 is this Lrange; from L0 to L1
+.var 1 is a [I from L0 to L1
+.var 2 is n I from L0 to L1
+.var 3 is i I from L0 to L1
+.var 4 is s I from L0 to L1
+	iconst_0
+	istore 4
+	iconst_0
+	istore_3
+	goto L5
+L2:
+	iload 4
+	aload_1
+	iload_3
+	iaload
+	iadd
+	istore 4
+L3:
+	iinc 3 1
+L5:
+	iload_3
+	iload_2
+	if_icmplt L2
+L4:
+	iload 4
+	ireturn
+L1:
+	nop
+	
+	; set limits used by this method
+.limit locals 5
+.limit stack 3
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lrange; from L0 to L1
+	new range
+	dup
+	invokenonvirtual range/<init>()V
+	astore_1
+.var 2 is a [I from L0 to L1
+	bipush 10
+	newarray int
+	astore_2
+.var 3 is i I from L0 to L1
+.var 4 is j I from L0 to L1
+	iconst_0
+	istore_3
+	goto L5
+L2:
+L6:
+	aload_2
+	iload_3
+	iload_3
+	iastore
+	aload_2
+	iload_3
+	iload_3
+	isub
+	iconst_0
+	iastore
+	aload_2
+	bipush 9
+	iload_3
+	isub
+	aload_2
+	iload_3
+	iaload
+	iastore
+	iconst_0
+	istore 4
+	goto L11
+L8:
+	aload_2
+	iload_3
+	iload 4
+	iadd
+	iload 4
+	iastore
+L9:
+	iinc 4 2
+L11:
+	iload 4
+	iconst_2
+	if_icmple L8
+L10:
+	iload_3
+	iconst_5
+	if_icmpgt L14
+	iconst_0
+	goto L15
+L14:
+	iconst_1
+L15:
+	ifeq L12
+	aload_2
+	iload_3
+	iconst_1
+	iadd
+	iconst_1
+	iastore
+L12:
+L7:
+L3:
+	iinc 3 1
+L5:
+	iload_3
+	bipush 10
+	if_icmplt L2
+L4:
+	iconst_1
+	istore_3
+	goto L19
+L16:
+	aload_2
+	iload_3
+	aload_2
+	iload_3
+	iconst_1
+	isub
+	iaload
+	iastore
+L17:
+	iinc 3 3
+L19:
+	iload_3
+	bipush 10
+	if_icmple L16
+L18:
+	aload_1
+	aload_2
+	bipush 10
+	invokevirtual range/sum([II)I
+	invokestatic VC/lang/System/putIntLn(I)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 5
+.limit stack 5
+.end method
@@ -0,0 +1,13 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+Pass 2a: Optimisation
+[# vc #]: Dead code elimination removed 0 statement(s), 0 constant branch(es) and 0 variable(s)
+WARNING: 19(7)..19(14): array index out of bounds: a[0..11] with size 10
+WARNING: 24(5)..24(8): array index out of bounds: a[1..10] with size 10
+[# vc #]: Range analysis proved 4 of 8 array access(es) in loops in bounds and 2 out of bounds
+Pass 3: Code Generation
+
+Compilation was successful.
+exit 0
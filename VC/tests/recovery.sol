@@ -0,0 +1,18 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+ERROR: 2(9)..2(9): illegal primary expression
+ERROR: 5(14)..5(14): illegal primary expression
+ERROR: 6(11)..6(11): illegal primary expression
+ERROR: 7(16)..7(16): ")" expected here
+ERROR: 10(11)..10(11): illegal primary expression
+ERROR: 11(19)..11(19): illegal primary expression
+ERROR: 13(1)..13(1): ";" expected here
+ERROR: 14(1)..14(1): "x" wrong result type for a function
+ERROR: 17(7)..17(7): illegal primary expression
+ERROR: 20(1)..20(1): "}" expected here
+Pass 2: Semantic Analysis
+ERROR: 6(22)..6(22): *5: identifier undeclared: y
+ERROR: 15(26)..15(26): *5: identifier undeclared: z
+Compilation was unsuccessful.
+exit 0
@@ -0,0 +1,171 @@
+Program
+  DeclList
+    FuncDecl
+      int
+      fib
+      ParaList
+        ParaDecl
+          int
+          n
+        EmptyParaList
+      CompoundStmt
+        EmptyDeclList
+        StmtList
+          IfStmt
+            BinaryExpr
+              VarExpr
+                SimpleVar
+                  n
+              i<
+              IntExpr
+                2
+            ReturnStmt
+              VarExpr
+                SimpleVar
+                  n
+            EmptyStmt
+          StmtList
+            ReturnStmt
+              BinaryExpr
+                CallExpr
+                  fib
+                  ArgList
+                    Arg
+                      BinaryExpr
+                        VarExpr
+                          SimpleVar
+                            n
+                        i-
+                        IntExpr
+                          1
+                    EmptyArgList
+                i+
+                CallExpr
+                  fib
+                  ArgList
+                    Arg
+                      BinaryExpr
+                        VarExpr
+                          SimpleVar
+                            n
+                        i-
+                        IntExpr
+                          2
+                    EmptyArgList
+            EmptyStmtList
+    DeclList
+      GloablVarDecl
+        ArrayType
+          float
+          IntExpr
+            2
+        half
+        =
+        InitExpr
+          ExprList
+            FloatExpr
+              0.5
+            ExprList
+              UnaryExpr
+                f-
+                FloatExpr
+                  0.5
+              EmptyExprList
+      DeclList
+        FuncDecl
+          int
+          main
+          EmptyParaList
+          CompoundStmt
+            DeclList
+              LocalVarDecl
+                int
+                i
+              EmptyDeclList
+            StmtList
+              ForStmt
+                AssignExpr
+                  VarExpr
+                    SimpleVar
+                      i
+                  IntExpr
+                    0
+                BinaryExpr
+                  VarExpr
+                    SimpleVar
+                      i
+                  i<
+                  IntExpr
+                    10
+                AssignExpr
+                  VarExpr
+                    SimpleVar
+                      i
+                  BinaryExpr
+                    VarExpr
+                      SimpleVar
+                        i
+                    i+
+                    IntExpr
+                      1
+                ExprStmt
+                  CallExpr
+                    putString
+                    ArgList
+                      Arg
+                        StringExpr
+                          fib 
+                      EmptyArgList
+              StmtList
+                ExprStmt
+                  CallExpr
+                    putIntLn
+                    ArgList
+                      Arg
+                        CallExpr
+                          fib
+                          ArgList
+                            Arg
+                              IntExpr
+                                10
+                            EmptyArgList
+                      EmptyArgList
+                StmtList
+                  ExprStmt
+                    CallExpr
+                      putFloatLn
+                      ArgList
+                        Arg
+                          BinaryExpr
+                            ArrayExpr
+                              SimpleVar
+                                half
+                              IntExpr
+                                1
+                            f*
+                            UnaryExpr
+                              i2f
+                              IntExpr
+                                3
+                        EmptyArgList
+                  StmtList
+                    ExprStmt
+                      CallExpr
+                        putBoolLn
+                        ArgList
+                          Arg
+                            UnaryExpr
+                              i!
+                              BinaryExpr
+                                IntExpr
+                                  1
+                                i>
+                                IntExpr
+                                  2
+                          EmptyArgList
+                    StmtList
+                      ReturnStmt
+                        IntExpr
+                          0
+                      EmptyStmtList
+        EmptyDeclList
@@ -0,0 +1,125 @@
+.class public roundtrip
+.super java/lang/Object
+	
+.field static half [F
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	iconst_2
+	newarray float
+	dup
+	iconst_0
+	ldc 0.5
+	fastore
+	dup
+	iconst_1
+	ldc 0.5
+	fneg
+	fastore
+	putstatic roundtrip/half [F
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 4
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method fib(I)I
+L0:
+.var 0 is this Lroundtrip; from L0 to L1
+.var 1 is n I from L0 to L1
+	iload_1
+	iconst_2
+	if_icmplt L4
+	iconst_0
+	goto L5
+L4:
+	iconst_1
+L5:
+	ifeq L2
+	iload_1
+	ireturn
+L2:
+	aload_0
+	iload_1
+	iconst_1
+	isub
+	invokevirtual roundtrip/fib(I)I
+	aload_0
+	iload_1
+	iconst_2
+	isub
+	invokevirtual roundtrip/fib(I)I
+	iadd
+	ireturn
+L1:
+	nop
+	
+	; set limits used by this method
+.limit locals 2
+.limit stack 4
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lroundtrip; from L0 to L1
+	new roundtrip
+	dup
+	invokenonvirtual roundtrip/<init>()V
+	astore_1
+.var 2 is i I from L0 to L1
+	iconst_0
+	istore_2
+L2:
+	iload_2
+	bipush 10
+	if_icmpge L4
+	ldc "fib "
+	invokestatic VC/lang/System/putString(Ljava/lang/String;)V
+L3:
+	iinc 2 1
+	goto L2
+L4:
+	aload_1
+	bipush 10
+	invokevirtual roundtrip/fib(I)I
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic roundtrip/half [F
+	iconst_1
+	faload
+	iconst_3
+	i2f
+	fmul
+	invokestatic VC/lang/System/putFloatLn(F)V
+	iconst_1
+	iconst_2
+	if_icmpgt L8
+	iconst_0
+	goto L9
+L8:
+	iconst_1
+L9:
+	ifeq L6
+	iconst_0
+	goto L7
+L6:
+	iconst_1
+L7:
+	invokestatic VC/lang/System/putBoolLn(Z)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 3
+.limit stack 2
+.end method
@@ -0,0 +1,17 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+[# vc #]: The checked AST saved to roundtrip.s
+Pass 3: Code Generation
+
+Compilation was successful.
+exit 0
+======= The VC compiler =======
+
+[# vc #]: The AST read from roundtrip.s
+[# vc #]: The linearised AST printed to roundtrip.ast
+Pass 3: Code Generation
+
+Compilation was successful.
+exit 0
@@ -0,0 +1,30 @@
+#!/bin/sh
+# Compiles each test program once for each of its "// vc:" lines, with
+# the arguments on the line (or once with no options if it has none).
+# The output and exit status of the runs are compared with b.sol, and
+# every file b.x that has a solution b.x.sol with it. Run it in this
+# directory with the compiled classes on the CLASSPATH.
+failed=0
+for i in *.vc
+do
+	echo $i:
+	b=`basename "$i" .vc`
+	for s in $b.*.sol
+	do
+		[ -f "$s" ] && rm -f `basename "$s" .sol`
+	done
+	args=`sed -n 's|^// vc: *||p' "$i"`
+	[ -n "$args" ] || args=$i
+	echo "$args" | while read a
+	do
+		java VC.vc $a
+		echo "exit $?"
+	done > $b.output
+	diff $b.output $b.sol || failed=1
+	for s in $b.*.sol
+	do
+		[ -f "$s" ] || continue
+		diff `basename "$s" .sol` $s || failed=1
+	done
+done
+exit $failed
@@ -0,0 +1,6101 @@
+.class public split
+.super java/lang/Object
+	
+.field static main$s I
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 0
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lsplit; from L0 to L1
+	new split
+	dup
+	invokenonvirtual split/<init>()V
+	astore_1
+	aload_1
+	invokevirtual split/main$0()V
+	aload_1
+	invokevirtual split/main$1()V
+	aload_1
+	invokevirtual split/main$2()V
+	aload_1
+	invokevirtual split/main$3()V
+	aload_1
+	invokevirtual split/main$4()V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 3
+.limit stack 2
+.end method
+	
+	; statements outlined from main
+.method main$0()V
+L0:
+.var 0 is this Lsplit; from L0 to L1
+	iconst_1
+	putstatic split/main$s I
+	getstatic split/main$s I
+	bipush 100
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 101
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 102
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 103
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 104
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 105
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 106
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 107
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 108
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 109
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 110
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 111
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 112
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 113
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 114
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 115
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 116
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 117
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 118
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 119
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 120
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 121
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 122
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 123
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 124
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 125
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 126
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	bipush 127
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 128
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 129
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 130
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 131
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 132
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 133
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 134
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 135
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 136
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 137
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 138
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 139
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 140
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 141
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 142
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 143
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 144
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 145
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 146
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 147
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 148
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 149
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 150
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 151
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 152
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 153
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 154
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 155
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 156
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 157
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 158
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 159
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 160
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 161
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 162
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 163
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 164
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 165
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 166
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 167
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 168
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 169
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 170
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 171
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 172
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 173
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 174
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 175
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 176
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 177
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 178
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 179
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 180
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 181
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 182
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 183
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 184
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 185
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 186
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 187
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 188
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 189
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 190
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 191
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 192
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 193
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 194
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 195
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 196
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 197
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 198
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 199
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 200
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 201
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 202
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 203
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 204
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 205
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 206
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 207
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 208
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 209
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 210
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 211
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 212
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 213
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 214
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 215
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 216
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 217
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 218
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 219
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 220
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 221
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 222
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 223
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 224
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 225
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 226
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 227
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 228
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 229
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 230
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 231
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 232
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 233
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 234
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 235
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 236
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 237
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 238
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 239
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 240
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 241
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 242
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 243
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 244
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 245
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 246
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 247
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 248
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 249
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 250
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 251
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 252
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 253
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 254
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 255
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 256
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 257
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 258
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 259
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 260
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 261
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 262
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 263
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 264
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 265
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 266
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 267
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 268
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 269
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 270
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 271
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 272
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 273
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 274
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 275
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 276
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 277
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 278
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 279
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 280
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 281
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 282
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 283
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 284
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 285
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 286
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 287
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 288
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 289
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 290
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 291
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 292
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 293
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 294
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 295
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 296
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 297
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 298
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 299
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 300
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 301
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+L1:
+	return
+.limit locals 1
+.limit stack 2
+.end method
+	
+	; statements outlined from main
+.method main$1()V
+L0:
+.var 0 is this Lsplit; from L0 to L1
+	getstatic split/main$s I
+	sipush 302
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 303
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 304
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 305
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 306
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 307
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 308
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 309
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 310
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 311
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 312
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 313
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 314
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 315
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 316
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 317
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 318
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 319
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 320
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 321
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 322
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 323
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 324
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 325
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 326
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 327
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 328
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 329
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 330
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 331
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 332
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 333
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 334
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 335
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 336
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 337
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 338
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 339
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 340
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 341
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 342
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 343
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 344
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 345
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 346
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 347
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 348
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 349
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 350
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 351
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 352
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 353
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 354
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 355
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 356
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 357
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 358
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 359
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 360
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 361
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 362
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 363
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 364
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 365
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 366
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 367
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 368
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 369
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 370
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 371
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 372
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 373
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 374
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 375
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 376
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 377
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 378
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 379
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 380
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 381
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 382
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 383
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 384
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 385
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 386
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 387
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 388
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 389
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 390
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 391
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 392
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 393
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 394
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 395
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 396
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 397
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 398
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 399
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 400
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 401
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 402
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 403
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 404
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 405
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 406
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 407
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 408
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 409
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 410
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 411
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 412
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 413
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 414
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 415
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 416
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 417
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 418
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 419
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 420
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 421
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 422
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 423
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 424
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 425
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 426
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 427
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 428
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 429
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 430
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 431
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 432
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 433
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 434
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 435
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 436
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 437
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 438
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 439
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 440
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 441
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 442
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 443
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 444
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 445
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 446
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 447
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 448
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 449
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 450
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 451
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 452
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 453
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 454
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 455
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 456
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 457
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 458
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 459
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 460
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 461
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 462
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 463
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 464
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 465
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 466
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 467
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 468
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 469
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 470
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 471
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 472
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 473
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 474
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 475
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 476
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 477
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 478
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 479
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 480
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 481
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 482
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 483
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 484
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 485
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 486
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 487
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 488
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 489
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 490
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 491
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 492
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 493
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 494
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 495
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 496
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 497
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 498
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 499
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 500
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 501
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+L1:
+	return
+.limit locals 1
+.limit stack 2
+.end method
+	
+	; statements outlined from main
+.method main$2()V
+L0:
+.var 0 is this Lsplit; from L0 to L1
+	getstatic split/main$s I
+	sipush 502
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 503
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 504
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 505
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 506
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 507
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 508
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 509
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 510
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 511
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 512
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 513
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 514
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 515
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 516
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 517
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 518
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 519
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 520
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 521
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 522
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 523
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 524
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 525
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 526
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 527
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 528
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 529
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 530
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 531
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 532
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 533
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 534
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 535
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 536
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 537
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 538
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 539
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 540
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 541
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 542
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 543
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 544
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 545
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 546
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 547
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 548
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 549
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 550
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 551
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 552
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 553
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 554
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 555
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 556
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 557
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 558
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 559
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 560
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 561
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 562
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 563
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 564
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 565
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 566
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 567
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 568
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 569
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 570
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 571
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 572
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 573
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 574
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 575
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 576
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 577
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 578
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 579
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 580
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 581
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 582
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 583
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 584
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 585
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 586
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 587
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 588
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 589
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 590
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 591
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 592
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 593
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 594
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 595
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 596
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 597
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 598
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 599
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 600
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 601
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 602
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 603
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 604
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 605
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 606
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 607
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 608
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 609
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 610
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 611
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 612
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 613
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 614
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 615
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 616
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 617
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 618
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 619
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 620
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 621
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 622
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 623
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 624
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 625
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 626
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 627
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 628
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 629
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 630
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 631
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 632
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 633
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 634
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 635
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 636
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 637
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 638
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 639
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 640
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 641
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 642
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 643
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 644
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 645
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 646
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 647
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 648
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 649
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 650
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 651
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 652
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 653
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 654
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 655
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 656
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 657
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 658
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 659
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 660
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 661
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 662
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 663
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 664
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 665
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 666
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 667
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 668
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 669
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 670
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 671
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 672
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 673
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 674
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 675
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 676
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 677
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 678
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 679
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 680
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 681
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 682
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 683
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 684
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 685
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 686
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 687
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 688
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 689
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 690
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 691
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 692
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 693
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 694
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 695
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 696
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 697
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 698
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 699
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 700
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 701
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+L1:
+	return
+.limit locals 1
+.limit stack 2
+.end method
+	
+	; statements outlined from main
+.method main$3()V
+L0:
+.var 0 is this Lsplit; from L0 to L1
+	getstatic split/main$s I
+	sipush 702
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 703
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 704
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 705
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 706
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 707
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 708
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 709
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 710
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 711
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 712
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 713
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 714
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 715
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 716
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 717
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 718
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 719
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 720
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 721
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 722
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 723
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 724
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 725
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 726
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 727
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 728
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 729
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 730
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 731
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 732
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 733
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 734
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 735
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 736
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 737
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 738
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 739
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 740
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 741
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 742
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 743
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 744
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 745
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 746
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 747
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 748
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 749
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 750
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 751
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 752
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 753
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 754
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 755
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 756
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 757
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 758
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 759
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 760
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 761
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 762
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 763
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 764
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 765
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 766
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 767
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 768
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 769
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 770
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 771
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 772
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 773
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 774
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 775
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 776
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 777
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 778
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 779
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 780
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 781
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 782
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 783
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 784
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 785
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 786
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 787
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 788
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 789
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 790
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 791
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 792
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 793
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 794
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 795
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 796
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 797
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 798
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 799
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 800
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 801
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 802
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 803
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 804
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 805
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 806
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 807
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 808
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 809
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 810
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 811
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 812
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 813
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 814
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 815
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 816
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 817
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 818
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 819
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 820
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 821
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 822
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 823
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 824
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 825
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 826
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 827
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 828
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 829
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 830
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 831
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 832
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 833
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 834
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 835
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 836
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 837
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 838
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 839
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 840
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 841
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 842
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 843
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 844
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 845
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 846
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 847
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 848
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 849
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 850
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 851
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 852
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 853
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 854
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 855
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 856
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 857
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 858
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 859
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 860
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 861
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 862
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 863
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 864
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 865
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 866
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 867
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 868
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 869
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 870
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 871
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 872
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 873
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 874
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 875
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 876
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 877
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 878
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 879
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 880
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 881
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 882
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 883
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 884
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 885
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 886
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 887
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 888
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 889
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 890
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 891
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 892
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 893
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 894
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 895
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 896
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 897
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 898
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 899
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 900
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 901
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+L1:
+	return
+.limit locals 1
+.limit stack 2
+.end method
+	
+	; statements outlined from main
+.method main$4()V
+L0:
+.var 0 is this Lsplit; from L0 to L1
+	getstatic split/main$s I
+	sipush 902
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 903
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 904
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 905
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 906
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 907
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 908
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 909
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 910
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 911
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 912
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 913
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 914
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 915
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 916
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 917
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 918
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 919
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 920
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 921
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 922
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 923
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 924
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 925
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 926
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 927
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 928
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 929
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 930
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 931
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 932
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 933
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 934
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 935
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 936
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 937
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 938
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 939
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 940
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 941
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 942
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 943
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 944
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 945
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 946
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 947
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 948
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 949
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 950
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 951
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 952
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 953
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 954
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 955
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 956
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 957
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 958
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 959
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 960
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 961
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 962
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 963
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 964
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 965
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 966
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 967
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 968
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 969
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 970
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 971
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 972
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 973
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 974
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 975
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 976
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 977
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 978
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 979
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 980
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 981
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 982
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 983
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 984
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 985
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 986
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 987
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 988
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 989
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 990
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 991
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 992
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 993
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 994
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 995
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 996
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 997
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 998
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 999
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1000
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1001
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1002
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1003
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1004
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1005
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1006
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1007
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1008
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1009
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1010
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1011
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1012
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1013
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1014
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1015
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1016
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1017
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1018
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1019
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1020
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1021
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1022
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1023
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1024
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1025
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1026
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1027
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1028
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1029
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1030
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1031
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1032
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1033
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1034
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1035
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1036
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1037
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1038
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1039
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1040
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1041
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1042
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1043
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1044
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1045
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1046
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1047
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1048
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1049
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1050
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1051
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1052
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1053
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1054
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1055
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1056
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1057
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1058
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1059
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1060
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1061
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1062
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1063
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1064
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1065
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1066
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1067
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1068
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1069
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1070
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1071
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1072
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1073
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1074
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1075
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1076
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1077
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1078
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1079
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1080
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1081
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1082
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1083
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1084
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1085
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1086
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1087
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1088
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1089
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1090
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1091
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1092
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1093
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1094
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1095
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1096
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1097
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1098
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+	getstatic split/main$s I
+	sipush 1099
+	imul
+	getstatic split/main$s I
+	iadd
+	invokestatic VC/lang/System/putIntLn(I)V
+L1:
+	return
+.limit locals 1
+.limit stack 2
+.end method
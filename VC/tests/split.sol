@@ -0,0 +1,8 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+Pass 3: Code Generation
+
+Compilation was successful.
+exit 0
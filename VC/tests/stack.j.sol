@@ -0,0 +1,201 @@
+.class public stack
+.super java/lang/Object
+	
+.field static g [F
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	iconst_3
+	newarray float
+	dup
+	iconst_0
+	fconst_1
+	fastore
+	dup
+	iconst_1
+	fconst_2
+	fastore
+	dup
+	iconst_2
+	ldc 3.0
+	fastore
+	putstatic stack/g [F
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 4
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method f(IIF)I
+L0:
+.var 0 is this Lstack; from L0 to L1
+.var 1 is a I from L0 to L1
+.var 2 is b I from L0 to L1
+.var 3 is c F from L0 to L1
+	iload_1
+	iload_2
+	iload_1
+	iload_2
+	iload_1
+	iload_2
+	iconst_1
+	isub
+	imul
+	iadd
+	isub
+	imul
+	iadd
+	ireturn
+L1:
+	nop
+	
+	; set limits used by this method
+.limit locals 4
+.limit stack 7
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lstack; from L0 to L1
+	new stack
+	dup
+	invokenonvirtual stack/<init>()V
+	astore_1
+.var 2 is x [I from L0 to L1
+	iconst_4
+	newarray int
+	astore_2
+.var 3 is i I from L0 to L1
+.var 4 is p Z from L0 to L1
+	iconst_2
+	istore_3
+	aload_2
+	iconst_0
+	aload_2
+	iconst_1
+	aload_1
+	iconst_1
+	aload_1
+	iconst_2
+	iconst_3
+	getstatic stack/g [F
+	iconst_1
+	faload
+	invokevirtual stack/f(IIF)I
+	iconst_4
+	iconst_5
+	iload_3
+	iadd
+	imul
+	iadd
+	getstatic stack/g [F
+	iconst_2
+	faload
+	getstatic stack/g [F
+	iconst_0
+	faload
+	iconst_1
+	i2f
+	fadd
+	fmul
+	invokevirtual stack/f(IIF)I
+	dup
+	istore_3
+	dup_x2
+	iastore
+	iastore
+	iload_3
+	iconst_3
+	if_icmpgt L4
+	iconst_0
+	goto L5
+L4:
+	iconst_1
+L5:
+	ifeq L2
+	aload_2
+	iconst_0
+	iaload
+	aload_2
+	iconst_1
+	iaload
+	if_icmplt L8
+	iconst_0
+	goto L9
+L8:
+	iconst_1
+L9:
+	ifne L6
+	iload_3
+	iconst_2
+	if_icmpeq L12
+	iconst_0
+	goto L13
+L12:
+	iconst_1
+L13:
+	ifeq L10
+	iconst_0
+	goto L11
+L10:
+	iconst_1
+L11:
+	ifne L6
+	iconst_0
+	goto L7
+L6:
+	iconst_1
+L7:
+	ifeq L2
+	iconst_1
+	goto L3
+L2:
+	iconst_0
+L3:
+	istore 4
+L14:
+	iload_3
+	bipush 100
+	if_icmplt L19
+	iconst_0
+	goto L20
+L19:
+	iconst_1
+L20:
+	ifeq L17
+	iload 4
+	ifeq L17
+	iconst_1
+	goto L18
+L17:
+	iconst_0
+L18:
+	ifeq L15
+	iload_3
+	iconst_2
+	imul
+	istore_3
+	goto L14
+L15:
+	iload_3
+	invokestatic VC/lang/System/putIntLn(I)V
+	iload 4
+	invokestatic VC/lang/System/putBoolLn(Z)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 5
+.limit stack 11
+.end method
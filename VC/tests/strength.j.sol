@@ -0,0 +1,90 @@
+.class public strength
+.super java/lang/Object
+	
+	
+	; standard class static initializer 
+.method static <clinit>()V
+	
+	
+	; set limits used by this method
+.limit locals 0
+.limit stack 0
+	return
+.end method
+	
+	; standard constructor initializer 
+.method public <init>()V
+.limit stack 1
+.limit locals 1
+	aload_0
+	invokespecial java/lang/Object/<init>()V
+	return
+.end method
+.method public static main([Ljava/lang/String;)V
+L0:
+.var 0 is argv [Ljava/lang/String; from L0 to L1
+.var 1 is vc$ Lstrength; from L0 to L1
+	new strength
+	dup
+	invokenonvirtual strength/<init>()V
+	astore_1
+.var 2 is x I from L0 to L1
+.var 3 is y I from L0 to L1
+	invokestatic VC/lang/System.getInt()I
+	istore_2
+	iload_2
+	iconst_3
+	ishl
+	iload_2
+	iconst_1
+	ishl
+	dup
+	iconst_2
+	ishl
+	iadd
+	iadd
+	iload_2
+	iconst_4
+	ineg
+	imul
+	iadd
+	iload_2
+	iadd
+	iload_2
+	iconst_0
+	imul
+	iadd
+	istore_3
+	iload_3
+	iload_2
+	dup
+	bipush 31
+	ishr
+	bipush 30
+	iushr
+	iadd
+	iconst_2
+	ishr
+	iadd
+	iload_2
+	iadd
+	iload_2
+	iconst_2
+	ineg
+	idiv
+	iadd
+	iload_2
+	iconst_3
+	idiv
+	iadd
+	istore_3
+	iload_3
+	invokestatic VC/lang/System/putIntLn(I)V
+	return
+L1:
+	return
+	
+	; set limits used by this method
+.limit locals 4
+.limit stack 4
+.end method
@@ -0,0 +1,11 @@
+syntax/comment.vc:
+ERROR: 2(1)..2(1): : unterminated comment
+syntax/invalid.vc:
+ERROR: 2(11)..2(11): illegal parimary expression
+syntax/parallel.vc:
+ERROR: 4(13)..4(18): \q: illegal escape character
+ERROR: 4(13)..4(27): illegal parimary expression
+missing.vc:
+[# vc #]: can't read: missing.vc
+[# vc #]: 6 file(s) checked: 2 passed, 4 failed
+exit 1
@@ -0,0 +1,102 @@
+{"errors": 105, "warnings": 0, "dropped": 5, "diagnostics": [
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 5, "column": 3, "endLine": 5, "endColumn": 7},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 6, "column": 3, "endLine": 6, "endColumn": 7},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 7, "column": 3, "endLine": 7, "endColumn": 7},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 8, "column": 3, "endLine": 8, "endColumn": 7},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 9, "column": 3, "endLine": 9, "endColumn": 7},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 10, "column": 3, "endLine": 10, "endColumn": 7},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 11, "column": 3, "endLine": 11, "endColumn": 7},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 12, "column": 3, "endLine": 12, "endColumn": 7},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 13, "column": 3, "endLine": 13, "endColumn": 7},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 14, "column": 3, "endLine": 14, "endColumn": 7},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 15, "column": 3, "endLine": 15, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 16, "column": 3, "endLine": 16, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 17, "column": 3, "endLine": 17, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 18, "column": 3, "endLine": 18, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 19, "column": 3, "endLine": 19, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 20, "column": 3, "endLine": 20, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 21, "column": 3, "endLine": 21, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 22, "column": 3, "endLine": 22, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 23, "column": 3, "endLine": 23, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 24, "column": 3, "endLine": 24, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 25, "column": 3, "endLine": 25, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 26, "column": 3, "endLine": 26, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 27, "column": 3, "endLine": 27, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 28, "column": 3, "endLine": 28, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 29, "column": 3, "endLine": 29, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 30, "column": 3, "endLine": 30, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 31, "column": 3, "endLine": 31, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 32, "column": 3, "endLine": 32, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 33, "column": 3, "endLine": 33, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 34, "column": 3, "endLine": 34, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 35, "column": 3, "endLine": 35, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 36, "column": 3, "endLine": 36, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 37, "column": 3, "endLine": 37, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 38, "column": 3, "endLine": 38, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 39, "column": 3, "endLine": 39, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 40, "column": 3, "endLine": 40, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 41, "column": 3, "endLine": 41, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 42, "column": 3, "endLine": 42, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 43, "column": 3, "endLine": 43, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 44, "column": 3, "endLine": 44, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 45, "column": 3, "endLine": 45, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 46, "column": 3, "endLine": 46, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 47, "column": 3, "endLine": 47, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 48, "column": 3, "endLine": 48, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 49, "column": 3, "endLine": 49, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 50, "column": 3, "endLine": 50, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 51, "column": 3, "endLine": 51, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 52, "column": 3, "endLine": 52, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 53, "column": 3, "endLine": 53, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 54, "column": 3, "endLine": 54, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 55, "column": 3, "endLine": 55, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 56, "column": 3, "endLine": 56, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 57, "column": 3, "endLine": 57, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 58, "column": 3, "endLine": 58, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 59, "column": 3, "endLine": 59, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 60, "column": 3, "endLine": 60, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 61, "column": 3, "endLine": 61, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 62, "column": 3, "endLine": 62, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 63, "column": 3, "endLine": 63, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 64, "column": 3, "endLine": 64, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 65, "column": 3, "endLine": 65, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 66, "column": 3, "endLine": 66, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 67, "column": 3, "endLine": 67, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 68, "column": 3, "endLine": 68, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 69, "column": 3, "endLine": 69, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 70, "column": 3, "endLine": 70, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 71, "column": 3, "endLine": 71, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 72, "column": 3, "endLine": 72, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 73, "column": 3, "endLine": 73, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 74, "column": 3, "endLine": 74, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 75, "column": 3, "endLine": 75, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 76, "column": 3, "endLine": 76, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 77, "column": 3, "endLine": 77, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 78, "column": 3, "endLine": 78, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 79, "column": 3, "endLine": 79, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 80, "column": 3, "endLine": 80, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 81, "column": 3, "endLine": 81, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 82, "column": 3, "endLine": 82, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 83, "column": 3, "endLine": 83, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 84, "column": 3, "endLine": 84, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 85, "column": 3, "endLine": 85, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 86, "column": 3, "endLine": 86, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 87, "column": 3, "endLine": 87, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 88, "column": 3, "endLine": 88, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 89, "column": 3, "endLine": 89, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 90, "column": 3, "endLine": 90, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 91, "column": 3, "endLine": 91, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 92, "column": 3, "endLine": 92, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 93, "column": 3, "endLine": 93, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 94, "column": 3, "endLine": 94, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 95, "column": 3, "endLine": 95, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 96, "column": 3, "endLine": 96, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 97, "column": 3, "endLine": 97, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 98, "column": 3, "endLine": 98, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 99, "column": 3, "endLine": 99, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 100, "column": 3, "endLine": 100, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 101, "column": 3, "endLine": 101, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 102, "column": 3, "endLine": 102, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 103, "column": 3, "endLine": 103, "endColumn": 8},
+  {"severity": "error", "code": "*6", "message": "*6: incompatible type for =", "line": 104, "column": 3, "endLine": 104, "endColumn": 8}
+]}
@@ -0,0 +1,114 @@
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+Compilation was unsuccessful.
+[# vc #]: The errors and warnings written to toomany.json
+exit 0
+======= The VC compiler =======
+
+Pass 1: Lexical and syntactic Analysis
+Pass 2: Semantic Analysis
+ERROR: 5(3)..5(7): *6: incompatible type for =
+ERROR: 6(3)..6(7): *6: incompatible type for =
+ERROR: 7(3)..7(7): *6: incompatible type for =
+ERROR: 8(3)..8(7): *6: incompatible type for =
+ERROR: 9(3)..9(7): *6: incompatible type for =
+ERROR: 10(3)..10(7): *6: incompatible type for =
+ERROR: 11(3)..11(7): *6: incompatible type for =
+ERROR: 12(3)..12(7): *6: incompatible type for =
+ERROR: 13(3)..13(7): *6: incompatible type for =
+ERROR: 14(3)..14(7): *6: incompatible type for =
+ERROR: 15(3)..15(8): *6: incompatible type for =
+ERROR: 16(3)..16(8): *6: incompatible type for =
+ERROR: 17(3)..17(8): *6: incompatible type for =
+ERROR: 18(3)..18(8): *6: incompatible type for =
+ERROR: 19(3)..19(8): *6: incompatible type for =
+ERROR: 20(3)..20(8): *6: incompatible type for =
+ERROR: 21(3)..21(8): *6: incompatible type for =
+ERROR: 22(3)..22(8): *6: incompatible type for =
+ERROR: 23(3)..23(8): *6: incompatible type for =
+ERROR: 24(3)..24(8): *6: incompatible type for =
+ERROR: 25(3)..25(8): *6: incompatible type for =
+ERROR: 26(3)..26(8): *6: incompatible type for =
+ERROR: 27(3)..27(8): *6: incompatible type for =
+ERROR: 28(3)..28(8): *6: incompatible type for =
+ERROR: 29(3)..29(8): *6: incompatible type for =
+ERROR: 30(3)..30(8): *6: incompatible type for =
+ERROR: 31(3)..31(8): *6: incompatible type for =
+ERROR: 32(3)..32(8): *6: incompatible type for =
+ERROR: 33(3)..33(8): *6: incompatible type for =
+ERROR: 34(3)..34(8): *6: incompatible type for =
+ERROR: 35(3)..35(8): *6: incompatible type for =
+ERROR: 36(3)..36(8): *6: incompatible type for =
+ERROR: 37(3)..37(8): *6: incompatible type for =
+ERROR: 38(3)..38(8): *6: incompatible type for =
+ERROR: 39(3)..39(8): *6: incompatible type for =
+ERROR: 40(3)..40(8): *6: incompatible type for =
+ERROR: 41(3)..41(8): *6: incompatible type for =
+ERROR: 42(3)..42(8): *6: incompatible type for =
+ERROR: 43(3)..43(8): *6: incompatible type for =
+ERROR: 44(3)..44(8): *6: incompatible type for =
+ERROR: 45(3)..45(8): *6: incompatible type for =
+ERROR: 46(3)..46(8): *6: incompatible type for =
+ERROR: 47(3)..47(8): *6: incompatible type for =
+ERROR: 48(3)..48(8): *6: incompatible type for =
+ERROR: 49(3)..49(8): *6: incompatible type for =
+ERROR: 50(3)..50(8): *6: incompatible type for =
+ERROR: 51(3)..51(8): *6: incompatible type for =
+ERROR: 52(3)..52(8): *6: incompatible type for =
+ERROR: 53(3)..53(8): *6: incompatible type for =
+ERROR: 54(3)..54(8): *6: incompatible type for =
+ERROR: 55(3)..55(8): *6: incompatible type for =
+ERROR: 56(3)..56(8): *6: incompatible type for =
+ERROR: 57(3)..57(8): *6: incompatible type for =
+ERROR: 58(3)..58(8): *6: incompatible type for =
+ERROR: 59(3)..59(8): *6: incompatible type for =
+ERROR: 60(3)..60(8): *6: incompatible type for =
+ERROR: 61(3)..61(8): *6: incompatible type for =
+ERROR: 62(3)..62(8): *6: incompatible type for =
+ERROR: 63(3)..63(8): *6: incompatible type for =
+ERROR: 64(3)..64(8): *6: incompatible type for =
+ERROR: 65(3)..65(8): *6: incompatible type for =
+ERROR: 66(3)..66(8): *6: incompatible type for =
+ERROR: 67(3)..67(8): *6: incompatible type for =
+ERROR: 68(3)..68(8): *6: incompatible type for =
+ERROR: 69(3)..69(8): *6: incompatible type for =
+ERROR: 70(3)..70(8): *6: incompatible type for =
+ERROR: 71(3)..71(8): *6: incompatible type for =
+ERROR: 72(3)..72(8): *6: incompatible type for =
+ERROR: 73(3)..73(8): *6: incompatible type for =
+ERROR: 74(3)..74(8): *6: incompatible type for =
+ERROR: 75(3)..75(8): *6: incompatible type for =
+ERROR: 76(3)..76(8): *6: incompatible type for =
+ERROR: 77(3)..77(8): *6: incompatible type for =
+ERROR: 78(3)..78(8): *6: incompatible type for =
+ERROR: 79(3)..79(8): *6: incompatible type for =
+ERROR: 80(3)..80(8): *6: incompatible type for =
+ERROR: 81(3)..81(8): *6: incompatible type for =
+ERROR: 82(3)..82(8): *6: incompatible type for =
+ERROR: 83(3)..83(8): *6: incompatible type for =
+ERROR: 84(3)..84(8): *6: incompatible type for =
+ERROR: 85(3)..85(8): *6: incompatible type for =
+ERROR: 86(3)..86(8): *6: incompatible type for =
+ERROR: 87(3)..87(8): *6: incompatible type for =
+ERROR: 88(3)..88(8): *6: incompatible type for =
+ERROR: 89(3)..89(8): *6: incompatible type for =
+ERROR: 90(3)..90(8): *6: incompatible type for =
+ERROR: 91(3)..91(8): *6: incompatible type for =
+ERROR: 92(3)..92(8): *6: incompatible type for =
+ERROR: 93(3)..93(8): *6: incompatible type for =
+ERROR: 94(3)..94(8): *6: incompatible type for =
+ERROR: 95(3)..95(8): *6: incompatible type for =
+ERROR: 96(3)..96(8): *6: incompatible type for =
+ERROR: 97(3)..97(8): *6: incompatible type for =
+ERROR: 98(3)..98(8): *6: incompatible type for =
+ERROR: 99(3)..99(8): *6: incompatible type for =
+ERROR: 100(3)..100(8): *6: incompatible type for =
+ERROR: 101(3)..101(8): *6: incompatible type for =
+ERROR: 102(3)..102(8): *6: incompatible type for =
+ERROR: 103(3)..103(8): *6: incompatible type for =
+ERROR: 104(3)..104(8): *6: incompatible type for =
+Compilation was unsuccessful.
+[# vc #]: 5 more diagnostic(s) not shown
+exit 0
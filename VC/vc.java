@@ -6,15 +6,24 @@
 
 package VC;
 
+import java.util.Arrays;
+
 import VC.Scanner.Scanner;
 import VC.Scanner.SourceFile;
 import VC.Parser.Parser;
+import VC.Recogniser.SyntaxValidator;
 import VC.ASTs.AST;
 import VC.TreeDrawer.Drawer;
+import VC.TreeDrawer.Exporter;
 import VC.TreePrinter.Printer;
 import VC.UnParser.UnParser;
 import VC.Checker.Checker;
 import VC.CodeGen.Emitter;
+import VC.IR.IRPrinter;
+import VC.Optimiser.DeadCodeEliminator;
+import VC.Optimiser.RangeAnalyser;
+import VC.Serialiser.ASTReader;
+import VC.Serialiser.ASTWriter;
 
 public class vc {
 
@@ -22,22 +31,40 @@ public class vc {
     private static ErrorReporter reporter;
     private static Parser parser;
     private static Drawer drawer; 
+    private static Exporter exporter; 
     private static Printer printer;
     private static UnParser unparser;
     private static Checker checker; 
     private static Emitter emitter; 
+    private static IRPrinter irPrinter;
+    private static DeadCodeEliminator eliminator;
+    private static RangeAnalyser rangeAnalyser;
+    private static ASTWriter astWriter;
+    private static ASTReader astReader;
 
     private static int drawingAST = 0;
     private static boolean printingAST = false;
     private static boolean unparsingAST = false;
+    private static boolean exportingDOT = false;
+    private static boolean usingIR = false;
+    private static boolean optimising = false;
+    private static boolean packingBooleans = false;
+    private static boolean savingAST = false;
+    private static boolean readingAST = false;
+    private static boolean syntaxOnly = false;
     private static String inputFilename; 
     private static String astFilename = ""; 
     private static String unparsingFilename = ""; 
+    private static String exportingFilename = null; 
+    private static String irFilename = ""; 
+    private static String jsonFilename = null; 
+    private static String savingFilename = ""; 
 
     private static AST theAST;
  
     private static void cmdLineOptions() {
       System.out.println("\nUsage: java VC.vc [-options] filename");
+      System.out.println("   or: java VC.vc -syntax-only filename-or-directory...");
       System.out.println();
       System.out.println("where options include:");
       System.out.println("	-d [1234]           display the AST (without SourcePosition)");
@@ -49,6 +76,21 @@ public class vc {
       System.out.println("	                    (or filename + \"t\" if <file> is unspecified)"); 
       System.out.println("	-u [file]  	    unparse the (non-annotated) AST into <file>");
       System.out.println("	                    (or filename + \"u\" if <file> is unspecified)"); 
+      System.out.println("	-svg [file]         draw the (non-annotated) AST as SVG into <file>");
+      System.out.println("	                    (or filename + \"svg\" if <file> is unspecified)"); 
+      System.out.println("	-dot [file]         write the (non-annotated) AST as a Graphviz graph into <file>");
+      System.out.println("	                    (or filename + \"dot\" if <file> is unspecified)"); 
+      System.out.println("	-O                  optimise the checked AST before code generation");
+      System.out.println("	-packbool           pack boolean arrays into bitsets of longs");
+      System.out.println("	-ir [file]          generate code through the SSA form and print it into <file>");
+      System.out.println("	                    (or filename + \"ir\" if <file> is unspecified)"); 
+      System.out.println("	-json [file]        write the errors and warnings as JSON into <file>");
+      System.out.println("	                    (or filename + \"json\" if <file> is unspecified)"); 
+      System.out.println("	-s [file]           save the checked AST in binary form into <file>");
+      System.out.println("	                    (or filename + \"s\" if <file> is unspecified)"); 
+      System.out.println("	-syntax-only        only check the syntax of all the files given, in parallel,");
+      System.out.println("	                    and exit with 1 if any fails");
+      System.out.println("	-r                  read the AST from filename, saved by -s, instead of parsing");
       System.exit(1);
     }
 
@@ -56,12 +98,22 @@ public class vc {
         int i = 0;
         String arg;
 
-        System.out.println("======= The VC compiler =======\n");
+        // -syntax-only prints only the diagnostics and the summary
+        if (!Arrays.asList(args).contains("-syntax-only"))
+          System.out.println("======= The VC compiler =======\n");
 
         while (i < args.length && args[i].startsWith("-")) {
           arg = args[i++];
           
-          if (arg.startsWith("-d") && !arg.equals("-d")) {
+          if (arg.startsWith("-svg") || arg.startsWith("-dot")) {
+            exportingDOT = arg.startsWith("-dot");
+            exportingFilename = "";
+            if (arg.length() > 4) 
+                exportingFilename = arg.substring(4);
+            else if (i < args.length && !args[i].startsWith("-"))
+                exportingFilename = args[i++];
+            // the default is inputFilename + "svg" or "dot"
+          } else if (arg.startsWith("-d") && !arg.equals("-d")) {
             int n = 0;
             try {
               n = Integer.parseInt(arg.substring(2));
@@ -101,6 +153,35 @@ public class vc {
             else if (i < args.length && !args[i].startsWith("-"))
                 astFilename = args[i++];
             // the default is inputFilename + "p"
+          } else if (arg.equals("-O")) {
+            optimising = true;
+          } else if (arg.equals("-packbool")) {
+            packingBooleans = true;
+          } else if (arg.startsWith("-json")) {
+            jsonFilename = "";
+            if (! arg.equals("-json")) 
+                jsonFilename = arg.substring(5);
+            else if (i < args.length && !args[i].startsWith("-"))
+                jsonFilename = args[i++];
+            // the default is inputFilename + "json"
+          } else if (arg.startsWith("-ir")) {
+            usingIR = true;
+            if (! arg.equals("-ir")) 
+                irFilename = arg.substring(3);
+            else if (i < args.length && !args[i].startsWith("-"))
+                irFilename = args[i++];
+            // the default is inputFilename + "ir"
+          } else if (arg.equals("-syntax-only")) {
+            syntaxOnly = true;
+          } else if (arg.equals("-r")) {
+            readingAST = true;
+          } else if (arg.startsWith("-s")) {
+            savingAST = true;
+            if (! arg.equals("-s")) 
+                savingFilename = arg.substring(2);
+            else if (i < args.length && !args[i].startsWith("-"))
+                savingFilename = args[i++];
+            // the default is inputFilename + "s"
           } else if (arg.startsWith("-u")) {
             unparsingAST = true;
             if (! arg.equals("-u")) 
@@ -119,52 +200,158 @@ public class vc {
         } else
            inputFilename = args[i];
 
-        SourceFile source = new SourceFile(inputFilename);
+        if (syntaxOnly) {
+          SyntaxValidator validator = new SyntaxValidator(
+            Arrays.copyOfRange(args, i, args.length));
+          System.exit(validator.validate() == 0 ? 0 : 1);
+        }
 
         reporter = new ErrorReporter();
+        if (jsonFilename != null)
+          reporter.enableJSON();
+        // The diagnostics still pending when a pass gives up with
+        // System.exit (e.g., when the object file cannot be written)
+        // are written out all the same.
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+          public void run() {
+            reporter.close();
+          }
+        });
 
-        System.out.println("Pass 1: Lexical and syntactic Analysis");
-        scanner  = new Scanner(source, reporter);
-        parser   = new Parser(scanner, reporter);
-
-	theAST = parser.parseProgram();
-
-        if (reporter.numErrors == 0) {
-          // We unparse and print the AST created by the parser. Both 
-          // are useful for debugging the construction of the AST 
-          // (Assignment 3).
-          // We can also unparse and print the annotated AST from the 
-          // checker but this is not as useful.
-          if (unparsingAST) {
-            if (unparsingFilename.equals(""))
-              unparsingFilename = inputFilename + "u";
-   	    unparser = new UnParser(unparsingFilename);
-            unparser.unparse(theAST); 
-            System.out.println("[# vc #]: The unparsed VC program printed to " + unparsingFilename);
+        // An AST saved by -s has been parsed, and checked too if it is
+        // annotated. The checker is created first all the same, since
+        // the annotations refer to the types in StdEnvironment.
+        boolean checked = false;
+        if (readingAST) {
+          checker  = new Checker(reporter);
+          if (packingBooleans && !usingIR)
+            checker.enablePackedBooleans();
+          astReader = new ASTReader(inputFilename);
+          theAST = astReader.read();
+          checked = astReader.isChecked();
+          System.out.println("[# vc #]: The AST read from " + inputFilename);
+        } else {
+          SourceFile source = new SourceFile(inputFilename);
+          if (source.getError() != null) {
+            System.out.println("[# vc #]: " + source.getError());
+            System.exit(1);
+          }
+
+          System.out.println("Pass 1: Lexical and syntactic Analysis");
+          scanner  = new Scanner(source, reporter);
+          parser   = new Parser(scanner, reporter);
+
+          theAST = parser.parseProgram();
+          reporter.flush();
+        }
+
+        // The parser recovers from syntax errors, so that the program
+        // is checked even if it has some. Nothing else is done with it.
+        boolean syntaxErrors = reporter.numErrors > 0;
+
+        if (theAST != null) {
+          if (!syntaxErrors) {
+            // We unparse and print the AST created by the parser. Both 
+            // are useful for debugging the construction of the AST 
+            // (Assignment 3).
+            // We can also unparse and print the annotated AST from the 
+            // checker but this is not as useful.
+            if (unparsingAST) {
+              if (unparsingFilename.equals(""))
+                unparsingFilename = inputFilename + "u";
+              unparser = new UnParser(unparsingFilename);
+              unparser.unparse(theAST); 
+              System.out.println("[# vc #]: The unparsed VC program printed to " + unparsingFilename);
+            }
+            if (printingAST) {
+              if (astFilename.equals(""))
+                astFilename = inputFilename + "p";
+              printer = new Printer(astFilename);
+              printer.print(theAST); 
+              System.out.println("[# vc #]: The linearised AST printed to " + astFilename);
+            }
+            if (exportingFilename != null) {
+              if (exportingFilename.equals(""))
+                exportingFilename = inputFilename + (exportingDOT ? "dot" : "svg");
+              exporter = new Exporter(exportingFilename);
+              if (exportingDOT)
+                exporter.enableDOT();
+              exporter.export(theAST); 
+              System.out.println("[# vc #]: The AST drawn into " + exportingFilename);
+            }
+            if (1 <= drawingAST && drawingAST <= 2) {
+              drawer   = new Drawer();
+              if (drawingAST == 2)
+                drawer.enableDebugging(); // show SourcePosition
+              drawer.draw(theAST); // draw the AST
+            }
           }
-          if (printingAST) {
-            if (astFilename.equals(""))
-              astFilename = inputFilename + "p";
-   	    printer = new Printer(astFilename);
-            printer.print(theAST); 
-            System.out.println("[# vc #]: The linearised AST printed to " + astFilename);
+
+          if (!checked) {
+            System.out.println("Pass 2: Semantic Analysis");
+            if (checker == null) {
+              checker  = new Checker(reporter);
+              if (packingBooleans && !usingIR)
+                checker.enablePackedBooleans();
+            }
+            checker.check(theAST);
+            reporter.flush();
+          } else if (packingBooleans && !usingIR) {
+            // the AST may have been checked without -packbool
+            checker.checkParallelFors(theAST);
+            reporter.flush();
           }
-          if (1 <= drawingAST && drawingAST <= 2) {
- 	    drawer   = new Drawer();
-            if (drawingAST == 2)
-              drawer.enableDebugging(); // show SourcePosition
-            drawer.draw(theAST); // draw the AST
+
+          if (reporter.numErrors == 0 && savingAST) {
+            if (savingFilename.equals(""))
+              savingFilename = inputFilename + "s";
+            astWriter = new ASTWriter(savingFilename);
+            astWriter.write(theAST);
+            System.out.println("[# vc #]: The checked AST saved to " + savingFilename);
           }
 
-          System.out.println("Pass 2: Semantic Analysis");
-          checker  = new Checker(reporter);
-          checker.check(theAST);
+          if (reporter.numErrors == 0 && optimising) {
+            System.out.println("Pass 2a: Optimisation");
+            eliminator = new DeadCodeEliminator();
+            eliminator.eliminate(theAST);
+            System.out.println("[# vc #]: Dead code elimination removed " 
+              + eliminator.getStmtsRemoved() + " statement(s), " 
+              + eliminator.getBranchesFolded() + " constant branch(es) and " 
+              + eliminator.getVarsRemoved() + " variable(s)");
+            rangeAnalyser = new RangeAnalyser(reporter);
+            rangeAnalyser.analyse(theAST);
+            reporter.flush();
+            System.out.println("[# vc #]: Range analysis proved " 
+              + rangeAnalyser.getInBounds() + " of " 
+              + rangeAnalyser.getAccesses() + " array access(es) in loops in bounds and " 
+              + rangeAnalyser.getOutOfBounds() + " out of bounds");
+          }
 
           if (reporter.numErrors == 0) {
             System.out.println("Pass 3: Code Generation");
             System.out.println();
+            if (usingIR) {
+              if (irFilename.equals(""))
+                irFilename = inputFilename + "ir";
+              irPrinter = new IRPrinter(irFilename);
+              irPrinter.print(theAST);
+              System.out.println("[# vc #]: The SSA form printed to " + irFilename);
+            }
             emitter = new Emitter(inputFilename, reporter);
+            if (usingIR)
+              emitter.enableIR();
+            if (packingBooleans && usingIR)
+              System.out.println("[# vc #]: -packbool is ignored with -ir");
+            else if (packingBooleans)
+              emitter.enablePackedBooleans();
+            if (optimising) {
+              emitter.enableGlobalPromotion();
+              emitter.enableStrengthReduction();
+              emitter.enableValueNumbering();
+              emitter.enableLoopRotation();
+            }
             emitter.gen(theAST);
+            reporter.flush();
             if (reporter.numErrors == 0) 
               System.out.println ("Compilation was successful.");
             else
@@ -172,7 +359,7 @@ public class vc {
           } else
             System.out.println ("Compilation was unsuccessful.");
 
-          if (drawingAST >= 3) {
+          if (drawingAST >= 3 && !syntaxErrors) {
  	    drawer   = new Drawer();
             if (drawingAST == 4)
               drawer.enableDebugging(); // show SourcePosition
@@ -181,6 +368,14 @@ public class vc {
        }
        else 
          System.out.println ("Compilation was unsuccessful.");
+
+       reporter.close();
+       if (jsonFilename != null) {
+         if (jsonFilename.equals(""))
+           jsonFilename = inputFilename + "json";
+         reporter.writeJSON(jsonFilename);
+         System.out.println("[# vc #]: The errors and warnings written to " + jsonFilename);
+       }
     }
 
 }